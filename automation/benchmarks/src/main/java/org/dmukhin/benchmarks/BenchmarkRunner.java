@@ -0,0 +1,53 @@
+package org.dmukhin.benchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options and, unless a
+ * result format is given, exports the results as JSON, so runs of different releases can be
+ * compared for regressions. The result file defaults to 'jmh-result.json' and can be changed with
+ * the JMH '-rff' option.
+ */
+public class BenchmarkRunner {
+
+  private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  /**
+   * Private constructor to prevent instantiation of the runner.
+   */
+  private BenchmarkRunner() {
+    // default constructor
+  }
+
+  /**
+   * Runs the benchmarks selected by the command line options.
+   *
+   * @param args The JMH command line options.
+   * @throws CommandLineOptionException If the command line options are invalid.
+   * @throws IOException                If the help cannot be printed.
+   * @throws RunnerException            If the benchmarks fail to run.
+   */
+  public static void main(String[] args)
+      throws CommandLineOptionException, IOException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+    if (!commandLineOptions.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+      if (!commandLineOptions.getResult().hasValue()) {
+        options.result(DEFAULT_RESULT_FILE);
+      }
+    }
+    new Runner(options.build()).run();
+  }
+}
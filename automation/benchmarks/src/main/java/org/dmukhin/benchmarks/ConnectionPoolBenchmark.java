@@ -0,0 +1,110 @@
+package org.dmukhin.benchmarks;
+
+import static io.restassured.RestAssured.given;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import java.util.concurrent.TimeUnit;
+import org.dmukhin.general.config.environment.models.CompressionSettingsDto;
+import org.dmukhin.general.config.environment.models.HttpClientSettingsDto;
+import org.dmukhin.microservices.general.compression.ContentDecoder;
+import org.dmukhin.microservices.general.http.PooledHttpClientFactory;
+import org.dmukhin.microservices.placeholder.stub.PlaceholderStubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the requests per second of REST Assured against the embedded placeholder stub with the
+ * pooled keep-alive client of {@link PooledHttpClientFactory} and with the default configuration of
+ * REST Assured, which creates a client and opens a connection per request. The requests bypass the
+ * placeholder service, so only the connection handling differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ConnectionPoolBenchmark {
+
+  private static final String USER_PATH = "/users/1";
+
+  @Param({"pooled", "per-request"})
+  private String connections;
+
+  private PlaceholderStubServer stubServer;
+  private RestAssuredConfig config;
+
+  /**
+   * Starts the placeholder stub and creates the REST Assured configuration of the benchmarked
+   * connection handling.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    stubServer = new PlaceholderStubServer().start();
+    config = "pooled".equals(connections)
+        ? RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(new PooledHttpClientFactory(new HttpClientSettingsDto(),
+                    new ContentDecoder(new CompressionSettingsDto()))))
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders())
+        : RestAssuredConfig.config();
+  }
+
+  /**
+   * Stops the placeholder stub.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    stubServer.stop();
+  }
+
+  /**
+   * Measures user requests from a single thread. The body is read, so a pooled connection is
+   * released for the next request.
+   *
+   * @return The response body.
+   */
+  @Benchmark
+  public byte[] userGetById() {
+    return request();
+  }
+
+  /**
+   * Measures user requests from eight threads sharing the configuration.
+   *
+   * @return The response body.
+   */
+  @Benchmark
+  @Threads(8)
+  public byte[] userGetByIdConcurrent() {
+    return request();
+  }
+
+  /**
+   * Sends a user request to the stub and reads the response body.
+   *
+   * @return The response body.
+   */
+  private byte[] request() {
+    return given()
+        .config(config)
+        .baseUri(stubServer.getBaseUrl())
+        .port(stubServer.getPort())
+        .get(USER_PATH)
+        .asByteArray();
+  }
+}
@@ -0,0 +1,185 @@
+package org.dmukhin.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.DtoConverter;
+import org.dmukhin.general.utils.FileUtil;
+import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks JSON serialization and deserialization of the placeholder DTOs through DtoConverter,
+ * including the BaseDto any-setter path taken for properties unknown to the DTO, and of large
+ * comment lists in the text and binary data formats.
+ * <p>
+ * The default mode measures the steady state. The warm-up of a short-lived JVM is measured in
+ * single-shot mode without warm-up iterations, e.g. '-bm ss -tu us -wi 0 -i 10 -f 5': the first
+ * call of each fork is cold. The setup reads the user and comment DTOs, so their deserializers are
+ * built before the first call, while the first serialization also builds the serializer.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoConverterBenchmark {
+
+  private String userJson;
+  private String commentJson;
+  private UserDto user;
+  private CommentDto comment;
+
+  /**
+   * Loads the fixtures and prepares the JSON documents and DTOs used by the benchmarks.
+   */
+  @Setup
+  public void setUp() {
+    userJson = FileUtil.loadFileAsString("/fixtures/user.json");
+    commentJson = FileUtil.loadFileAsString("/fixtures/comment.json");
+    user = DtoConverter.stringToDto(UserDto.class, userJson);
+    comment = DtoConverter.stringToDto(CommentDto.class, commentJson);
+  }
+
+  /**
+   * Measures serialization of a UserDto with nested address and company.
+   *
+   * @return The JSON string.
+   */
+  @Benchmark
+  public String serializeUser() {
+    return DtoConverter.dtoToJsonString(user);
+  }
+
+  /**
+   * Measures serialization of a CommentDto.
+   *
+   * @return The JSON string.
+   */
+  @Benchmark
+  public String serializeComment() {
+    return DtoConverter.dtoToJsonString(comment);
+  }
+
+  /**
+   * Measures deserialization of a UserDto with nested address and company.
+   *
+   * @return The deserialized user.
+   */
+  @Benchmark
+  public UserDto deserializeUser() {
+    return DtoConverter.stringToDto(UserDto.class, userJson);
+  }
+
+  /**
+   * Measures deserialization of a CommentDto.
+   *
+   * @return The deserialized comment.
+   */
+  @Benchmark
+  public CommentDto deserializeComment() {
+    return DtoConverter.stringToDto(CommentDto.class, commentJson);
+  }
+
+  /**
+   * Measures deserialization of a UserDto whose unknown properties are collected by the BaseDto
+   * any-setter.
+   *
+   * @param state The user JSON with unknown properties.
+   * @return The deserialized user.
+   */
+  @Benchmark
+  public UserDto deserializeUserWithUnknownProperties(UnknownPropertiesState state) {
+    return DtoConverter.stringToDto(UserDto.class, state.userJson);
+  }
+
+  /**
+   * Measures serialization of a large comment list in the data format of the state.
+   *
+   * @param state The comment list and its data format.
+   * @return The encoded body.
+   */
+  @Benchmark
+  public byte[] serializeCommentList(CommentListState state) {
+    return DtoConverter.dtoToBytes(state.comments, state.format);
+  }
+
+  /**
+   * Measures deserialization of a large comment list in the data format of the state.
+   *
+   * @param state The encoded comment list and its data format.
+   * @return The deserialized comments.
+   */
+  @Benchmark
+  public CommentDto[] deserializeCommentList(CommentListState state) {
+    return DtoConverter.bytesToDto(CommentDto[].class, state.body, state.format);
+  }
+
+  /**
+   * User JSON document extended with a configurable number of properties unknown to UserDto.
+   */
+  @State(Scope.Benchmark)
+  public static class UnknownPropertiesState {
+
+    @Param({"1", "10", "50"})
+    private int unknownProperties;
+
+    private String userJson;
+
+    /**
+     * Appends the unknown properties to the user fixture.
+     */
+    @Setup
+    public void setUp() {
+      String fixture = FileUtil.loadFileAsString("/fixtures/user.json");
+      StringBuilder json = new StringBuilder(fixture.substring(0, fixture.lastIndexOf('}')));
+      for (int i = 0; i < unknownProperties; i++) {
+        json.append(",\"unknownProperty").append(i).append("\":\"value").append(i).append('"');
+      }
+      userJson = json.append('}').toString();
+    }
+  }
+
+  /**
+   * List of comments built from the comment fixture, encoded in a configurable data format.
+   */
+  @State(Scope.Benchmark)
+  public static class CommentListState {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private DataFormat format;
+
+    @Param({"500"})
+    private int size;
+
+    private CommentDto[] comments;
+    private byte[] body;
+
+    /**
+     * Builds the comment list and encodes it in the data format.
+     */
+    @Setup
+    public void setUp() {
+      String fixture = FileUtil.loadFileAsString("/fixtures/comment.json");
+      comments = LongStream.rangeClosed(1, size)
+          .mapToObj(id -> DtoConverter.stringToDto(CommentDto.class, fixture)
+              .setId(id)
+              .setPostId(id / 5 + 1))
+          .toArray(CommentDto[]::new);
+      body = DtoConverter.dtoToBytes(comments, format);
+    }
+  }
+}
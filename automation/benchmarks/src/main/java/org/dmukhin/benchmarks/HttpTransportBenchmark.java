@@ -0,0 +1,107 @@
+package org.dmukhin.benchmarks;
+
+import static org.dmukhin.microservices.placeholder.PlaceholderApi.placeholderApi;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.dmukhin.general.config.environment.EnvironmentProvider;
+import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.general.config.environment.models.HttpClientSettingsDto;
+import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.dmukhin.microservices.placeholder.stub.PlaceholderStubServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the HTTP transports of the placeholder service against the embedded placeholder stub:
+ * the Apache client of REST Assured and the java.net.http client. The stub speaks HTTP/1.1, so the
+ * comparison shows the per-call overhead of the transports; HTTP/2 multiplexing needs a service
+ * supporting it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HttpTransportBenchmark {
+
+  private static final String API_KEY = "placeholderService";
+
+  @Param({"apache", "java-http"})
+  private String transport;
+
+  private PlaceholderStubServer stubServer;
+  private PrintStream systemOut;
+
+  /**
+   * Starts the placeholder stub and creates the placeholder service with the benchmarked transport.
+   * The settings override applies to all threads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    stubServer = new PlaceholderStubServer().start();
+
+    systemOut = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    EnvironmentProvider.overrideSettings(API_KEY, new EnvironmentConfigDto()
+        .setApiUrl(stubServer.getBaseUrl())
+        .setApiPort(stubServer.getPort())
+        .setHttpClient(new HttpClientSettingsDto().setTransport(transport)));
+    placeholderApi().user();
+  }
+
+  /**
+   * Stops the placeholder stub and restores the standard output.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.setOut(systemOut);
+    stubServer.stop();
+  }
+
+  /**
+   * Measures a user lookup by ID, dominated by the per-call overhead.
+   *
+   * @return The retrieved user.
+   */
+  @Benchmark
+  public UserDto userGetById() {
+    return placeholderApi().user().getById("1");
+  }
+
+  /**
+   * Measures user lookups by ID from eight threads sharing the transport.
+   *
+   * @return The retrieved user.
+   */
+  @Benchmark
+  @Threads(8)
+  public UserDto userGetByIdConcurrent() {
+    return placeholderApi().user().getById("1");
+  }
+
+  /**
+   * Measures the retrieval of all comments, dominated by the transfer of the larger body.
+   *
+   * @return The retrieved comments.
+   */
+  @Benchmark
+  public List<CommentDto> commentGetAll() {
+    return placeholderApi().comment().getAll();
+  }
+}
@@ -0,0 +1,89 @@
+package org.dmukhin.benchmarks;
+
+import static org.dmukhin.microservices.placeholder.PlaceholderApi.placeholderApi;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.dmukhin.general.config.environment.EnvironmentProvider;
+import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.microservices.placeholder.endpoints.UserEndpoint;
+import org.dmukhin.microservices.placeholder.stub.PlaceholderStubServer;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the client-side overhead of calls through PlaceholderApi. The placeholder service is
+ * served by the embedded placeholder stub on the loopback interface, so the measured time is dominated
+ * by the framework: API and endpoint lookup, request specification merging, filters, the HTTP
+ * client and deserialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class PlaceholderApiBenchmark {
+
+  private static final String API_KEY = "placeholderService";
+
+  private PlaceholderStubServer stubServer;
+  private PrintStream systemOut;
+
+  /**
+   * Starts the placeholder stub and points the placeholder service at it. The REST Assured logging
+   * filters write to the standard output captured at creation, so it is muted before the API is
+   * created. The settings override applies to all threads.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    stubServer = new PlaceholderStubServer().start();
+
+    systemOut = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    EnvironmentProvider.overrideSettings(API_KEY, new EnvironmentConfigDto()
+        .setApiUrl(stubServer.getBaseUrl())
+        .setApiPort(stubServer.getPort()));
+    placeholderApi().user();
+  }
+
+  /**
+   * Stops the placeholder stub and restores the standard output.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.setOut(systemOut);
+    stubServer.stop();
+  }
+
+  /**
+   * Measures the lookup of the shared API and endpoint instances.
+   *
+   * @return The user endpoint.
+   */
+  @Benchmark
+  public UserEndpoint placeholderApiUserAccess() {
+    return placeholderApi().user();
+  }
+
+  /**
+   * Measures a complete user lookup by ID against the placeholder stub.
+   *
+   * @return The retrieved user.
+   */
+  @Benchmark
+  public UserDto placeholderApiUserGetById() {
+    return placeholderApi().user().getById("1");
+  }
+}
@@ -0,0 +1,85 @@
+package org.dmukhin.benchmarks;
+
+import static io.restassured.RestAssured.given;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.log.ErrorLoggingFilter;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.qameta.allure.restassured.AllureRestAssured;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the construction of REST Assured request specifications: building the default
+ * specification of a service, and preparing a request from it either through a per-call
+ * RequestSpecBuilder or by merging the shared specification directly, as AbstractWebEndpoint does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestSpecificationBenchmark {
+
+  private RequestSpecification defaultSpecification;
+
+  /**
+   * Builds the shared default specification.
+   */
+  @Setup
+  public void setUp() {
+    defaultSpecification = buildDefaultSpecification();
+  }
+
+  /**
+   * Measures building a default specification with base URI and the logging filters.
+   *
+   * @return The built specification.
+   */
+  @Benchmark
+  public RequestSpecification buildDefaultSpecification() {
+    return new RequestSpecBuilder()
+        .setContentType(ContentType.JSON)
+        .setBaseUri("http://localhost")
+        .setPort(8080)
+        .addFilter(new ResponseLoggingFilter())
+        .addFilter(new RequestLoggingFilter())
+        .addFilter(new AllureRestAssured())
+        .addFilter(new ErrorLoggingFilter())
+        .build();
+  }
+
+  /**
+   * Measures preparing a request through a new RequestSpecBuilder per call.
+   *
+   * @return The request specification.
+   */
+  @Benchmark
+  public RequestSpecification requestWithSpecBuilder() {
+    RequestSpecBuilder specBuilder = new RequestSpecBuilder();
+    specBuilder.addRequestSpecification(defaultSpecification);
+    return given().spec(specBuilder.build());
+  }
+
+  /**
+   * Measures preparing a request by merging the shared specification directly.
+   *
+   * @return The request specification.
+   */
+  @Benchmark
+  public RequestSpecification requestWithSharedSpec() {
+    return given().spec(defaultSpecification);
+  }
+}
@@ -0,0 +1,67 @@
+package org.dmukhin.benchmarks;
+
+import static org.dmukhin.webapi.testng.verifications.placeholder.PlaceholderAsserts.placeholderAsserts;
+import java.util.concurrent.TimeUnit;
+import org.dmukhin.general.objectmapper.DtoConverter;
+import org.dmukhin.general.utils.FileUtil;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.dmukhin.webapi.testng.verifications.placeholder.UserAsserts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the recursive DTO comparison of the BaseAsserts hierarchy, as used by
+ * {@code isResponseEqualTo}, and the resource loading of FileUtil used for test data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VerificationBenchmark {
+
+  private static final String USER_FIXTURE = "/fixtures/user.json";
+
+  private UserDto actualUser;
+  private UserDto expectedUser;
+
+  /**
+   * Prepares two equal users, deserialized independently.
+   */
+  @Setup
+  public void setUp() {
+    String userJson = FileUtil.loadFileAsString(USER_FIXTURE);
+    actualUser = DtoConverter.stringToDto(UserDto.class, userJson);
+    expectedUser = DtoConverter.stringToDto(UserDto.class, userJson);
+  }
+
+  /**
+   * Measures the recursive comparison of two equal users ignoring the ID.
+   *
+   * @return The assertion object.
+   */
+  @Benchmark
+  public UserAsserts verifyDtoEquality() {
+    return placeholderAsserts().userAsserts(actualUser)
+        .isResponseEqualTo(expectedUser, "id");
+  }
+
+  /**
+   * Measures loading a JSON fixture from the classpath as a string.
+   *
+   * @return The content of the fixture.
+   */
+  @Benchmark
+  public String loadFileAsString() {
+    return FileUtil.loadFileAsString(USER_FIXTURE);
+  }
+}
@@ -1,7 +1,11 @@
 package org.dmukhin.general.config.environment;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.qameta.allure.Step;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
@@ -10,60 +14,168 @@ import org.apache.logging.log4j.Logger;
 import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
 import org.dmukhin.general.config.maven.MavenProperties;
 import org.dmukhin.general.objectmapper.DtoConverter;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
 
 /**
  * The EnvironmentProvider class is a utility class used to load and provide configuration settings
  * for different environments (such as development, staging, production) in a web service context.
- * It follows a singleton pattern using ThreadLocal for thread safety.
+ * The environment file is read once per process into an immutable snapshot shared by all threads;
+ * {@link #reload()} and {@link #overrideSettings(String, EnvironmentConfigDto)} replace the
+ * snapshot explicitly. The snapshot copies the settings once when it is created and shares its
+ * copies with all callers of {@link #getSettings(String)}, so they must be treated as read-only;
+ * {@link #copySettings(String)} provides a copy to modify. Services check {@link #isCurrent()} to
+ * be recreated with the settings of a replaced snapshot.
  */
 public class EnvironmentProvider {
 
   private static final Logger LOGGER = LogManager.getLogger();
   private static final String ENVIRONMENT_TEMPLATE = "/environments/%s/%s";
   private static final String ENVIRONMENTS_FILE = "environment_config.json";
-  private static final ThreadLocal<EnvironmentProvider> LOADER = new ThreadLocal<>();
-  private Map<String, EnvironmentConfigDto> serviceSetting;
+  private static volatile EnvironmentProvider loader;
+  private final Map<String, EnvironmentConfigDto> serviceSetting;
 
   /**
    * Private constructor to prevent external instantiation.
+   *
+   * @param serviceSetting The loaded configuration settings of the services, which are copied.
    */
-  private EnvironmentProvider() {
-    // default private constructor
+  private EnvironmentProvider(Map<String, EnvironmentConfigDto> serviceSetting) {
+    Map<String, EnvironmentConfigDto> copies = new HashMap<>();
+    serviceSetting.forEach((settingName, settings) -> copies.put(settingName, copyOf(settings)));
+    this.serviceSetting = Map.copyOf(copies);
   }
 
   /**
-   * Provides a singleton instance of EnvironmentProvider. Initializes the instance if not already
-   * created and loads the environment properties.
+   * Provides a singleton instance of EnvironmentProvider. Initializes the instance and loads the
+   * environment properties on first use; all threads share the same instance afterward.
    *
-   * @return EnvironmentProvider instance for the current thread.
+   * @return EnvironmentProvider instance shared by the process.
    */
   public static EnvironmentProvider provideEnvironment() {
-    if (LOADER.get() == null) {
-      EnvironmentProvider loader = new EnvironmentProvider();
-      loader.loadEnvironmentProperties();
-      LOADER.set(loader);
+    EnvironmentProvider provider = loader;
+    if (provider == null) {
+      synchronized (EnvironmentProvider.class) {
+        provider = loader;
+        if (provider == null) {
+          provider = new EnvironmentProvider(loadEnvironmentProperties());
+          loader = provider;
+        }
+      }
+    }
+    return provider;
+  }
+
+  /**
+   * Reloads the environment properties, e.g. after the execution environment has been changed.
+   * Instances obtained before keep the previous snapshot; services built from it are no longer
+   * {@link #isCurrent() current} and have to be recreated to pick up the new settings.
+   *
+   * @return The new EnvironmentProvider instance shared by the process.
+   */
+  @Step("Reload the environment configuration")
+  public static EnvironmentProvider reload() {
+    EnvironmentProvider provider = new EnvironmentProvider(loadEnvironmentProperties());
+    synchronized (EnvironmentProvider.class) {
+      loader = provider;
     }
-    return LOADER.get();
+    return provider;
+  }
+
+  /**
+   * Overrides the configuration settings of a service for all threads, e.g. to point it at a local
+   * stub. The shared snapshot is replaced by a copy with the overridden settings, like
+   * {@link #reload()} replaces it; services built from the previous snapshot have to be recreated.
+   *
+   * @param settingName The name of the setting to override.
+   * @param settings    The configuration settings to use instead of the loaded ones, which are
+   *                    copied.
+   * @return The new EnvironmentProvider instance shared by the process.
+   */
+  @Step("Override the configuration settings for [{settingName}]")
+  public static synchronized EnvironmentProvider overrideSettings(String settingName,
+      EnvironmentConfigDto settings) {
+    Map<String, EnvironmentConfigDto> serviceSetting =
+        new HashMap<>(provideEnvironment().serviceSetting);
+    serviceSetting.put(settingName, settings);
+    EnvironmentProvider provider = new EnvironmentProvider(serviceSetting);
+    loader = provider;
+    return provider;
+  }
+
+  /**
+   * Checks whether this instance is still the snapshot shared by the process, i.e. it was not
+   * replaced by {@link #reload()} or {@link #overrideSettings(String, EnvironmentConfigDto)}.
+   *
+   * @return true if this is the current snapshot, false otherwise.
+   */
+  public boolean isCurrent() {
+    return loader == this;
+  }
+
+  /**
+   * Does nothing: the snapshot is shared by all threads and is not bound to the calling thread, so
+   * there is nothing to remove. Kept for callers of the thread-local provider it replaced.
+   *
+   * @deprecated The shared snapshot needs no cleanup; use {@link #reload()} to replace it.
+   */
+  @Deprecated
+  public void unload() {
+    // the shared snapshot is kept for the other threads
   }
 
   /**
-   * Retrieves the configuration settings for a given environment name.
+   * Retrieves the configuration settings for a given environment name. The settings are the
+   * snapshot's own copy shared by all callers and must not be modified; use
+   * {@link #copySettings(String)} to obtain settings to modify.
    *
    * @param settingName The name of the setting to retrieve.
    * @return EnvironmentConfigDto containing the configuration settings for the specified
-   * environment.
+   * environment, or null if there are none.
    */
   @Step("Retrieves the configuration settings for [{settingName}] environment name")
   public EnvironmentConfigDto getSettings(String settingName) {
     return serviceSetting.get(settingName);
   }
 
+  /**
+   * Retrieves a copy of the configuration settings for a given environment name, e.g. to modify
+   * and pass them to {@link #overrideSettings(String, EnvironmentConfigDto)}. Modifying the copy
+   * does not change the snapshot.
+   *
+   * @param settingName The name of the setting to copy.
+   * @return A copy of the configuration settings for the specified environment, or null if there
+   * are none.
+   */
+  public EnvironmentConfigDto copySettings(String settingName) {
+    EnvironmentConfigDto settings = serviceSetting.get(settingName);
+    return settings == null ? null : copyOf(settings);
+  }
+
+  /**
+   * Creates a deep copy of configuration settings through their JSON form, so nested settings are
+   * copied as well.
+   *
+   * @param settings The configuration settings to copy.
+   * @return The copy of the settings.
+   * @throws UncheckedIOException If the settings cannot be converted.
+   */
+  private static EnvironmentConfigDto copyOf(EnvironmentConfigDto settings) {
+    try {
+      return ObjectMapperRegistry.readerFor(EnvironmentConfigDto.class).readValue(
+          ObjectMapperRegistry.writer(JsonInclude.Include.NON_NULL).writeValueAsBytes(settings));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to copy the configuration settings", e);
+    }
+  }
+
   /**
    * Loads environment properties from a JSON file, converting it into a map of EnvironmentConfigDto
    * objects. Determines the current environment and logs this information. Uses DtoConverter for
    * JSON to DTO conversion. The JSON file should match the structure of EnvironmentConfigDto
+   *
+   * @return The loaded configuration settings of the services.
    */
-  private void loadEnvironmentProperties() {
+  private static Map<String, EnvironmentConfigDto> loadEnvironmentProperties() {
     String environment = MavenProperties.getCurrentEnvironment();
     if (StringUtils.isEmpty(environment)) {
       environment = "dev";
@@ -74,18 +186,9 @@ public class EnvironmentProvider {
     final String environmentFile = String.format(ENVIRONMENT_TEMPLATE, environment,
         ENVIRONMENTS_FILE);
     LOGGER.debug("Read environments file from resources: [{}]", environmentFile);
-    serviceSetting = DtoConverter.jsonFileToDto(environmentFile,
+    Map<String, EnvironmentConfigDto> serviceSetting = DtoConverter.jsonFileToDto(environmentFile,
         new TypeReference<Map<String, EnvironmentConfigDto>>() {
         });
-    Objects.requireNonNull(serviceSetting);
-  }
-
-  /**
-   * Removes the thread-local instance of the class loader.
-   * This method is typically called when the class loader is no longer needed, to clean up resources
-   * and prevent memory leaks.
-   */
-  public void unload() {
-    LOADER.remove();
+    return Objects.requireNonNull(serviceSetting);
   }
 }
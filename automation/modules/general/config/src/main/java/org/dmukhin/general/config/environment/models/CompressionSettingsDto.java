@@ -0,0 +1,99 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the response compression negotiated with a service. When enabled, the
+ * configured content encodings are advertised in the 'Accept-Encoding' header in order of
+ * preference, and compressed responses are inflated while they are read. Compression is enabled
+ * with gzip and deflate unless configured otherwise.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class CompressionSettingsDto {
+
+  @JsonProperty(value = "enabled", access = JsonProperty.Access.READ_WRITE)
+  private Boolean enabled = true;
+
+  @JsonProperty(value = "encodings", access = JsonProperty.Access.READ_WRITE)
+  private List<String> encodings = List.of("gzip", "deflate");
+
+  /**
+   * Retrieves whether compressed responses are requested from the service.
+   *
+   * @return true if compression is enabled, false otherwise.
+   */
+  public Boolean getEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether compressed responses are requested from the service.
+   *
+   * @param enabled Whether compression is enabled.
+   * @return The current instance of CompressionSettingsDto for method chaining.
+   */
+  public CompressionSettingsDto setEnabled(Boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Retrieves the accepted content encodings in order of preference.
+   *
+   * @return The names of the encodings, e.g. 'gzip'.
+   */
+  public List<String> getEncodings() {
+    return encodings;
+  }
+
+  /**
+   * Sets the accepted content encodings in order of preference.
+   *
+   * @param encodings The names of the encodings to set.
+   * @return The current instance of CompressionSettingsDto for method chaining.
+   */
+  public CompressionSettingsDto setEncodings(List<String> encodings) {
+    this.encodings = encodings;
+    return this;
+  }
+
+  /**
+   * Compares these compression settings to another object for equality.
+   *
+   * @param o The object to compare this CompressionSettingsDto against.
+   * @return true if the given object represents equivalent compression settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    CompressionSettingsDto that = (CompressionSettingsDto) o;
+
+    return new EqualsBuilder().append(enabled, that.enabled)
+        .append(encodings, that.encodings)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the compression settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(enabled)
+        .append(encodings)
+        .toHashCode();
+  }
+}
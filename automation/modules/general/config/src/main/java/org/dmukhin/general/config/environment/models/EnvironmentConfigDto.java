@@ -2,6 +2,8 @@ package org.dmukhin.general.config.environment.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -25,6 +27,30 @@ public class EnvironmentConfigDto {
   @JsonProperty(value = "apiBasePath", access = JsonProperty.Access.READ_WRITE)
   private String apiBasePath;
 
+  @JsonProperty(value = "dataFormat", access = JsonProperty.Access.READ_WRITE)
+  private String dataFormat;
+
+  @JsonProperty(value = "httpClient", access = JsonProperty.Access.READ_WRITE)
+  private HttpClientSettingsDto httpClient;
+
+  @JsonProperty(value = "responseCache", access = JsonProperty.Access.READ_WRITE)
+  private ResponseCacheSettingsDto responseCache;
+
+  @JsonProperty(value = "hedging", access = JsonProperty.Access.READ_WRITE)
+  private HedgingSettingsDto hedging;
+
+  @JsonProperty(value = "retry", access = JsonProperty.Access.READ_WRITE)
+  private RetrySettingsDto retry;
+
+  @JsonProperty(value = "rateLimit", access = JsonProperty.Access.READ_WRITE)
+  private RateLimitSettingsDto rateLimit;
+
+  @JsonProperty(value = "compression", access = JsonProperty.Access.READ_WRITE)
+  private CompressionSettingsDto compression;
+
+  @JsonProperty(value = "latencyBudgets", access = JsonProperty.Access.READ_WRITE)
+  private List<LatencyBudgetDto> latencyBudgets;
+
   /**
    * Retrieves the API URL.
    *
@@ -85,6 +111,185 @@ public class EnvironmentConfigDto {
     return this;
   }
 
+  /**
+   * Retrieves the data format of request and response bodies, e.g. 'json', 'smile' or 'cbor'.
+   * Returns 'json' when none is configured.
+   *
+   * @return The data format setting.
+   */
+  public String getDataFormat() {
+    return dataFormat == null ? "json" : dataFormat;
+  }
+
+  /**
+   * Sets the data format of request and response bodies.
+   *
+   * @param dataFormat The data format setting to set, e.g. 'json', 'smile' or 'cbor'.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setDataFormat(String dataFormat) {
+    this.dataFormat = dataFormat;
+    return this;
+  }
+
+  /**
+   * Retrieves the HTTP client settings. Returns default settings when none are configured.
+   *
+   * @return The HTTP client settings.
+   */
+  public HttpClientSettingsDto getHttpClient() {
+    return httpClient == null ? new HttpClientSettingsDto() : httpClient;
+  }
+
+  /**
+   * Sets the HTTP client settings.
+   *
+   * @param httpClient The HTTP client settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setHttpClient(HttpClientSettingsDto httpClient) {
+    this.httpClient = httpClient;
+    return this;
+  }
+
+  /**
+   * Retrieves the GET response cache settings. Returns default settings, with the cache disabled,
+   * when none are configured.
+   *
+   * @return The response cache settings.
+   */
+  public ResponseCacheSettingsDto getResponseCache() {
+    return responseCache == null ? new ResponseCacheSettingsDto() : responseCache;
+  }
+
+  /**
+   * Sets the GET response cache settings.
+   *
+   * @param responseCache The response cache settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setResponseCache(ResponseCacheSettingsDto responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
+  /**
+   * Retrieves the hedging settings of GET requests. Returns default settings, with hedging
+   * disabled, when none are configured.
+   *
+   * @return The hedging settings.
+   */
+  public HedgingSettingsDto getHedging() {
+    return hedging == null ? new HedgingSettingsDto() : hedging;
+  }
+
+  /**
+   * Sets the hedging settings of GET requests.
+   *
+   * @param hedging The hedging settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setHedging(HedgingSettingsDto hedging) {
+    this.hedging = hedging;
+    return this;
+  }
+
+  /**
+   * Retrieves the retry settings of idempotent requests. Returns default settings, with retries
+   * disabled, when none are configured.
+   *
+   * @return The retry settings.
+   */
+  public RetrySettingsDto getRetry() {
+    return retry == null ? new RetrySettingsDto() : retry;
+  }
+
+  /**
+   * Sets the retry settings of idempotent requests.
+   *
+   * @param retry The retry settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setRetry(RetrySettingsDto retry) {
+    this.retry = retry;
+    return this;
+  }
+
+  /**
+   * Retrieves the client-side rate limit settings. Returns default settings, with the rate limit
+   * disabled, when none are configured.
+   *
+   * @return The rate limit settings.
+   */
+  public RateLimitSettingsDto getRateLimit() {
+    return rateLimit == null ? new RateLimitSettingsDto() : rateLimit;
+  }
+
+  /**
+   * Sets the client-side rate limit settings.
+   *
+   * @param rateLimit The rate limit settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setRateLimit(RateLimitSettingsDto rateLimit) {
+    this.rateLimit = rateLimit;
+    return this;
+  }
+
+  /**
+   * Retrieves the response compression settings. Returns default settings, with gzip and deflate
+   * enabled, when none are configured.
+   *
+   * @return The compression settings.
+   */
+  public CompressionSettingsDto getCompression() {
+    return compression == null ? new CompressionSettingsDto() : compression;
+  }
+
+  /**
+   * Sets the response compression settings.
+   *
+   * @param compression The compression settings to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setCompression(CompressionSettingsDto compression) {
+    this.compression = compression;
+    return this;
+  }
+
+  /**
+   * Retrieves the response-time budgets of the endpoints of the service. Returns an empty list when
+   * none are configured.
+   *
+   * @return The latency budgets.
+   */
+  public List<LatencyBudgetDto> getLatencyBudgets() {
+    return latencyBudgets == null ? List.of() : latencyBudgets;
+  }
+
+  /**
+   * Sets the response-time budgets of the endpoints of the service.
+   *
+   * @param latencyBudgets The latency budgets to set.
+   * @return The current instance of EnvironmentConfigDto for method chaining.
+   */
+  public EnvironmentConfigDto setLatencyBudgets(List<LatencyBudgetDto> latencyBudgets) {
+    this.latencyBudgets = latencyBudgets;
+    return this;
+  }
+
+  /**
+   * Finds the response-time budget declared for an endpoint of the service.
+   *
+   * @param method The HTTP method of the endpoint.
+   * @param path   The path template of the endpoint.
+   * @return The latency budget, or an empty Optional if none is declared for the endpoint.
+   */
+  public Optional<LatencyBudgetDto> getLatencyBudget(String method, String path) {
+    return getLatencyBudgets().stream()
+        .filter(budget -> budget.isFor(method, path))
+        .findFirst();
+  }
 
   public String getWebUrl() {
     return webUrl;
@@ -119,6 +324,14 @@ public class EnvironmentConfigDto {
         .append(webUrl, that.webUrl)
         .append(apiPort, that.apiPort)
         .append(apiBasePath, that.apiBasePath)
+        .append(dataFormat, that.dataFormat)
+        .append(httpClient, that.httpClient)
+        .append(responseCache, that.responseCache)
+        .append(hedging, that.hedging)
+        .append(retry, that.retry)
+        .append(rateLimit, that.rateLimit)
+        .append(compression, that.compression)
+        .append(latencyBudgets, that.latencyBudgets)
         .isEquals();
   }
 
@@ -136,6 +349,14 @@ public class EnvironmentConfigDto {
         .append(webUrl)
         .append(apiPort)
         .append(apiBasePath)
+        .append(dataFormat)
+        .append(httpClient)
+        .append(responseCache)
+        .append(hedging)
+        .append(retry)
+        .append(rateLimit)
+        .append(compression)
+        .append(latencyBudgets)
         .toHashCode();
   }
 }
@@ -0,0 +1,173 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the hedging settings of a service. When enabled, a GET request which has
+ * not completed after the configured percentile of the recent GET latencies is sent a second time,
+ * the first response is used and the other request is cancelled. Hedging starts once enough
+ * latencies are recorded. Unset values fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class HedgingSettingsDto {
+
+  @JsonProperty(value = "enabled", access = JsonProperty.Access.READ_WRITE)
+  private Boolean enabled = false;
+
+  @JsonProperty(value = "percentile", access = JsonProperty.Access.READ_WRITE)
+  private Double percentile = 95.0;
+
+  @JsonProperty(value = "minDelayMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long minDelayMillis = 10L;
+
+  @JsonProperty(value = "minSamples", access = JsonProperty.Access.READ_WRITE)
+  private Integer minSamples = 20;
+
+  @JsonProperty(value = "windowSize", access = JsonProperty.Access.READ_WRITE)
+  private Integer windowSize = 200;
+
+  /**
+   * Retrieves whether GET requests of the service are hedged.
+   *
+   * @return true if hedging is enabled, false otherwise.
+   */
+  public Boolean getEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether GET requests of the service are hedged.
+   *
+   * @param enabled Whether hedging is enabled.
+   * @return The current instance of HedgingSettingsDto for method chaining.
+   */
+  public HedgingSettingsDto setEnabled(Boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Retrieves the percentile of the recent latencies after which the second request is sent.
+   *
+   * @return The percentile, between 0 and 100.
+   */
+  public Double getPercentile() {
+    return percentile;
+  }
+
+  /**
+   * Sets the percentile of the recent latencies after which the second request is sent.
+   *
+   * @param percentile The percentile to set, between 0 and 100.
+   * @return The current instance of HedgingSettingsDto for method chaining.
+   */
+  public HedgingSettingsDto setPercentile(Double percentile) {
+    this.percentile = percentile;
+    return this;
+  }
+
+  /**
+   * Retrieves the lower bound of the hedging delay, so fast services are not hedged on jitter.
+   *
+   * @return The minimum delay in milliseconds.
+   */
+  public Long getMinDelayMillis() {
+    return minDelayMillis;
+  }
+
+  /**
+   * Sets the lower bound of the hedging delay.
+   *
+   * @param minDelayMillis The minimum delay in milliseconds to set.
+   * @return The current instance of HedgingSettingsDto for method chaining.
+   */
+  public HedgingSettingsDto setMinDelayMillis(Long minDelayMillis) {
+    this.minDelayMillis = minDelayMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of recorded latencies required before requests are hedged.
+   *
+   * @return The minimum number of samples.
+   */
+  public Integer getMinSamples() {
+    return minSamples;
+  }
+
+  /**
+   * Sets the number of recorded latencies required before requests are hedged.
+   *
+   * @param minSamples The minimum number of samples to set.
+   * @return The current instance of HedgingSettingsDto for method chaining.
+   */
+  public HedgingSettingsDto setMinSamples(Integer minSamples) {
+    this.minSamples = minSamples;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of recent latencies the percentile is computed from.
+   *
+   * @return The size of the latency window.
+   */
+  public Integer getWindowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Sets the number of recent latencies the percentile is computed from.
+   *
+   * @param windowSize The size of the latency window to set.
+   * @return The current instance of HedgingSettingsDto for method chaining.
+   */
+  public HedgingSettingsDto setWindowSize(Integer windowSize) {
+    this.windowSize = windowSize;
+    return this;
+  }
+
+  /**
+   * Compares these hedging settings to another object for equality.
+   *
+   * @param o The object to compare this HedgingSettingsDto against.
+   * @return true if the given object represents equivalent hedging settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    HedgingSettingsDto that = (HedgingSettingsDto) o;
+
+    return new EqualsBuilder().append(enabled, that.enabled)
+        .append(percentile, that.percentile)
+        .append(minDelayMillis, that.minDelayMillis)
+        .append(minSamples, that.minSamples)
+        .append(windowSize, that.windowSize)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the hedging settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(enabled)
+        .append(percentile)
+        .append(minDelayMillis)
+        .append(minSamples)
+        .append(windowSize)
+        .toHashCode();
+  }
+}
@@ -0,0 +1,277 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the HTTP client settings of a service. This class is used to configure
+ * the transport shared by all endpoints of the service and its pooled connection manager: pool
+ * sizes, keep-alive, connection lifetime, connect/socket timeouts and TLS session caching. Unset
+ * values fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class HttpClientSettingsDto {
+
+  @JsonProperty(value = "transport", access = JsonProperty.Access.READ_WRITE)
+  private String transport = "apache";
+
+  @JsonProperty(value = "maxConnectionsPerRoute", access = JsonProperty.Access.READ_WRITE)
+  private Integer maxConnectionsPerRoute = 20;
+
+  @JsonProperty(value = "maxConnectionsTotal", access = JsonProperty.Access.READ_WRITE)
+  private Integer maxConnectionsTotal = 100;
+
+  @JsonProperty(value = "keepAliveMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long keepAliveMillis = 30_000L;
+
+  @JsonProperty(value = "connectionTtlMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long connectionTtlMillis = 300_000L;
+
+  @JsonProperty(value = "connectTimeoutMillis", access = JsonProperty.Access.READ_WRITE)
+  private Integer connectTimeoutMillis = 10_000;
+
+  @JsonProperty(value = "socketTimeoutMillis", access = JsonProperty.Access.READ_WRITE)
+  private Integer socketTimeoutMillis = 30_000;
+
+  @JsonProperty(value = "tlsSessionCacheSize", access = JsonProperty.Access.READ_WRITE)
+  private Integer tlsSessionCacheSize = 1_000;
+
+  @JsonProperty(value = "tlsSessionTimeoutSeconds", access = JsonProperty.Access.READ_WRITE)
+  private Integer tlsSessionTimeoutSeconds = 3_600;
+
+  /**
+   * Retrieves the HTTP transport of the service: 'apache' for the HTTP/1.1 client of REST Assured,
+   * 'java-http' for the java.net.http client with HTTP/2.
+   *
+   * @return The name of the transport.
+   */
+  public String getTransport() {
+    return transport;
+  }
+
+  /**
+   * Sets the HTTP transport of the service.
+   *
+   * @param transport The name of the transport to set, 'apache' or 'java-http'.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setTransport(String transport) {
+    this.transport = transport;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of pooled connections per route (host and port).
+   *
+   * @return The maximum number of connections per route.
+   */
+  public Integer getMaxConnectionsPerRoute() {
+    return maxConnectionsPerRoute;
+  }
+
+  /**
+   * Sets the maximum number of pooled connections per route (host and port).
+   *
+   * @param maxConnectionsPerRoute The maximum number of connections per route to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+    this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of pooled connections in total.
+   *
+   * @return The maximum number of connections in total.
+   */
+  public Integer getMaxConnectionsTotal() {
+    return maxConnectionsTotal;
+  }
+
+  /**
+   * Sets the maximum number of pooled connections in total.
+   *
+   * @param maxConnectionsTotal The maximum number of connections in total to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setMaxConnectionsTotal(Integer maxConnectionsTotal) {
+    this.maxConnectionsTotal = maxConnectionsTotal;
+    return this;
+  }
+
+  /**
+   * Retrieves the time an idle connection is kept alive when the server does not specify it.
+   *
+   * @return The keep-alive time in milliseconds.
+   */
+  public Long getKeepAliveMillis() {
+    return keepAliveMillis;
+  }
+
+  /**
+   * Sets the time an idle connection is kept alive when the server does not specify it.
+   *
+   * @param keepAliveMillis The keep-alive time in milliseconds to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setKeepAliveMillis(Long keepAliveMillis) {
+    this.keepAliveMillis = keepAliveMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum lifetime of a pooled connection, however often it is reused. A busy
+   * connection is never idle long enough for the keep-alive to close it, so the lifetime bounds how
+   * long a service keeps being reached at an address after its DNS record or load balancer changed.
+   *
+   * @return The connection lifetime in milliseconds, 0 or less for an unlimited lifetime.
+   */
+  public Long getConnectionTtlMillis() {
+    return connectionTtlMillis;
+  }
+
+  /**
+   * Sets the maximum lifetime of a pooled connection.
+   *
+   * @param connectionTtlMillis The connection lifetime in milliseconds to set, 0 or less for an
+   *                            unlimited lifetime.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setConnectionTtlMillis(Long connectionTtlMillis) {
+    this.connectionTtlMillis = connectionTtlMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the connect timeout.
+   *
+   * @return The connect timeout in milliseconds.
+   */
+  public Integer getConnectTimeoutMillis() {
+    return connectTimeoutMillis;
+  }
+
+  /**
+   * Sets the connect timeout.
+   *
+   * @param connectTimeoutMillis The connect timeout in milliseconds to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setConnectTimeoutMillis(Integer connectTimeoutMillis) {
+    this.connectTimeoutMillis = connectTimeoutMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the socket (read) timeout.
+   *
+   * @return The socket timeout in milliseconds.
+   */
+  public Integer getSocketTimeoutMillis() {
+    return socketTimeoutMillis;
+  }
+
+  /**
+   * Sets the socket (read) timeout.
+   *
+   * @param socketTimeoutMillis The socket timeout in milliseconds to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setSocketTimeoutMillis(Integer socketTimeoutMillis) {
+    this.socketTimeoutMillis = socketTimeoutMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of TLS sessions cached for resumption.
+   *
+   * @return The TLS session cache size.
+   */
+  public Integer getTlsSessionCacheSize() {
+    return tlsSessionCacheSize;
+  }
+
+  /**
+   * Sets the number of TLS sessions cached for resumption.
+   *
+   * @param tlsSessionCacheSize The TLS session cache size to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+    this.tlsSessionCacheSize = tlsSessionCacheSize;
+    return this;
+  }
+
+  /**
+   * Retrieves the time a cached TLS session may be resumed.
+   *
+   * @return The TLS session timeout in seconds.
+   */
+  public Integer getTlsSessionTimeoutSeconds() {
+    return tlsSessionTimeoutSeconds;
+  }
+
+  /**
+   * Sets the time a cached TLS session may be resumed.
+   *
+   * @param tlsSessionTimeoutSeconds The TLS session timeout in seconds to set.
+   * @return The current instance of HttpClientSettingsDto for method chaining.
+   */
+  public HttpClientSettingsDto setTlsSessionTimeoutSeconds(Integer tlsSessionTimeoutSeconds) {
+    this.tlsSessionTimeoutSeconds = tlsSessionTimeoutSeconds;
+    return this;
+  }
+
+  /**
+   * Compares these HTTP client settings to another object for equality.
+   *
+   * @param o The object to compare this HttpClientSettingsDto against.
+   * @return true if the given object represents equivalent HTTP client settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    HttpClientSettingsDto that = (HttpClientSettingsDto) o;
+
+    return new EqualsBuilder().append(transport, that.transport)
+        .append(maxConnectionsPerRoute, that.maxConnectionsPerRoute)
+        .append(maxConnectionsTotal, that.maxConnectionsTotal)
+        .append(keepAliveMillis, that.keepAliveMillis)
+        .append(connectionTtlMillis, that.connectionTtlMillis)
+        .append(connectTimeoutMillis, that.connectTimeoutMillis)
+        .append(socketTimeoutMillis, that.socketTimeoutMillis)
+        .append(tlsSessionCacheSize, that.tlsSessionCacheSize)
+        .append(tlsSessionTimeoutSeconds, that.tlsSessionTimeoutSeconds)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the HTTP client settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(transport)
+        .append(maxConnectionsPerRoute)
+        .append(maxConnectionsTotal)
+        .append(keepAliveMillis)
+        .append(connectionTtlMillis)
+        .append(connectTimeoutMillis)
+        .append(socketTimeoutMillis)
+        .append(tlsSessionCacheSize)
+        .append(tlsSessionTimeoutSeconds)
+        .toHashCode();
+  }
+}
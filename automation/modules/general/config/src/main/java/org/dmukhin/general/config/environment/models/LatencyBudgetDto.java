@@ -0,0 +1,212 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the response-time budget of one endpoint of a service. The endpoint is
+ * identified by its HTTP method and path template, e.g. 'GET' and '/users/{userID}'. A single
+ * request must answer within the maximum, the 95th percentile of the requests of a test within the
+ * p95 budget, and the 95th percentile may exceed the stored baseline by at most the tolerance.
+ * The 95th percentile is only verified over at least the minimum number of requests. Unset values
+ * fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class LatencyBudgetDto {
+
+  @JsonProperty(value = "method", access = JsonProperty.Access.READ_WRITE)
+  private String method;
+
+  @JsonProperty(value = "path", access = JsonProperty.Access.READ_WRITE)
+  private String path;
+
+  @JsonProperty(value = "maxMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long maxMillis = 1_000L;
+
+  @JsonProperty(value = "p95Millis", access = JsonProperty.Access.READ_WRITE)
+  private Long p95Millis = 500L;
+
+  @JsonProperty(value = "baselineTolerance", access = JsonProperty.Access.READ_WRITE)
+  private Double baselineTolerance = 0.5;
+
+  @JsonProperty(value = "minSamples", access = JsonProperty.Access.READ_WRITE)
+  private Integer minSamples = 20;
+
+  /**
+   * Retrieves the HTTP method of the endpoint.
+   *
+   * @return The HTTP method, e.g. 'GET'.
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Sets the HTTP method of the endpoint.
+   *
+   * @param method The HTTP method to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setMethod(String method) {
+    this.method = method;
+    return this;
+  }
+
+  /**
+   * Retrieves the path template of the endpoint.
+   *
+   * @return The path template, e.g. '/users/{userID}'.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Sets the path template of the endpoint.
+   *
+   * @param path The path template to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setPath(String path) {
+    this.path = path;
+    return this;
+  }
+
+  /**
+   * Retrieves the time a single request to the endpoint may take.
+   *
+   * @return The single-request budget in milliseconds.
+   */
+  public Long getMaxMillis() {
+    return maxMillis;
+  }
+
+  /**
+   * Sets the time a single request to the endpoint may take.
+   *
+   * @param maxMillis The single-request budget in milliseconds to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setMaxMillis(Long maxMillis) {
+    this.maxMillis = maxMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the budget of the 95th percentile of the requests to the endpoint.
+   *
+   * @return The p95 budget in milliseconds.
+   */
+  public Long getP95Millis() {
+    return p95Millis;
+  }
+
+  /**
+   * Sets the budget of the 95th percentile of the requests to the endpoint.
+   *
+   * @param p95Millis The p95 budget in milliseconds to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setP95Millis(Long p95Millis) {
+    this.p95Millis = p95Millis;
+    return this;
+  }
+
+  /**
+   * Retrieves how much the 95th percentile may exceed the baseline, e.g. 0.5 for 50% slower.
+   *
+   * @return The tolerated relative slowdown.
+   */
+  public Double getBaselineTolerance() {
+    return baselineTolerance;
+  }
+
+  /**
+   * Sets how much the 95th percentile may exceed the baseline.
+   *
+   * @param baselineTolerance The tolerated relative slowdown to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setBaselineTolerance(Double baselineTolerance) {
+    this.baselineTolerance = baselineTolerance;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of requests to the endpoint required to verify their 95th percentile.
+   *
+   * @return The minimum number of requests.
+   */
+  public Integer getMinSamples() {
+    return minSamples;
+  }
+
+  /**
+   * Sets the number of requests to the endpoint required to verify their 95th percentile.
+   *
+   * @param minSamples The minimum number of requests to set.
+   * @return The current instance of LatencyBudgetDto for method chaining.
+   */
+  public LatencyBudgetDto setMinSamples(Integer minSamples) {
+    this.minSamples = minSamples;
+    return this;
+  }
+
+  /**
+   * Checks whether this budget belongs to the given endpoint.
+   *
+   * @param method The HTTP method of the endpoint.
+   * @param path   The path template of the endpoint.
+   * @return true if the budget is declared for the endpoint, false otherwise.
+   */
+  public boolean isFor(String method, String path) {
+    return this.method != null && this.method.equalsIgnoreCase(method)
+        && this.path != null && this.path.equals(path);
+  }
+
+  /**
+   * Compares this latency budget to another object for equality.
+   *
+   * @param o The object to compare this LatencyBudgetDto against.
+   * @return true if the given object represents an equivalent budget, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    LatencyBudgetDto that = (LatencyBudgetDto) o;
+
+    return new EqualsBuilder().append(method, that.method)
+        .append(path, that.path)
+        .append(maxMillis, that.maxMillis)
+        .append(p95Millis, that.p95Millis)
+        .append(baselineTolerance, that.baselineTolerance)
+        .append(minSamples, that.minSamples)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the latency budget.
+   *
+   * @return a hash code value for this budget.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(method)
+        .append(path)
+        .append(maxMillis)
+        .append(p95Millis)
+        .append(baselineTolerance)
+        .append(minSamples)
+        .toHashCode();
+  }
+}
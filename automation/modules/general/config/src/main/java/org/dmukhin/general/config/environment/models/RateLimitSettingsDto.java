@@ -0,0 +1,148 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the client-side rate limit of a service. When enabled, every request
+ * takes a token from a bucket refilled at the configured rate, which holds at most the burst, and
+ * at most the configured number of requests are in flight; 0 means no concurrency cap. Unset values
+ * fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class RateLimitSettingsDto {
+
+  @JsonProperty(value = "enabled", access = JsonProperty.Access.READ_WRITE)
+  private Boolean enabled = false;
+
+  @JsonProperty(value = "permitsPerSecond", access = JsonProperty.Access.READ_WRITE)
+  private Double permitsPerSecond = 50.0;
+
+  @JsonProperty(value = "burst", access = JsonProperty.Access.READ_WRITE)
+  private Integer burst = 10;
+
+  @JsonProperty(value = "maxConcurrent", access = JsonProperty.Access.READ_WRITE)
+  private Integer maxConcurrent = 0;
+
+  /**
+   * Retrieves whether requests to the service are rate limited.
+   *
+   * @return true if the rate limit is enabled, false otherwise.
+   */
+  public Boolean getEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether requests to the service are rate limited.
+   *
+   * @param enabled Whether the rate limit is enabled.
+   * @return The current instance of RateLimitSettingsDto for method chaining.
+   */
+  public RateLimitSettingsDto setEnabled(Boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Retrieves the sustained number of requests per second.
+   *
+   * @return The refill rate of the token bucket.
+   */
+  public Double getPermitsPerSecond() {
+    return permitsPerSecond;
+  }
+
+  /**
+   * Sets the sustained number of requests per second.
+   *
+   * @param permitsPerSecond The refill rate of the token bucket to set.
+   * @return The current instance of RateLimitSettingsDto for method chaining.
+   */
+  public RateLimitSettingsDto setPermitsPerSecond(Double permitsPerSecond) {
+    this.permitsPerSecond = permitsPerSecond;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of requests which may be sent at once after an idle period.
+   *
+   * @return The capacity of the token bucket.
+   */
+  public Integer getBurst() {
+    return burst;
+  }
+
+  /**
+   * Sets the number of requests which may be sent at once after an idle period.
+   *
+   * @param burst The capacity of the token bucket to set.
+   * @return The current instance of RateLimitSettingsDto for method chaining.
+   */
+  public RateLimitSettingsDto setBurst(Integer burst) {
+    this.burst = burst;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of requests in flight.
+   *
+   * @return The concurrency cap, 0 for none.
+   */
+  public Integer getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  /**
+   * Sets the maximum number of requests in flight.
+   *
+   * @param maxConcurrent The concurrency cap to set, 0 for none.
+   * @return The current instance of RateLimitSettingsDto for method chaining.
+   */
+  public RateLimitSettingsDto setMaxConcurrent(Integer maxConcurrent) {
+    this.maxConcurrent = maxConcurrent;
+    return this;
+  }
+
+  /**
+   * Compares these rate limit settings to another object for equality.
+   *
+   * @param o The object to compare this RateLimitSettingsDto against.
+   * @return true if the given object represents equivalent rate limit settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    RateLimitSettingsDto that = (RateLimitSettingsDto) o;
+
+    return new EqualsBuilder().append(enabled, that.enabled)
+        .append(permitsPerSecond, that.permitsPerSecond)
+        .append(burst, that.burst)
+        .append(maxConcurrent, that.maxConcurrent)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the rate limit settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(enabled)
+        .append(permitsPerSecond)
+        .append(burst)
+        .append(maxConcurrent)
+        .toHashCode();
+  }
+}
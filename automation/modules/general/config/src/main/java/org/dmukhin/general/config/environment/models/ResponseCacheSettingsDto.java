@@ -0,0 +1,174 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the GET response cache settings of a service. The cache is disabled
+ * unless enabled explicitly; entries are fresh for the configured time, then revalidated with their
+ * ETag, and the least recently used entries are evicted above the entry or size limit. Unset values
+ * fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class ResponseCacheSettingsDto {
+
+  @JsonProperty(value = "enabled", access = JsonProperty.Access.READ_WRITE)
+  private Boolean enabled = false;
+
+  @JsonProperty(value = "ttlMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long ttlMillis = 60_000L;
+
+  @JsonProperty(value = "maxEntries", access = JsonProperty.Access.READ_WRITE)
+  private Integer maxEntries = 1_000;
+
+  @JsonProperty(value = "maxBytes", access = JsonProperty.Access.READ_WRITE)
+  private Long maxBytes = 16L * 1024 * 1024;
+
+  @JsonProperty(value = "varyHeaders", access = JsonProperty.Access.READ_WRITE)
+  private List<String> varyHeaders = List.of("Accept", "Authorization");
+
+  /**
+   * Retrieves whether GET responses of the service are cached.
+   *
+   * @return true if the cache is enabled, false otherwise.
+   */
+  public Boolean getEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether GET responses of the service are cached.
+   *
+   * @param enabled Whether the cache is enabled.
+   * @return The current instance of ResponseCacheSettingsDto for method chaining.
+   */
+  public ResponseCacheSettingsDto setEnabled(Boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Retrieves the time a cached response is used without asking the service.
+   *
+   * @return The time to live in milliseconds.
+   */
+  public Long getTtlMillis() {
+    return ttlMillis;
+  }
+
+  /**
+   * Sets the time a cached response is used without asking the service.
+   *
+   * @param ttlMillis The time to live in milliseconds to set.
+   * @return The current instance of ResponseCacheSettingsDto for method chaining.
+   */
+  public ResponseCacheSettingsDto setTtlMillis(Long ttlMillis) {
+    this.ttlMillis = ttlMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of cached responses.
+   *
+   * @return The maximum number of entries.
+   */
+  public Integer getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Sets the maximum number of cached responses.
+   *
+   * @param maxEntries The maximum number of entries to set.
+   * @return The current instance of ResponseCacheSettingsDto for method chaining.
+   */
+  public ResponseCacheSettingsDto setMaxEntries(Integer maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum total size of the cached response bodies.
+   *
+   * @return The maximum size in bytes.
+   */
+  public Long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Sets the maximum total size of the cached response bodies.
+   *
+   * @param maxBytes The maximum size in bytes to set.
+   * @return The current instance of ResponseCacheSettingsDto for method chaining.
+   */
+  public ResponseCacheSettingsDto setMaxBytes(Long maxBytes) {
+    this.maxBytes = maxBytes;
+    return this;
+  }
+
+  /**
+   * Retrieves the request headers which are part of the cache key.
+   *
+   * @return The names of the headers.
+   */
+  public List<String> getVaryHeaders() {
+    return varyHeaders;
+  }
+
+  /**
+   * Sets the request headers which are part of the cache key.
+   *
+   * @param varyHeaders The names of the headers to set.
+   * @return The current instance of ResponseCacheSettingsDto for method chaining.
+   */
+  public ResponseCacheSettingsDto setVaryHeaders(List<String> varyHeaders) {
+    this.varyHeaders = varyHeaders;
+    return this;
+  }
+
+  /**
+   * Compares these response cache settings to another object for equality.
+   *
+   * @param o The object to compare this ResponseCacheSettingsDto against.
+   * @return true if the given object represents equivalent cache settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    ResponseCacheSettingsDto that = (ResponseCacheSettingsDto) o;
+
+    return new EqualsBuilder().append(enabled, that.enabled)
+        .append(ttlMillis, that.ttlMillis)
+        .append(maxEntries, that.maxEntries)
+        .append(maxBytes, that.maxBytes)
+        .append(varyHeaders, that.varyHeaders)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the response cache settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(enabled)
+        .append(ttlMillis)
+        .append(maxEntries)
+        .append(maxBytes)
+        .append(varyHeaders)
+        .toHashCode();
+  }
+}
@@ -0,0 +1,172 @@
+package org.dmukhin.general.config.environment.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Data Transfer Object for the retry settings of a service. When enabled, idempotent requests
+ * which fail to connect, or whose connection is dropped before a response arrives, are repeated
+ * with exponentially growing, jittered pauses. Unset values fall back to the defaults below.
+ */
+@JsonIgnoreProperties(ignoreUnknown = false)
+public class RetrySettingsDto {
+
+  @JsonProperty(value = "enabled", access = JsonProperty.Access.READ_WRITE)
+  private Boolean enabled = false;
+
+  @JsonProperty(value = "maxAttempts", access = JsonProperty.Access.READ_WRITE)
+  private Integer maxAttempts = 3;
+
+  @JsonProperty(value = "initialBackoffMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long initialBackoffMillis = 100L;
+
+  @JsonProperty(value = "maxBackoffMillis", access = JsonProperty.Access.READ_WRITE)
+  private Long maxBackoffMillis = 2_000L;
+
+  @JsonProperty(value = "multiplier", access = JsonProperty.Access.READ_WRITE)
+  private Double multiplier = 2.0;
+
+  /**
+   * Retrieves whether failed connections of idempotent requests are retried.
+   *
+   * @return true if retries are enabled, false otherwise.
+   */
+  public Boolean getEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets whether failed connections of idempotent requests are retried.
+   *
+   * @param enabled Whether retries are enabled.
+   * @return The current instance of RetrySettingsDto for method chaining.
+   */
+  public RetrySettingsDto setEnabled(Boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of attempts of a request, including the first one.
+   *
+   * @return The maximum number of attempts.
+   */
+  public Integer getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Sets the maximum number of attempts of a request, including the first one.
+   *
+   * @param maxAttempts The maximum number of attempts to set.
+   * @return The current instance of RetrySettingsDto for method chaining.
+   */
+  public RetrySettingsDto setMaxAttempts(Integer maxAttempts) {
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Retrieves the pause before the first retry.
+   *
+   * @return The initial backoff in milliseconds.
+   */
+  public Long getInitialBackoffMillis() {
+    return initialBackoffMillis;
+  }
+
+  /**
+   * Sets the pause before the first retry.
+   *
+   * @param initialBackoffMillis The initial backoff in milliseconds to set.
+   * @return The current instance of RetrySettingsDto for method chaining.
+   */
+  public RetrySettingsDto setInitialBackoffMillis(Long initialBackoffMillis) {
+    this.initialBackoffMillis = initialBackoffMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the upper bound of the pause between two attempts.
+   *
+   * @return The maximum backoff in milliseconds.
+   */
+  public Long getMaxBackoffMillis() {
+    return maxBackoffMillis;
+  }
+
+  /**
+   * Sets the upper bound of the pause between two attempts.
+   *
+   * @param maxBackoffMillis The maximum backoff in milliseconds to set.
+   * @return The current instance of RetrySettingsDto for method chaining.
+   */
+  public RetrySettingsDto setMaxBackoffMillis(Long maxBackoffMillis) {
+    this.maxBackoffMillis = maxBackoffMillis;
+    return this;
+  }
+
+  /**
+   * Retrieves the factor the pause grows by after every retry.
+   *
+   * @return The backoff multiplier.
+   */
+  public Double getMultiplier() {
+    return multiplier;
+  }
+
+  /**
+   * Sets the factor the pause grows by after every retry.
+   *
+   * @param multiplier The backoff multiplier to set.
+   * @return The current instance of RetrySettingsDto for method chaining.
+   */
+  public RetrySettingsDto setMultiplier(Double multiplier) {
+    this.multiplier = multiplier;
+    return this;
+  }
+
+  /**
+   * Compares these retry settings to another object for equality.
+   *
+   * @param o The object to compare this RetrySettingsDto against.
+   * @return true if the given object represents equivalent retry settings, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    RetrySettingsDto that = (RetrySettingsDto) o;
+
+    return new EqualsBuilder().append(enabled, that.enabled)
+        .append(maxAttempts, that.maxAttempts)
+        .append(initialBackoffMillis, that.initialBackoffMillis)
+        .append(maxBackoffMillis, that.maxBackoffMillis)
+        .append(multiplier, that.multiplier)
+        .isEquals();
+  }
+
+  /**
+   * Returns a hash code value for the retry settings.
+   *
+   * @return a hash code value for these settings.
+   */
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .append(enabled)
+        .append(maxAttempts)
+        .append(initialBackoffMillis)
+        .append(maxBackoffMillis)
+        .append(multiplier)
+        .toHashCode();
+  }
+}
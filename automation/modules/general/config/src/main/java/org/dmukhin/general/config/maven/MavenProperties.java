@@ -15,6 +15,39 @@ public class MavenProperties {
   private static final String ENVIRONMENT_PROPERTY = "execution.environment";
   private static final String REMOTE_PROPERTY = "remote.pipeline";
   private static final String SELENIDE_DEBUG = "selenide.debug";
+  private static final String ASYNC_MAX_IN_FLIGHT = "api.async.max.in.flight";
+  private static final int DEFAULT_ASYNC_MAX_IN_FLIGHT = 20;
+  private static final String CAPTURE_MODE = "api.capture.mode";
+  private static final String CAPTURE_SAMPLING_RATE = "api.capture.sampling.rate";
+  private static final String CAPTURE_BUFFER_SIZE = "api.capture.buffer.size";
+  private static final int DEFAULT_CAPTURE_BUFFER_SIZE = 20;
+  private static final String CAPTURE_BODY_LIMIT = "api.capture.body.limit.bytes";
+  private static final int DEFAULT_CAPTURE_BODY_LIMIT = 4096;
+  private static final String ATTACHMENT_QUEUE_CAPACITY = "api.attachment.queue.capacity";
+  private static final String ATTACHMENT_GZIP_THRESHOLD = "api.attachment.gzip.threshold.bytes";
+  private static final int DEFAULT_ATTACHMENT_QUEUE_CAPACITY = 1000;
+  private static final int DEFAULT_ATTACHMENT_GZIP_THRESHOLD = 64 * 1024;
+  private static final String STUB_LATENCY_MILLIS = "placeholder.stub.latency.millis";
+  private static final String STUB_COMMENTS_COUNT = "placeholder.stub.comments.count";
+  private static final String STUB_COMMENT_BODY_LENGTH = "placeholder.stub.comment.body.length";
+  private static final int DEFAULT_STUB_COMMENTS_COUNT = 500;
+  private static final String COALESCING_ENABLED = "api.coalescing.enabled";
+  private static final String BATCH_MAX_IDS = "api.batch.max.ids";
+  private static final int DEFAULT_BATCH_MAX_IDS = 50;
+  private static final String LOAD_MODEL = "api.load.model";
+  private static final String LOAD_ARRIVAL_RATE = "api.load.arrival.rate";
+  private static final String LOAD_CONCURRENCY = "api.load.concurrency";
+  private static final String LOAD_DURATION_SECONDS = "api.load.duration.seconds";
+  private static final String LOAD_WARMUP_SECONDS = "api.load.warmup.seconds";
+  private static final String LOAD_WEIGHTS = "api.load.weights";
+  private static final double DEFAULT_LOAD_ARRIVAL_RATE = 50.0;
+  private static final int DEFAULT_LOAD_CONCURRENCY = 10;
+  private static final int DEFAULT_LOAD_DURATION_SECONDS = 10;
+  private static final int DEFAULT_LOAD_WARMUP_SECONDS = 2;
+  private static final String TIMING_REPORT_FILE = "api.timing.report.file";
+  private static final String DEFAULT_TIMING_REPORT_FILE = "target/request-timings.json";
+  private static final String TIMING_BASELINE_FILE = "api.timing.baseline.file";
+  private static final String UNKNOWN_PROPERTIES_MODE = "api.dto.unknown.properties";
   private final Properties properties;
 
   /**
@@ -68,6 +101,225 @@ public class MavenProperties {
     return Boolean.valueOf(getProperty(SELENIDE_DEBUG));
   }
 
+  /**
+   * Retrieves the maximum number of asynchronous API requests allowed in flight at the same time.
+   *
+   * @return The value of the 'api.async.max.in.flight' property, or 20 when it is not set.
+   */
+  public static Integer getAsyncMaxInFlight() {
+    String maxInFlight = getProperty(ASYNC_MAX_IN_FLIGHT);
+    return maxInFlight == null ? DEFAULT_ASYNC_MAX_IN_FLIGHT : Integer.valueOf(maxInFlight);
+  }
+
+  /**
+   * Retrieves how HTTP exchanges are reported: 'always' logs and attaches every exchange,
+   * 'on-failure' only the exchanges of failed or sampled tests.
+   *
+   * @return The value of the 'api.capture.mode' property, or null when it is not set.
+   */
+  public static String getCaptureMode() {
+    return getProperty(CAPTURE_MODE);
+  }
+
+  /**
+   * Retrieves the share of passed tests whose captured HTTP exchanges are reported anyway.
+   *
+   * @return The value of the 'api.capture.sampling.rate' property between 0 and 1, or 0 when it is
+   * not set.
+   */
+  public static Double getCaptureSamplingRate() {
+    String samplingRate = getProperty(CAPTURE_SAMPLING_RATE);
+    return samplingRate == null ? 0.0 : Double.valueOf(samplingRate);
+  }
+
+  /**
+   * Retrieves the number of HTTP exchanges kept per test, older exchanges are dropped.
+   *
+   * @return The value of the 'api.capture.buffer.size' property, or 20 when it is not set.
+   */
+  public static Integer getCaptureBufferSize() {
+    String bufferSize = getProperty(CAPTURE_BUFFER_SIZE);
+    return bufferSize == null ? DEFAULT_CAPTURE_BUFFER_SIZE : Integer.valueOf(bufferSize);
+  }
+
+  /**
+   * Retrieves the number of body bytes kept per captured exchange, except for the latest exchange
+   * of a test, whose bodies are kept in full.
+   *
+   * @return The value of the 'api.capture.body.limit.bytes' property, or 4096 when it is not set.
+   */
+  public static Integer getCaptureBodyLimit() {
+    String bodyLimit = getProperty(CAPTURE_BODY_LIMIT);
+    return bodyLimit == null ? DEFAULT_CAPTURE_BODY_LIMIT : Integer.valueOf(bodyLimit);
+  }
+
+  /**
+   * Retrieves the number of Allure attachments which can wait to be written, further attachments
+   * block the test thread until there is room in the queue.
+   *
+   * @return The value of the 'api.attachment.queue.capacity' property, or 1000 when it is not set.
+   */
+  public static Integer getAttachmentQueueCapacity() {
+    String capacity = getProperty(ATTACHMENT_QUEUE_CAPACITY);
+    return capacity == null ? DEFAULT_ATTACHMENT_QUEUE_CAPACITY : Integer.valueOf(capacity);
+  }
+
+  /**
+   * Retrieves the size from which Allure attachments are written gzip-compressed.
+   *
+   * @return The value of the 'api.attachment.gzip.threshold.bytes' property, or 64 KiB when it is
+   * not set.
+   */
+  public static Integer getAttachmentGzipThreshold() {
+    String threshold = getProperty(ATTACHMENT_GZIP_THRESHOLD);
+    return threshold == null ? DEFAULT_ATTACHMENT_GZIP_THRESHOLD : Integer.valueOf(threshold);
+  }
+
+  /**
+   * Retrieves whether concurrent identical GET requests of an endpoint share one request and its
+   * parsed result.
+   *
+   * @return The value of the 'api.coalescing.enabled' property, or true when it is not set.
+   */
+  public static Boolean getCoalescingEnabled() {
+    String enabled = getProperty(COALESCING_ENABLED);
+    return enabled == null || Boolean.parseBoolean(enabled);
+  }
+
+  /**
+   * Retrieves the maximum number of IDs requested in a single batch lookup, which keeps the query
+   * of batch requests within the URL length limits of servers and proxies.
+   *
+   * @return The value of the 'api.batch.max.ids' property, or 50 when it is not set.
+   */
+  public static Integer getBatchMaxIds() {
+    String maxIds = getProperty(BATCH_MAX_IDS);
+    return maxIds == null ? DEFAULT_BATCH_MAX_IDS : Integer.valueOf(maxIds);
+  }
+
+  /**
+   * Retrieves the load model of load runs: 'open' starts operations at a fixed arrival rate,
+   * 'closed' runs a fixed number of workers.
+   *
+   * @return The value of the 'api.load.model' property, or null when it is not set.
+   */
+  public static String getLoadModel() {
+    return getProperty(LOAD_MODEL);
+  }
+
+  /**
+   * Retrieves the operations started per second by load runs; in the closed model it paces the
+   * workers, 0 lets them run back to back.
+   *
+   * @return The value of the 'api.load.arrival.rate' property, or 50 when it is not set.
+   */
+  public static Double getLoadArrivalRate() {
+    String arrivalRate = getProperty(LOAD_ARRIVAL_RATE);
+    return arrivalRate == null ? DEFAULT_LOAD_ARRIVAL_RATE : Double.valueOf(arrivalRate);
+  }
+
+  /**
+   * Retrieves the number of workers of closed-model load runs.
+   *
+   * @return The value of the 'api.load.concurrency' property, or 10 when it is not set.
+   */
+  public static Integer getLoadConcurrency() {
+    String concurrency = getProperty(LOAD_CONCURRENCY);
+    return concurrency == null ? DEFAULT_LOAD_CONCURRENCY : Integer.valueOf(concurrency);
+  }
+
+  /**
+   * Retrieves the measured duration of load runs.
+   *
+   * @return The value of the 'api.load.duration.seconds' property, or 10 when it is not set.
+   */
+  public static Integer getLoadDurationSeconds() {
+    String duration = getProperty(LOAD_DURATION_SECONDS);
+    return duration == null ? DEFAULT_LOAD_DURATION_SECONDS : Integer.valueOf(duration);
+  }
+
+  /**
+   * Retrieves the warm-up of load runs, whose operations are not reported.
+   *
+   * @return The value of the 'api.load.warmup.seconds' property, or 2 when it is not set.
+   */
+  public static Integer getLoadWarmupSeconds() {
+    String warmup = getProperty(LOAD_WARMUP_SECONDS);
+    return warmup == null ? DEFAULT_LOAD_WARMUP_SECONDS : Integer.valueOf(warmup);
+  }
+
+  /**
+   * Retrieves the relative weights of the operations of load runs, e.g.
+   * 'create:1,update:1,getById:6,getAll:2'.
+   *
+   * @return The value of the 'api.load.weights' property, or null when it is not set.
+   */
+  public static String getLoadWeights() {
+    return getProperty(LOAD_WEIGHTS);
+  }
+
+  /**
+   * Retrieves the file the request latencies are written to at the end of a suite.
+   *
+   * @return The value of the 'api.timing.report.file' property, or 'target/request-timings.json'
+   * when it is not set.
+   */
+  public static String getTimingReportFile() {
+    String reportFile = getProperty(TIMING_REPORT_FILE);
+    return reportFile == null ? DEFAULT_TIMING_REPORT_FILE : reportFile;
+  }
+
+  /**
+   * Retrieves the request timing report of an earlier run which latencies are compared against.
+   *
+   * @return The value of the 'api.timing.baseline.file' property, or null when it is not set.
+   */
+  public static String getTimingBaselineFile() {
+    return getProperty(TIMING_BASELINE_FILE);
+  }
+
+  /**
+   * Retrieves how properties unknown to a DTO are handled when a response array is streamed:
+   * 'retain' keeps them in the DTO, 'count' only counts them per DTO type, e.g. for bulk reads of
+   * large lists. Other reads retain them.
+   *
+   * @return The value of the 'api.dto.unknown.properties' property, or null when it is not set.
+   */
+  public static String getUnknownPropertiesMode() {
+    return getProperty(UNKNOWN_PROPERTIES_MODE);
+  }
+
+  /**
+   * Retrieves the delay the placeholder stub adds to every response.
+   *
+   * @return The value of the 'placeholder.stub.latency.millis' property, or 0 when it is not set.
+   */
+  public static Long getStubLatencyMillis() {
+    String latencyMillis = getProperty(STUB_LATENCY_MILLIS);
+    return latencyMillis == null ? 0L : Long.valueOf(latencyMillis);
+  }
+
+  /**
+   * Retrieves the number of comments served by the placeholder stub.
+   *
+   * @return The value of the 'placeholder.stub.comments.count' property, or 500 when it is not set.
+   */
+  public static Integer getStubCommentsCount() {
+    String commentsCount = getProperty(STUB_COMMENTS_COUNT);
+    return commentsCount == null ? DEFAULT_STUB_COMMENTS_COUNT : Integer.valueOf(commentsCount);
+  }
+
+  /**
+   * Retrieves the length of the comment bodies served by the placeholder stub.
+   *
+   * @return The value of the 'placeholder.stub.comment.body.length' property, or 0 to keep the
+   * fixture bodies when it is not set.
+   */
+  public static Integer getStubCommentBodyLength() {
+    String bodyLength = getProperty(STUB_COMMENT_BODY_LENGTH);
+    return bodyLength == null ? 0 : Integer.valueOf(bodyLength);
+  }
+
   /**
    * Retrieves a property value from the system properties, environment variables, or Maven
    * properties.
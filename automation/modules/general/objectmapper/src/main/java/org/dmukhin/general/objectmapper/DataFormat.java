@@ -0,0 +1,115 @@
+package org.dmukhin.general.objectmapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Enum representing the data format of request and response bodies. Smile and CBOR are binary
+ * encodings of the JSON data model, so DTOs are bound by the same serializers and deserializers in
+ * every format; only the parser and generator differ. The data format of a service is configured by
+ * its 'dataFormat' setting.
+ */
+public enum DataFormat {
+
+  /**
+   * Text JSON.
+   */
+  JSON("json", "application/json", new JsonFactory()),
+
+  /**
+   * Smile, the binary JSON format of Jackson.
+   */
+  SMILE("smile", "application/x-jackson-smile", new SmileFactory()),
+
+  /**
+   * CBOR, the Concise Binary Object Representation of RFC 8949.
+   */
+  CBOR("cbor", "application/cbor", new CBORFactory());
+
+  private final String setting;
+  private final String mimeType;
+  private final JsonFactory factory;
+
+  /**
+   * Constructor for DataFormat enum.
+   *
+   * @param setting  The value of the format in the 'dataFormat' setting.
+   * @param mimeType The media type of bodies in this format.
+   * @param factory  The factory of the parsers and generators of this format.
+   */
+  DataFormat(String setting, String mimeType, JsonFactory factory) {
+    this.setting = setting;
+    this.mimeType = mimeType;
+    this.factory = factory;
+  }
+
+  /**
+   * Retrieves the media type of bodies in this format, e.g. for the 'Accept' and 'Content-Type'
+   * headers.
+   *
+   * @return The media type.
+   */
+  public String getMimeType() {
+    return mimeType;
+  }
+
+  /**
+   * Retrieves the factory of the parsers and generators of this format.
+   *
+   * @return The shared JsonFactory of the format.
+   */
+  public JsonFactory getFactory() {
+    return factory;
+  }
+
+  /**
+   * Checks whether bodies in this format are binary rather than text.
+   *
+   * @return true for Smile and CBOR, false for JSON.
+   */
+  public boolean isBinary() {
+    return this != JSON;
+  }
+
+  /**
+   * Retrieves the data format of a 'dataFormat' setting.
+   *
+   * @param setting The value of the 'dataFormat' setting.
+   * @return The data format of the setting, or JSON when it is not set.
+   * @throws IllegalStateException If the setting has an unknown value.
+   */
+  public static DataFormat of(String setting) {
+    if (setting == null || setting.isBlank()) {
+      return JSON;
+    }
+    for (DataFormat format : values()) {
+      if (format.setting.equalsIgnoreCase(setting.trim())) {
+        return format;
+      }
+    }
+    throw new IllegalStateException("Unknown data format: " + setting);
+  }
+
+  /**
+   * Retrieves the data format of a 'Content-Type' header. Parameters such as the charset are
+   * ignored, structured syntax suffixes such as 'application/problem+json' are recognized.
+   *
+   * @param contentType The value of the 'Content-Type' header, may be null.
+   * @return The data format of the content type, or JSON when it is not set or not a binary format.
+   */
+  public static DataFormat ofContentType(String contentType) {
+    if (contentType == null) {
+      return JSON;
+    }
+    int parameters = contentType.indexOf(';');
+    String mediaType = (parameters < 0 ? contentType : contentType.substring(0, parameters))
+        .trim().toLowerCase();
+    for (DataFormat format : values()) {
+      if (mediaType.equals(format.mimeType) || mediaType.endsWith("+" + format.setting)) {
+        return format;
+      }
+    }
+    return JSON;
+  }
+}
@@ -1,14 +1,21 @@
 package org.dmukhin.general.objectmapper;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import io.qameta.allure.Step;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.util.Strings;
@@ -16,7 +23,9 @@ import org.dmukhin.general.utils.FileUtil;
 
 /**
  * Utility class for converting between DTOs (Data Transfer Objects) and JSON strings. This class
- * uses Jackson ObjectMapper for serialization and deserialization processes.
+ * uses the shared readers and writers of {@link ObjectMapperRegistry} for serialization and
+ * deserialization processes. The byte variants convert DTOs in any {@link DataFormat}, including
+ * the binary Smile and CBOR formats.
  */
 public class DtoConverter {
 
@@ -36,8 +45,7 @@ public class DtoConverter {
    * @return JSON representation of the DTO as a String.
    */
   public static String dtoToJsonString(Object dtoClass) {
-    ObjectMapper mapper = new ObjectMapper();
-    return writeAsString(dtoClass, mapper, JsonInclude.Include.NON_NULL);
+    return writeAsString(dtoClass, JsonInclude.Include.NON_NULL);
   }
 
   /**
@@ -48,9 +56,8 @@ public class DtoConverter {
    */
   public static String dtoToPrettyJsonString(Object dtoClass) {
     String result = Strings.EMPTY;
-    ObjectMapper mapper = new ObjectMapper();
     try {
-      result = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(dtoClass);
+      result = ObjectMapperRegistry.prettyWriter().writeValueAsString(dtoClass);
     } catch (JsonProcessingException e) {
       LOGGER.error(e.getMessage());
     }
@@ -62,17 +69,13 @@ public class DtoConverter {
    * inclusion option.
    *
    * @param dtoClass The DTO object to be serialized.
-   * @param mapper   The ObjectMapper to be used for serialization.
    * @param option   The serialization inclusion option.
    * @return JSON representation of the DTO as a String.
    */
-  private static String writeAsString(Object dtoClass, ObjectMapper mapper,
-      JsonInclude.Include option) {
+  private static String writeAsString(Object dtoClass, JsonInclude.Include option) {
     String result = Strings.EMPTY;
     try {
-      mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-      mapper.setSerializationInclusion(option);
-      result = mapper.writeValueAsString(dtoClass);
+      result = ObjectMapperRegistry.writer(option).writeValueAsString(dtoClass);
     } catch (JsonProcessingException e) {
       LOGGER.error(e.getMessage());
     }
@@ -81,6 +84,67 @@ public class DtoConverter {
 
   // Additional private method writeAsString description
 
+  /**
+   * Converts a DTO object to the bytes of the given data format, omitting null fields like
+   * {@link #dtoToJsonString(Object)}.
+   *
+   * @param dtoClass The DTO object to be converted.
+   * @param format   The data format to write.
+   * @return The encoded DTO, or an empty array if it cannot be serialized.
+   */
+  public static byte[] dtoToBytes(Object dtoClass, DataFormat format) {
+    try {
+      return ObjectMapperRegistry.writer(format, JsonInclude.Include.NON_NULL)
+          .writeValueAsBytes(dtoClass);
+    } catch (JsonProcessingException e) {
+      LOGGER.error(e.getMessage());
+      return new byte[0];
+    }
+  }
+
+  /**
+   * Converts the bytes of the given data format to a DTO object of the specified class.
+   *
+   * @param dtoClass The class of the DTO to which the content is to be converted.
+   * @param content  The encoded content to be deserialized into a DTO.
+   * @param format   The data format of the content.
+   * @param <T>      The type of the DTO.
+   * @return An instance of the DTO class, or null if the content cannot be deserialized.
+   */
+  public static <T> T bytesToDto(Class<T> dtoClass, byte[] content, DataFormat format) {
+    try {
+      return ObjectMapperRegistry.readerFor(format, dtoClass).readValue(content);
+    } catch (IOException e) {
+      LOGGER.error(e);
+      return null;
+    }
+  }
+
+  /**
+   * Converts content of the given data format to a JSON string, e.g. to log or attach a binary
+   * body. The content is copied token by token without binding it to DTOs or a tree.
+   *
+   * @param content The encoded content.
+   * @param format  The data format of the content.
+   * @return The content as a JSON string, or an empty string if it cannot be read.
+   */
+  public static String bytesToJsonString(byte[] content, DataFormat format) {
+    if (!format.isBinary()) {
+      return new String(content, StandardCharsets.UTF_8);
+    }
+    StringWriter json = new StringWriter(content.length * 2);
+    try (JsonParser parser = format.getFactory().createParser(content);
+        JsonGenerator generator = DataFormat.JSON.getFactory().createGenerator(json)) {
+      while (parser.nextToken() != null) {
+        generator.copyCurrentStructure(parser);
+      }
+    } catch (IOException e) {
+      LOGGER.error(e);
+      return Strings.EMPTY;
+    }
+    return json.toString();
+  }
+
   /**
    * Converts a string representation of JSON to a DTO object of the specified class.
    *
@@ -91,10 +155,8 @@ public class DtoConverter {
    */
   @Step("Converts a string representation of JSON to a DTO object of the specified class")
   public static <T> T stringToDto(Class<T> dtoClass, String content) {
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     try {
-      return objectMapper.readValue(content, dtoClass);
+      return ObjectMapperRegistry.readerFor(dtoClass).readValue(content);
     } catch (IOException e) {
       LOGGER.error(e);
       return null;
@@ -112,14 +174,85 @@ public class DtoConverter {
    */
   @Step("Reads a JSON file from the specified path and deserializes it into a DTO of the specified type")
   public static <T> T jsonFileToDto(String filePath, TypeReference<T> typeReference) {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     try (InputStream inputStream = FileUtil.getFileInputStream(filePath, DtoConverter.class)) {
-      return mapper.readValue(inputStream, typeReference);
+      return ObjectMapperRegistry.readerFor(typeReference).readValue(inputStream);
     } catch (IOException e) {
       LOGGER.error(e);
     }
     return null;
   }
 
+  /**
+   * Deserializes a JSON array from the given input stream into a lazily consumed stream of DTOs.
+   * Elements are parsed one by one while the returned stream is consumed, so neither the full body
+   * nor an intermediate array is kept in memory. The returned stream must be closed, which also
+   * closes the underlying input stream.
+   *
+   * @param inputStream The input stream containing a JSON array.
+   * @param dtoClass    The class of the DTO to which array elements are converted.
+   * @param <T>         The type of the DTO.
+   * @return A sequential, ordered stream of DTOs backed by the input stream.
+   * @throws UncheckedIOException If the start of the array cannot be read.
+   */
+  public static <T> Stream<T> jsonArrayToDtoStream(InputStream inputStream, Class<T> dtoClass) {
+    return arrayToDtoStream(inputStream, dtoClass, DataFormat.JSON);
+  }
+
+  /**
+   * Deserializes an array of the given data format from the input stream into a lazily consumed
+   * stream of DTOs, see {@link #jsonArrayToDtoStream(InputStream, Class)}.
+   *
+   * @param inputStream The input stream containing an array.
+   * @param dtoClass    The class of the DTO to which array elements are converted.
+   * @param format      The data format of the content.
+   * @param <T>         The type of the DTO.
+   * @return A sequential, ordered stream of DTOs backed by the input stream.
+   * @throws UncheckedIOException If the start of the array cannot be read; the input stream is
+   *                              closed.
+   */
+  public static <T> Stream<T> arrayToDtoStream(InputStream inputStream, Class<T> dtoClass,
+      DataFormat format) {
+    return arrayToDtoStream(inputStream, dtoClass, format, UnknownPropertiesMode.RETAIN);
+  }
+
+  /**
+   * Deserializes an array of the given data format from the input stream into a lazily consumed
+   * stream of DTOs whose unknown properties are handled in the given mode, see
+   * {@link #jsonArrayToDtoStream(InputStream, Class)}.
+   *
+   * @param inputStream The input stream containing an array.
+   * @param dtoClass    The class of the DTO to which array elements are converted.
+   * @param format      The data format of the content.
+   * @param mode        The handling of properties unknown to the DTO.
+   * @param <T>         The type of the DTO.
+   * @return A sequential, ordered stream of DTOs backed by the input stream.
+   * @throws UncheckedIOException If the start of the array cannot be read; the input stream is
+   *                              closed.
+   */
+  public static <T> Stream<T> arrayToDtoStream(InputStream inputStream, Class<T> dtoClass,
+      DataFormat format, UnknownPropertiesMode mode) {
+    try {
+      MappingIterator<T> iterator = mode.apply(ObjectMapperRegistry.readerFor(format, dtoClass))
+          .readValues(inputStream);
+      return StreamSupport.stream(
+              Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+          .onClose(() -> closeQuietly(iterator));
+    } catch (IOException e) {
+      closeQuietly(inputStream);
+      throw new UncheckedIOException("Failed to read the array of " + dtoClass.getSimpleName(), e);
+    }
+  }
+
+  /**
+   * Closes the given resource and logs a failure instead of propagating it.
+   *
+   * @param closeable The resource to close.
+   */
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      LOGGER.error(e);
+    }
+  }
 }
@@ -0,0 +1,195 @@
+package org.dmukhin.general.objectmapper;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.lang.reflect.Type;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of pre-configured Jackson readers and writers. A single ObjectMapper is
+ * configured once and all {@link ObjectReader}/{@link ObjectWriter} instances are derived from it,
+ * so Jackson's serializer and deserializer caches are built only once per type. Readers and writers
+ * are immutable and therefore safe to share between threads. Readers and writers of the binary
+ * {@link DataFormat}s are derived from the same mapper with the factory of the format, so they
+ * share the serializer and deserializer caches of the JSON ones. The mapper registers the Blackbird
+ * module, which replaces the reflective access to DTO constructors, getters and setters by lambdas
+ * generated once per property, so any-setters such as the one of BaseDto keep working unchanged.
+ * Any-setters follow the {@link UnknownPropertiesMode} of the reader they are read with.
+ * Short-lived JVMs can build the caches up front with {@link #warmUp(DataFormat, Class[])}.
+ */
+public final class ObjectMapperRegistry {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .registerModule(new BlackbirdModule())
+      .registerModule(new SimpleModule("UnknownProperties")
+          .setDeserializerModifier(new UnknownPropertiesModifier()))
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+
+  private static final Map<DataFormat, Map<JavaType, ObjectReader>> READERS =
+      new EnumMap<>(DataFormat.class);
+  private static final Map<DataFormat, Map<JsonInclude.Include, ObjectWriter>> WRITERS =
+      new EnumMap<>(DataFormat.class);
+  private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+  static {
+    for (DataFormat format : DataFormat.values()) {
+      READERS.put(format, new ConcurrentHashMap<>());
+      WRITERS.put(format, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Default private constructor to prevent instantiation.
+   */
+  private ObjectMapperRegistry() {
+    // default private constructor, no object creation
+  }
+
+  /**
+   * Provides the shared ObjectMapper. The returned mapper must not be reconfigured, use it only for
+   * read-only operations such as type construction.
+   *
+   * @return The shared, pre-configured ObjectMapper.
+   */
+  public static ObjectMapper mapper() {
+    return MAPPER;
+  }
+
+  /**
+   * Builds the readers and writers of the given types for the given data format up front, so the
+   * first request of a test does not pay for the introspection of its DTOs and the generation of
+   * their accessors. Builds the serializers of the shared mapper as well, since it is used directly
+   * by REST Assured.
+   *
+   * @param format The data format of the content to be read and written.
+   * @param types  The classes of the DTOs, including array classes of bulk responses.
+   */
+  public static void warmUp(DataFormat format, Class<?>... types) {
+    for (Class<?> type : types) {
+      readerFor(format, type);
+      writer(format, JsonInclude.Include.NON_NULL).forType(type);
+      MAPPER.writerFor(type);
+    }
+  }
+
+  /**
+   * Provides a cached reader for the given class.
+   *
+   * @param type The class of the target DTO.
+   * @return An immutable ObjectReader bound to the given type.
+   */
+  public static ObjectReader readerFor(Class<?> type) {
+    return readerFor(MAPPER.constructType(type));
+  }
+
+  /**
+   * Provides a cached reader for the given generic type reference.
+   *
+   * @param typeReference The TypeReference describing the target type.
+   * @return An immutable ObjectReader bound to the given type.
+   */
+  public static ObjectReader readerFor(TypeReference<?> typeReference) {
+    return readerFor(MAPPER.constructType(typeReference));
+  }
+
+  /**
+   * Provides a cached reader for the given reflected type.
+   *
+   * @param type The reflected type of the target DTO.
+   * @return An immutable ObjectReader bound to the given type.
+   */
+  public static ObjectReader readerFor(Type type) {
+    return readerFor(MAPPER.constructType(type));
+  }
+
+  /**
+   * Provides a cached reader for the given Jackson type.
+   *
+   * @param javaType The Jackson type of the target DTO.
+   * @return An immutable ObjectReader bound to the given type.
+   */
+  public static ObjectReader readerFor(JavaType javaType) {
+    return readerFor(DataFormat.JSON, javaType);
+  }
+
+  /**
+   * Provides a cached reader for the given reflected type which parses the given data format.
+   *
+   * @param format The data format of the content to read.
+   * @param type   The reflected type of the target DTO.
+   * @return An immutable ObjectReader bound to the given type and format.
+   */
+  public static ObjectReader readerFor(DataFormat format, Type type) {
+    return readerFor(format, MAPPER.constructType(type));
+  }
+
+  /**
+   * Provides a cached reader for the given Jackson type which parses the given data format.
+   *
+   * @param format   The data format of the content to read.
+   * @param javaType The Jackson type of the target DTO.
+   * @return An immutable ObjectReader bound to the given type and format.
+   */
+  public static ObjectReader readerFor(DataFormat format, JavaType javaType) {
+    return READERS.get(format).computeIfAbsent(javaType, type -> format.isBinary()
+        ? MAPPER.readerFor(type).with(format.getFactory())
+        : MAPPER.readerFor(type));
+  }
+
+  /**
+   * Provides a cached writer which applies the given serialization inclusion option.
+   *
+   * @param option The serialization inclusion option.
+   * @return An immutable ObjectWriter configured with the given inclusion option.
+   */
+  public static ObjectWriter writer(JsonInclude.Include option) {
+    return writer(DataFormat.JSON, option);
+  }
+
+  /**
+   * Provides a cached writer which generates the given data format and applies the given
+   * serialization inclusion option.
+   *
+   * @param format The data format of the content to write.
+   * @param option The serialization inclusion option.
+   * @return An immutable ObjectWriter configured with the given format and inclusion option.
+   */
+  public static ObjectWriter writer(DataFormat format, JsonInclude.Include option) {
+    return WRITERS.get(format).computeIfAbsent(option, include -> format.isBinary()
+        ? writer(include).with(format.getFactory())
+        : createWriter(include));
+  }
+
+  /**
+   * Provides the shared pretty-printing writer.
+   *
+   * @return An immutable ObjectWriter with the default pretty printer.
+   */
+  public static ObjectWriter prettyWriter() {
+    return PRETTY_WRITER;
+  }
+
+  /**
+   * Creates a writer for the given inclusion option. Inclusion is a mapper-level setting, so a copy
+   * of the shared mapper is configured once per option and kept behind the cached writer.
+   *
+   * @param option The serialization inclusion option.
+   * @return A new ObjectWriter configured with the given inclusion option.
+   */
+  private static ObjectWriter createWriter(JsonInclude.Include option) {
+    return MAPPER.copy()
+        .setSerializationInclusion(option)
+        .writer();
+  }
+}
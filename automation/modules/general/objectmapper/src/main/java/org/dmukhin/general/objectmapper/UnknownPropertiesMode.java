@@ -0,0 +1,87 @@
+package org.dmukhin.general.objectmapper;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Enum representing how properties unknown to a DTO are handled by its any-setter during
+ * deserialization. The mode is selected per read: a reader configured by {@link #apply} carries
+ * the mode as an attribute, readers without it retain unknown properties.
+ */
+public enum UnknownPropertiesMode {
+
+  /**
+   * Unknown properties are passed to the any-setter of the DTO with their values.
+   */
+  RETAIN("retain"),
+
+  /**
+   * The values of unknown properties are skipped without being parsed, and the any-setter of the
+   * DTO receives {@link #COUNTED} instead, so bulk reads of large lists neither parse nor keep
+   * them.
+   */
+  COUNT("count");
+
+  /**
+   * Value passed to an any-setter instead of the value of an unknown property read in the
+   * {@link #COUNT} mode.
+   */
+  public static final Object COUNTED = new Object() {
+    @Override
+    public String toString() {
+      return "<counted>";
+    }
+  };
+
+  private final String property;
+
+  /**
+   * Constructor for UnknownPropertiesMode enum.
+   *
+   * @param property The value of the mode in a property.
+   */
+  UnknownPropertiesMode(String property) {
+    this.property = property;
+  }
+
+  /**
+   * Configures the given reader to handle unknown properties in this mode.
+   *
+   * @param reader The reader to configure.
+   * @return A reader which carries this mode as an attribute.
+   */
+  public ObjectReader apply(ObjectReader reader) {
+    return reader.withAttribute(UnknownPropertiesMode.class, this);
+  }
+
+  /**
+   * Retrieves the mode of the read in progress.
+   *
+   * @param context The deserialization context of the read.
+   * @return The mode set on the reader, or RETAIN when it is not set.
+   */
+  public static UnknownPropertiesMode of(DeserializationContext context) {
+    Object mode = context.getAttribute(UnknownPropertiesMode.class);
+    return mode instanceof UnknownPropertiesMode unknownPropertiesMode ? unknownPropertiesMode
+        : RETAIN;
+  }
+
+  /**
+   * Resolves the mode of a property value.
+   *
+   * @param mode The value of the property, may be null.
+   * @return The mode of the value, or RETAIN when it is not set.
+   * @throws IllegalStateException If the value is not a known mode.
+   */
+  public static UnknownPropertiesMode ofProperty(String mode) {
+    if (mode == null || mode.isBlank()) {
+      return RETAIN;
+    }
+    for (UnknownPropertiesMode unknownPropertiesMode : values()) {
+      if (unknownPropertiesMode.property.equalsIgnoreCase(mode.trim())) {
+        return unknownPropertiesMode;
+      }
+    }
+    throw new IllegalStateException("Unknown mode for unknown properties: " + mode);
+  }
+}
@@ -0,0 +1,165 @@
+package org.dmukhin.general.objectmapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableAnyProperty;
+import java.io.IOException;
+
+/**
+ * Deserializer modifier which applies the {@link UnknownPropertiesMode} of a read to the
+ * any-setters of DTOs. The any-setter of every bean is wrapped once, when its deserializer is
+ * built; the wrapper checks the mode of the read per unknown property and delegates to the
+ * any-setter of Jackson in the {@link UnknownPropertiesMode#RETAIN} mode.
+ */
+class UnknownPropertiesModifier extends BeanDeserializerModifier {
+
+  /**
+   * Wraps the any-setter of the bean, if it has one.
+   *
+   * @param config      The deserialization configuration.
+   * @param description The description of the bean.
+   * @param builder     The builder of the bean deserializer.
+   * @return The builder with the wrapped any-setter.
+   */
+  @Override
+  public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+      BeanDescription description, BeanDeserializerBuilder builder) {
+    SettableAnyProperty anySetter = builder.getAnySetter();
+    if (anySetter != null && !(anySetter instanceof ModeAwareAnySetter)) {
+      // the builder refuses to replace an any-setter, so the one found by Jackson is cleared first
+      builder.setAnySetter(null);
+      builder.setAnySetter(new ModeAwareAnySetter(anySetter));
+    }
+    return builder;
+  }
+
+  /**
+   * Any-setter which skips the values of unknown properties read in the
+   * {@link UnknownPropertiesMode#COUNT} mode. Beans built through a creator buffer the values of
+   * their unknown properties before the bean exists, so they always retain them.
+   */
+  private static final class ModeAwareAnySetter extends SettableAnyProperty {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SettableAnyProperty delegate;
+
+    /**
+     * Constructor for ModeAwareAnySetter.
+     *
+     * @param delegate The any-setter of Jackson which handles retained properties.
+     */
+    private ModeAwareAnySetter(SettableAnyProperty delegate) {
+      super(delegate.getProperty(), null, delegate.getType(), null, null, null);
+      this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the any-setter of Jackson with the resolved deserializer of the values.
+     *
+     * @param deserializer The deserializer of the values of unknown properties.
+     * @return The wrapped any-setter.
+     */
+    @Override
+    public SettableAnyProperty withValueDeserializer(JsonDeserializer<Object> deserializer) {
+      return new ModeAwareAnySetter(delegate.withValueDeserializer(deserializer));
+    }
+
+    /**
+     * Makes the setter of the wrapped any-setter accessible.
+     *
+     * @param config The deserialization configuration.
+     */
+    @Override
+    public void fixAccess(DeserializationConfig config) {
+      delegate.fixAccess(config);
+    }
+
+    /**
+     * Checks whether the deserializer of the values was resolved.
+     *
+     * @return true if the wrapped any-setter has a value deserializer, false otherwise.
+     */
+    @Override
+    public boolean hasValueDeserializer() {
+      return delegate.hasValueDeserializer();
+    }
+
+    /**
+     * Reads the value of an unknown property and passes it to the any-setter. In the
+     * {@link UnknownPropertiesMode#COUNT} mode the value is skipped and
+     * {@link UnknownPropertiesMode#COUNTED} is passed instead.
+     *
+     * @param parser       The parser positioned at the value.
+     * @param context      The deserialization context of the read.
+     * @param instance     The bean being read.
+     * @param propertyName The name of the unknown property.
+     * @throws IOException If the value cannot be read or set.
+     */
+    @Override
+    public void deserializeAndSet(JsonParser parser, DeserializationContext context,
+        Object instance, String propertyName) throws IOException {
+      if (UnknownPropertiesMode.of(context) == UnknownPropertiesMode.COUNT) {
+        parser.skipChildren();
+        delegate.set(instance, propertyName, UnknownPropertiesMode.COUNTED);
+      } else {
+        delegate.deserializeAndSet(parser, context, instance, propertyName);
+      }
+    }
+
+    /**
+     * Reads the value of an unknown property of a bean built through a creator.
+     *
+     * @param parser  The parser positioned at the value.
+     * @param context The deserialization context of the read.
+     * @return The value of the property.
+     * @throws IOException If the value cannot be read.
+     */
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+      return delegate.deserialize(parser, context);
+    }
+
+    /**
+     * Passes a buffered value to the any-setter.
+     *
+     * @param instance     The bean being read.
+     * @param propertyName The name of the unknown property.
+     * @param value        The value of the property.
+     * @throws IOException If the value cannot be set.
+     */
+    @Override
+    public void set(Object instance, Object propertyName, Object value) throws IOException {
+      delegate.set(instance, propertyName, value);
+    }
+
+    /**
+     * Passes a value to the wrapped any-setter.
+     *
+     * @param instance     The bean being read.
+     * @param propertyName The name of the unknown property.
+     * @param value        The value of the property.
+     * @throws Exception If the value cannot be set.
+     */
+    @Override
+    protected void _set(Object instance, Object propertyName, Object value) throws Exception {
+      delegate.set(instance, propertyName, value);
+    }
+
+    /**
+     * Describes the wrapped any-setter.
+     *
+     * @return The description of the wrapped any-setter.
+     */
+    @Override
+    public String toString() {
+      return delegate.toString();
+    }
+  }
+}
@@ -2,26 +2,84 @@ package org.dmukhin.microservices.general;
 
 import static io.restassured.RestAssured.given;
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.DtoConverter;
+import org.dmukhin.general.objectmapper.UnknownPropertiesMode;
+import org.dmukhin.microservices.general.async.AsyncRequestExecutor;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
+import org.dmukhin.microservices.general.async.SingleFlight;
+import org.dmukhin.microservices.general.async.SingleFlightMetrics;
+import org.dmukhin.microservices.general.enums.HttpStatus;
+import org.dmukhin.microservices.general.http.JavaHttpTransportFilter;
+import org.dmukhin.microservices.general.http.StreamedResponseFilter;
+import org.dmukhin.microservices.general.models.BaseDto;
+import org.dmukhin.microservices.general.resilience.ResiliencePolicy;
 
 /**
  * Abstract base class for web service endpoints. Provides common functionalities for making HTTP
- * requests using RestAssured.
+ * requests using RestAssured. Endpoints are stateless and can be shared between threads, the
+ * request specification is only merged into the specification of each request. Concurrent identical
+ * GET requests made through {@link #getCoalesced(String, Supplier)} share one request and its
+ * parsed DTOs; lookups of several IDs are batched or fanned out with bounded concurrency. GET and
+ * PUT requests are executed through the {@link ResiliencePolicy} of the service, which retries
+ * connection failures if enabled; slow GET requests which are not answered from the response cache
+ * are hedged by the filter of the service if enabled. Bodies are exchanged in the data format
+ * negotiated by the specification of the service, text JSON or binary Smile or CBOR: request bodies
+ * are encoded in the format of the request 'Content-Type', responses are read in the format of
+ * their 'Content-Type'.
  */
 public abstract class AbstractWebEndpoint {
 
-  protected RequestSpecification specification;
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final int BATCH_MAX_IDS = Math.max(1, MavenProperties.getBatchMaxIds());
+  private static final boolean COALESCING_ENABLED = MavenProperties.getCoalescingEnabled();
+  private static final String FROZEN_KEY_PREFIX = "frozen ";
+
+  protected final RequestSpecification specification;
+  private final ResiliencePolicy resiliencePolicy;
+  private final SingleFlight singleFlight = new SingleFlight();
 
   /**
-   * Constructor for AbstractWebEndpoint with a specified RequestSpecification.
+   * Constructor for AbstractWebEndpoint with a specified RequestSpecification. Requests are sent
+   * once, without retries.
    *
    * @param specification The RequestSpecification to use for HTTP requests.
    */
   protected AbstractWebEndpoint(RequestSpecification specification) {
+    this(specification, ResiliencePolicy.disabled());
+  }
+
+  /**
+   * Constructor for AbstractWebEndpoint with a specified RequestSpecification and the resilience
+   * policy of its service.
+   *
+   * @param specification    The RequestSpecification to use for HTTP requests.
+   * @param resiliencePolicy The policy retrying the requests of the service.
+   */
+  protected AbstractWebEndpoint(RequestSpecification specification,
+      ResiliencePolicy resiliencePolicy) {
     this.specification = specification;
+    this.resiliencePolicy = resiliencePolicy;
   }
 
   /**
@@ -33,12 +91,10 @@ public abstract class AbstractWebEndpoint {
    */
   @Step("Performs a GET request to the specified path")
   public ValidatableResponse get(RequestSpecification requestSpecification, String path) {
-    RequestSpecBuilder specBuilder = new RequestSpecBuilder();
-    specBuilder.addRequestSpecification(requestSpecification);
-    return RestAssured.given()
-        .spec(specBuilder.build())
-        .when()
-        .get(path)
+    return resiliencePolicy.execute(Method.GET, () -> given()
+            .spec(requestSpecification)
+            .when()
+            .get(path))
         .then();
   }
 
@@ -53,15 +109,174 @@ public abstract class AbstractWebEndpoint {
   @Step("Performs a GET request to the specified path with path parameters")
   public ValidatableResponse get(RequestSpecification requestSpecification, String path,
       Object... pathParams) {
-    RequestSpecBuilder specBuilder = new RequestSpecBuilder();
-    specBuilder.addRequestSpecification(requestSpecification);
-    return RestAssured.given()
-        .spec(specBuilder.build())
-        .when()
-        .get(path, pathParams)
+    return resiliencePolicy.execute(Method.GET, () -> given()
+            .spec(requestSpecification)
+            .when()
+            .get(path, pathParams))
         .then();
   }
 
+  /**
+   * Performs a GET request to the specified path, verifies the response status and streams the
+   * array of the response body as DTOs. The array is read in the data format of the response
+   * 'Content-Type'. Elements are parsed lazily while the stream is consumed; the returned stream
+   * must be closed. The request is marked by a {@link StreamedResponseFilter}, so neither the
+   * exchange capture nor the response cache reads the body, and it is sent without the response
+   * logging filter; the body is not held in memory with the Apache transport. The 'java-http'
+   * transport cannot stream: {@link JavaHttpTransportFilter} reads the whole body before the
+   * response is returned, so the DTOs are parsed lazily from a body held in memory in full.
+   * Unknown properties of the DTOs are handled in the mode of the 'api.dto.unknown.properties'
+   * property at the time of the request.
+   *
+   * @param requestSpecification Additional specifications for the request.
+   * @param path                 The endpoint path.
+   * @param dtoClass             The class of the DTOs in the response array.
+   * @param status               The expected HTTP status of the response.
+   * @param pathParams           Parameters to be replaced in the path template.
+   * @param <T>                  The type of the DTO.
+   * @return A lazily consumed stream of DTOs.
+   */
+  @Step("Performs a GET request to the specified path and streams the response body")
+  public <T> Stream<T> getStream(RequestSpecification requestSpecification, String path,
+      Class<T> dtoClass, HttpStatus status, Object... pathParams) {
+    Response response = resiliencePolicy.execute(Method.GET, () -> given()
+        .spec(requestSpecification)
+        .filter(new StreamedResponseFilter())
+        .noFiltersOfType(ResponseLoggingFilter.class)
+        .when()
+        .get(path, pathParams));
+    response.then().statusCode(status.getCode());
+    return DtoConverter.arrayToDtoStream(response.asInputStream(), dtoClass,
+        DataFormat.ofContentType(response.getContentType()),
+        UnknownPropertiesMode.ofProperty(MavenProperties.getUnknownPropertiesMode()));
+  }
+
+  /**
+   * Performs a GET request and parses its DTOs, or joins the identical request already in flight on
+   * another thread and shares its DTOs. Coalescing is switched off by the 'api.coalescing.enabled'
+   * property.
+   *
+   * @param key     The key identifying identical requests of this endpoint, e.g. the resolved path.
+   * @param request The request which performs the GET, verifies and parses the response.
+   * @param <T>     The type of the DTOs.
+   * @return The parsed DTOs.
+   */
+  protected <T extends BaseDto> List<T> getCoalesced(String key, Supplier<List<T>> request) {
+    return getCoalesced(key, false, request);
+  }
+
+  /**
+   * Performs a GET request and parses its DTOs, or joins the identical request already in flight on
+   * another thread and shares its DTOs. Frozen DTOs are frozen by the thread performing the request,
+   * also when nobody joined it, so modifying a shared result fails regardless of timing; frozen and
+   * mutable calls never join each other's requests. Coalescing is switched off by the
+   * 'api.coalescing.enabled' property, the DTOs are frozen as requested anyway.
+   *
+   * @param key     The key identifying identical requests of this endpoint, e.g. the resolved path.
+   * @param freeze  Whether the DTOs are frozen.
+   * @param request The request which performs the GET, verifies and parses the response.
+   * @param <T>     The type of the DTOs.
+   * @return The parsed DTOs.
+   */
+  protected <T extends BaseDto> List<T> getCoalesced(String key, boolean freeze,
+      Supplier<List<T>> request) {
+    Supplier<List<T>> freezingRequest = freeze ? () -> {
+      List<T> dtos = request.get();
+      dtos.forEach(BaseDto::freeze);
+      return dtos;
+    } : request;
+    if (!COALESCING_ENABLED) {
+      return freezingRequest.get();
+    }
+    return singleFlight.execute(freeze ? FROZEN_KEY_PREFIX + key : key, freezingRequest);
+  }
+
+  /**
+   * Provides the counters of the GET requests coalesced by this endpoint.
+   *
+   * @return A snapshot of the single-flight metrics.
+   */
+  public SingleFlightMetrics getCoalescingMetrics() {
+    return singleFlight.getMetrics();
+  }
+
+  /**
+   * Looks up elements by ID with the batch form of a collection resource, e.g.
+   * '/comments?id=1&amp;id=2', in batches of at most 'api.batch.max.ids' IDs. The batches are
+   * fanned out through {@link AsyncRequestExecutor}, which bounds the requests in flight. IDs missing
+   * from a batch response are reported as failures; the IDs of a failed batch request are looked up
+   * one by one, so every failure belongs to a single ID.
+   *
+   * @param requestSpecification Additional specifications for the request.
+   * @param path                 The path of the collection resource.
+   * @param idParameter          The query parameter filtering the collection by ID.
+   * @param ids                  The IDs to look up, duplicates are requested once.
+   * @param arrayClass           The class of the DTO array in the batch response.
+   * @param idOf                 The function providing the ID of a DTO.
+   * @param lookup               The lookup of a single ID, e.g. the getById method of the endpoint.
+   * @param <I>                  The type of the IDs.
+   * @param <T>                  The type of the DTOs.
+   * @return The DTOs in the order of the IDs together with the failures by ID.
+   */
+  protected <I, T> BatchLookupResult<I, T> getByIdsInBatches(
+      RequestSpecification requestSpecification, String path, String idParameter, List<I> ids,
+      Class<T[]> arrayClass, Function<T, I> idOf, Function<I, T> lookup) {
+    List<I> distinctIds = ids.stream().distinct().toList();
+    List<List<I>> batches = new ArrayList<>();
+    for (int from = 0; from < distinctIds.size(); from += BATCH_MAX_IDS) {
+      batches.add(distinctIds.subList(from, Math.min(from + BATCH_MAX_IDS, distinctIds.size())));
+    }
+    List<CompletableFuture<T[]>> futures = batches.stream()
+        .map(batch -> AsyncRequestExecutor.submit(
+            () -> get(given().spec(requestSpecification).queryParam(idParameter, batch), path)
+                .statusCode(HttpStatus.OK.getCode())
+                .extract().as(arrayClass)))
+        .toList();
+
+    Map<I, T> found = new HashMap<>();
+    Map<I, Throwable> failures = new HashMap<>();
+    List<I> singleLookups = new ArrayList<>();
+    for (int i = 0; i < batches.size(); i++) {
+      List<I> batch = batches.get(i);
+      try {
+        for (T dto : futures.get(i).join()) {
+          found.put(idOf.apply(dto), dto);
+        }
+      } catch (CompletionException e) {
+        LOGGER.warn("Batch lookup of [{}] IDs on [{}] failed, looking them up one by one: {}",
+            batch.size(), path, e.getCause().toString());
+        singleLookups.addAll(batch);
+        continue;
+      }
+      for (I id : batch) {
+        if (!found.containsKey(id)) {
+          failures.put(id, new IllegalStateException(
+              String.format("No element with ID [%s] in the batch response of [%s]", id, path)));
+        }
+      }
+    }
+    fanOut(singleLookups, lookup, found, failures);
+    return toBatchLookupResult(ids, found, failures);
+  }
+
+  /**
+   * Looks up elements by ID with one request per ID, for resources without a batch form. The
+   * requests are fanned out through {@link AsyncRequestExecutor}, which bounds the requests in
+   * flight; a failing ID does not stop the others.
+   *
+   * @param ids    The IDs to look up, duplicates are requested once.
+   * @param lookup The lookup of a single ID, e.g. the getById method of the endpoint.
+   * @param <I>    The type of the IDs.
+   * @param <T>    The type of the DTOs.
+   * @return The DTOs in the order of the IDs together with the failures by ID.
+   */
+  protected <I, T> BatchLookupResult<I, T> getByIdsFanOut(List<I> ids, Function<I, T> lookup) {
+    Map<I, T> found = new HashMap<>();
+    Map<I, Throwable> failures = new HashMap<>();
+    fanOut(ids.stream().distinct().toList(), lookup, found, failures);
+    return toBatchLookupResult(ids, found, failures);
+  }
+
   /**
    * Performs a POST request to the specified path with a body payload and path parameters.
    *
@@ -74,13 +289,7 @@ public abstract class AbstractWebEndpoint {
   @Step("Performs a POST request to the specified path with a body payload and path parameters")
   public ValidatableResponse post(RequestSpecification requestSpecification, String path,
       Object bodyPayload, Object... pathParams) {
-    RequestSpecBuilder specBuilder = new RequestSpecBuilder();
-    specBuilder.addRequestSpecification(requestSpecification);
-    if (bodyPayload != null) {
-      specBuilder.setBody(bodyPayload);
-    }
-    return RestAssured.given()
-        .spec(specBuilder.build())
+    return withBody(given().spec(requestSpecification), bodyPayload)
         .when()
         .post(path, pathParams)
         .then();
@@ -98,15 +307,134 @@ public abstract class AbstractWebEndpoint {
   @Step("Performs a PUT request to the specified path with a body payload and path parameters")
   public ValidatableResponse put(RequestSpecification requestSpecification, String path,
       Object bodyPayload, Object... pathParams) {
-    RequestSpecBuilder specBuilder = new RequestSpecBuilder();
-    specBuilder.addRequestSpecification(requestSpecification);
-    if (bodyPayload != null) {
-      specBuilder.setBody(bodyPayload);
-    }
-    return given()
-        .spec(specBuilder.build())
-        .when()
-        .put(path, pathParams)
+    return resiliencePolicy.execute(Method.PUT,
+            () -> withBody(given().spec(requestSpecification), bodyPayload)
+                .when()
+                .put(path, pathParams))
         .then();
   }
+
+  /**
+   * Performs a GET request to the specified path with path parameters asynchronously. The number of
+   * requests in flight is bounded by {@link AsyncRequestExecutor}.
+   *
+   * @param requestSpecification Additional specifications for the request.
+   * @param path                 The endpoint path.
+   * @param pathParams           Parameters to be replaced in the path template.
+   * @return A CompletableFuture completed with the response of the request.
+   */
+  @Step("Submits an asynchronous GET request to the specified path")
+  public CompletableFuture<ValidatableResponse> getAsync(RequestSpecification requestSpecification,
+      String path, Object... pathParams) {
+    return AsyncRequestExecutor.submit(() -> get(requestSpecification, path, pathParams));
+  }
+
+  /**
+   * Performs a POST request to the specified path with a body payload and path parameters
+   * asynchronously. The number of requests in flight is bounded by {@link AsyncRequestExecutor}.
+   *
+   * @param requestSpecification Additional specifications for the request.
+   * @param path                 The endpoint path.
+   * @param bodyPayload          The payload to be sent in the body of the request.
+   * @param pathParams           Parameters to be replaced in the path template.
+   * @return A CompletableFuture completed with the response of the request.
+   */
+  @Step("Submits an asynchronous POST request to the specified path")
+  public CompletableFuture<ValidatableResponse> postAsync(
+      RequestSpecification requestSpecification, String path, Object bodyPayload,
+      Object... pathParams) {
+    return AsyncRequestExecutor.submit(
+        () -> post(requestSpecification, path, bodyPayload, pathParams));
+  }
+
+  /**
+   * Performs a PUT request to the specified path with a body payload and path parameters
+   * asynchronously. The number of requests in flight is bounded by {@link AsyncRequestExecutor}.
+   *
+   * @param requestSpecification Additional specifications for the request.
+   * @param path                 The endpoint path.
+   * @param bodyPayload          The payload to be sent in the body of the request.
+   * @param pathParams           Parameters to be replaced in the path template.
+   * @return A CompletableFuture completed with the response of the request.
+   */
+  @Step("Submits an asynchronous PUT request to the specified path")
+  public CompletableFuture<ValidatableResponse> putAsync(RequestSpecification requestSpecification,
+      String path, Object bodyPayload, Object... pathParams) {
+    return AsyncRequestExecutor.submit(
+        () -> put(requestSpecification, path, bodyPayload, pathParams));
+  }
+
+  /**
+   * Looks up each ID concurrently and collects the results and failures.
+   *
+   * @param ids      The distinct IDs to look up.
+   * @param lookup   The lookup of a single ID.
+   * @param found    The map receiving the DTOs by ID.
+   * @param failures The map receiving the failures by ID.
+   * @param <I>      The type of the IDs.
+   * @param <T>      The type of the DTOs.
+   */
+  private <I, T> void fanOut(List<I> ids, Function<I, T> lookup, Map<I, T> found,
+      Map<I, Throwable> failures) {
+    List<CompletableFuture<T>> futures = ids.stream()
+        .map(id -> AsyncRequestExecutor.submit(() -> lookup.apply(id)))
+        .toList();
+    for (int i = 0; i < ids.size(); i++) {
+      try {
+        found.put(ids.get(i), futures.get(i).join());
+      } catch (CompletionException e) {
+        failures.put(ids.get(i), e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Arranges the retrieved DTOs and the failures in the order of the requested IDs.
+   *
+   * @param ids      The requested IDs.
+   * @param found    The DTOs by ID.
+   * @param failures The failures by ID.
+   * @param <I>      The type of the IDs.
+   * @param <T>      The type of the DTOs.
+   * @return The result of the lookup.
+   */
+  private <I, T> BatchLookupResult<I, T> toBatchLookupResult(List<I> ids, Map<I, T> found,
+      Map<I, Throwable> failures) {
+    List<T> results = new ArrayList<>(ids.size());
+    Map<I, Throwable> orderedFailures = new LinkedHashMap<>();
+    for (I id : ids) {
+      results.add(found.get(id));
+      if (failures.containsKey(id)) {
+        orderedFailures.put(id, failures.get(id));
+      }
+    }
+    if (!orderedFailures.isEmpty()) {
+      LOGGER.info("[{}] of [{}] IDs could not be retrieved: {}", orderedFailures.size(),
+          ids.size(), orderedFailures.keySet());
+    }
+    return new BatchLookupResult<>(List.copyOf(ids), Collections.unmodifiableList(results),
+        Collections.unmodifiableMap(orderedFailures));
+  }
+
+  /**
+   * Sets the body payload on the request specification if a payload is provided. DTOs sent with a
+   * binary 'Content-Type' are encoded here, since REST Assured passes the result of an object
+   * mapper on as a string; payloads which are already a string or bytes are sent as they are.
+   *
+   * @param requestSpecification The specification of the request.
+   * @param bodyPayload          The payload to be sent in the body of the request, may be null.
+   * @return The specification of the request.
+   */
+  private RequestSpecification withBody(RequestSpecification requestSpecification,
+      Object bodyPayload) {
+    if (bodyPayload == null) {
+      return requestSpecification;
+    }
+    DataFormat format = DataFormat.ofContentType(
+        SpecificationQuerier.query(requestSpecification).getContentType());
+    if (format.isBinary() && !(bodyPayload instanceof byte[]) && !(bodyPayload instanceof String)) {
+      return requestSpecification.body(DtoConverter.dtoToBytes(bodyPayload, format));
+    }
+    return requestSpecification.body(bodyPayload);
+  }
 }
@@ -1,24 +1,77 @@
 package org.dmukhin.microservices.general;
 
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.log.ErrorLoggingFilter;
 import io.restassured.filter.log.RequestLoggingFilter;
 import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.dmukhin.general.config.environment.EnvironmentProvider;
 import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.general.config.environment.models.ResponseCacheSettingsDto;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+import org.dmukhin.microservices.general.cache.ResponseCache;
+import org.dmukhin.microservices.general.cache.ResponseCacheFilter;
+import org.dmukhin.microservices.general.capture.CaptureMode;
+import org.dmukhin.microservices.general.capture.ExchangeCaptureFilter;
+import org.dmukhin.microservices.general.codec.DataFormatObjectMapper;
+import org.dmukhin.microservices.general.compression.ContentDecoder;
+import org.dmukhin.microservices.general.http.HttpTransport;
+import org.dmukhin.microservices.general.http.JavaHttpTransportFilter;
+import org.dmukhin.microservices.general.http.PooledHttpClientFactory;
+import org.dmukhin.microservices.general.ratelimit.RateLimitFilter;
+import org.dmukhin.microservices.general.ratelimit.RateLimiter;
+import org.dmukhin.microservices.general.resilience.HedgingFilter;
+import org.dmukhin.microservices.general.resilience.ResiliencePolicy;
+import org.dmukhin.microservices.general.timing.RequestTimingFilter;
 
 /**
  * Abstract base class for web services. Provides common functionalities for web service classes,
  * including API configuration loading and default request specification setup.
+ * <p>
+ * The client, cache, policy and limiter of a service are shared per API setting and environment
+ * snapshot. Once the snapshot was replaced by a reload or an override, the next service created
+ * evicts the instances built from replaced snapshots and closes their HTTP clients; requests still
+ * running on a replaced service may fail. A service created with explicit settings, e.g. for a
+ * test which needs settings of its own, shares its instances with nobody and releases them when it
+ * is closed.
+ * </p>
  */
-public abstract class AbstractWebService {
+public abstract class AbstractWebService implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final Map<ServiceKey, RestAssuredConfig> REST_ASSURED_CONFIGS =
+      new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, RequestSpecification> SPECIFICATIONS =
+      new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, ResponseCache> RESPONSE_CACHES = new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, ResiliencePolicy> RESILIENCE_POLICIES =
+      new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, ContentDecoder> CONTENT_DECODERS =
+      new ConcurrentHashMap<>();
+  private static final Map<ServiceKey, Queue<AutoCloseable>> RESOURCES = new ConcurrentHashMap<>();
+  private static final List<Map<ServiceKey, ?>> SHARED_INSTANCES = List.of(REST_ASSURED_CONFIGS,
+      SPECIFICATIONS, RESPONSE_CACHES, RESILIENCE_POLICIES, RATE_LIMITERS, CONTENT_DECODERS);
 
   protected String apiSetting;
   protected EnvironmentConfigDto apiConfig;
+  private EnvironmentProvider environment;
+  private ServiceKey serviceKey;
 
   /**
    * Constructor for the abstract web service class.
@@ -30,6 +83,21 @@ public abstract class AbstractWebService {
     loadApiConfig();
   }
 
+  /**
+   * Constructor for a web service with explicit settings instead of those of the environment. The
+   * service builds its own client, cache, policy and limiter, which are released by
+   * {@link #close()}.
+   *
+   * @param apiSetting The API setting name of the service, e.g. to record its request timings.
+   * @param apiConfig  The configuration settings of the service, which must not be modified
+   *                   afterward.
+   */
+  protected AbstractWebService(String apiSetting, EnvironmentConfigDto apiConfig) {
+    this.apiSetting = apiSetting;
+    this.apiConfig = apiConfig;
+    this.serviceKey = new ServiceKey(apiSetting, this);
+  }
+
   /**
    * Abstract method to initialize request specification. This method needs to be implemented in
    * derived classes to set up specific request configurations.
@@ -38,34 +106,272 @@ public abstract class AbstractWebService {
 
   /**
    * Loads API configuration based on the provided API setting. The configuration is loaded from the
-   * environment settings.
+   * environment settings. The shared instances of replaced environment snapshots are evicted.
    */
   private void loadApiConfig() {
-    apiConfig = EnvironmentProvider
-        .provideEnvironment().getSettings(apiSetting);
+    environment = EnvironmentProvider.provideEnvironment();
+    apiConfig = environment.getSettings(apiSetting);
+    serviceKey = new ServiceKey(apiSetting, environment);
+    evictReplacedSnapshots();
+  }
+
+  /**
+   * Removes the shared instances built from environment snapshots which are no longer current and
+   * closes their resources, so the pooled connections of replaced services are released.
+   */
+  private static synchronized void evictReplacedSnapshots() {
+    SHARED_INSTANCES.stream()
+        .flatMap(instances -> instances.keySet().stream())
+        .filter(key -> key.source() instanceof EnvironmentProvider provider
+            && !provider.isCurrent())
+        .distinct()
+        .toList()
+        .forEach(AbstractWebService::evict);
+  }
+
+  /**
+   * Removes the shared instances of a key and closes its resources.
+   *
+   * @param key The key of the replaced service.
+   */
+  private static synchronized void evict(ServiceKey key) {
+    LOGGER.debug("Evict the shared instances of replaced service settings [{}]", key.apiSetting());
+    SHARED_INSTANCES.forEach(instances -> instances.remove(key));
+    Queue<AutoCloseable> resources = RESOURCES.remove(key);
+    if (resources == null) {
+      return;
+    }
+    resources.forEach(resource -> {
+      try {
+        resource.close();
+      } catch (Exception e) {
+        LOGGER.warn("Failed to close a resource of replaced service settings [{}]",
+            key.apiSetting(), e);
+      }
+    });
+  }
+
+  /**
+   * Registers a resource of the shared instances of the service, which is closed once they are
+   * evicted.
+   *
+   * @param resource The resource to close on eviction.
+   * @param <T>      The type of the resource.
+   * @return The resource.
+   */
+  private <T extends AutoCloseable> T register(T resource) {
+    RESOURCES.computeIfAbsent(serviceKey, key -> new ConcurrentLinkedQueue<>()).add(resource);
+    return resource;
+  }
+
+  /**
+   * Checks whether the service was built from the current environment settings. Services shared by
+   * all threads are recreated once the settings were reloaded or overridden.
+   *
+   * @return true if the environment settings were not replaced since the service was built, or if
+   * the service has explicit settings.
+   */
+  public boolean isEnvironmentCurrent() {
+    return environment == null || environment.isCurrent();
+  }
+
+  /**
+   * Releases the client, cache, policy and limiter of a service created with explicit settings and
+   * closes its HTTP clients. Does nothing for a service with the environment settings, whose
+   * instances are shared and evicted once the environment snapshot was replaced.
+   */
+  @Override
+  public void close() {
+    if (environment == null) {
+      evict(serviceKey);
+    }
+  }
+
+  /**
+   * Provides the REST Assured configuration of the service. The configuration, and with it the
+   * pooled HTTP client, is created once per API setting and environment snapshot, see
+   * {@link ServiceKey}, and shared by every instance of the service and all endpoints built from
+   * it. The content decoders of REST Assured are switched off, since the pooled client negotiates
+   * and inflates compressed responses with the content decoder of the service. JSON bodies are
+   * mapped by the shared mapper of {@link ObjectMapperRegistry} instead of a new mapper per body,
+   * which REST Assured creates by default together with a lookup of all Jackson modules on the
+   * classpath. Services with a binary data format read response bodies with a
+   * {@link DataFormatObjectMapper} and send the request bodies encoded by the endpoints as a byte
+   * stream.
+   *
+   * @return The shared RestAssuredConfig of the service.
+   */
+  protected RestAssuredConfig getRestAssuredConfig() {
+    return REST_ASSURED_CONFIGS.computeIfAbsent(serviceKey, key -> {
+      RestAssuredConfig config = RestAssuredConfig.config()
+          .httpClient(HttpClientConfig.httpClientConfig()
+              .reuseHttpClientInstance()
+              .httpClientFactory(register(new PooledHttpClientFactory(apiConfig.getHttpClient(),
+                  getContentDecoder()))))
+          .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders())
+          .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+              .jackson2ObjectMapperFactory((type, charset) -> ObjectMapperRegistry.mapper()));
+      if (getDataFormat().isBinary()) {
+        config = config
+            .objectMapperConfig(config.getObjectMapperConfig()
+                .defaultObjectMapper(new DataFormatObjectMapper(getDataFormat())))
+            .encoderConfig(EncoderConfig.encoderConfig()
+                .encodeContentTypeAs(getDataFormat().getMimeType(), ContentType.BINARY));
+      }
+      return config;
+    });
+  }
+
+  /**
+   * Provides the data format of the request and response bodies of the service, configured by its
+   * 'dataFormat' setting.
+   *
+   * @return The data format of the service, JSON by default.
+   */
+  public DataFormat getDataFormat() {
+    return DataFormat.of(apiConfig.getDataFormat());
   }
 
   /**
-   * Creates and returns a default RequestSpecification for API requests. The specification includes
-   * content type, base URI, port, and optional base path. Also adds logging filters for response,
-   * request, and errors.
+   * Provides the HTTP transport of the service, configured by the 'transport' setting of its
+   * 'httpClient' settings.
    *
-   * @return The default RequestSpecification.
+   * @return The HTTP transport of the service, the Apache client by default.
+   */
+  public HttpTransport getHttpTransport() {
+    return HttpTransport.of(apiConfig.getHttpClient().getTransport());
+  }
+
+  /**
+   * Provides the content decoder of the service, shared like the REST Assured configuration, so
+   * its byte counters cover all endpoints and threads. Compressed responses are negotiated as
+   * configured in the 'compression' settings of the service, with gzip and deflate by default.
+   *
+   * @return The shared ContentDecoder of the service.
+   */
+  public ContentDecoder getContentDecoder() {
+    return CONTENT_DECODERS.computeIfAbsent(serviceKey,
+        key -> new ContentDecoder(apiConfig.getCompression()));
+  }
+
+  /**
+   * Provides the GET response cache of the service, shared like the REST Assured configuration.
+   * The cache is only used if it is enabled in the 'responseCache' settings of the service.
+   *
+   * @return The shared ResponseCache of the service.
+   */
+  public ResponseCache getResponseCache() {
+    return RESPONSE_CACHES.computeIfAbsent(serviceKey,
+        key -> new ResponseCache(apiConfig.getResponseCache()));
+  }
+
+  /**
+   * Provides the hedging and retry policy of the service, shared like the REST Assured
+   * configuration, so the latencies it hedges by are collected from all endpoints and threads.
+   * Hedging and retries are only used if they are enabled in the 'hedging' and 'retry' settings of
+   * the service.
+   *
+   * @return The shared ResiliencePolicy of the service.
+   */
+  public ResiliencePolicy getResiliencePolicy() {
+    return RESILIENCE_POLICIES.computeIfAbsent(serviceKey,
+        key -> new ResiliencePolicy(apiConfig.getHedging(), apiConfig.getRetry()));
+  }
+
+  /**
+   * Provides the client-side rate limiter of the service, shared like the REST Assured
+   * configuration, so the limit holds for all endpoints and threads together. The limiter is only
+   * used if it is enabled in the 'rateLimit' settings of the service.
+   *
+   * @return The shared RateLimiter of the service.
+   */
+  public RateLimiter getRateLimiter() {
+    return RATE_LIMITERS.computeIfAbsent(serviceKey,
+        key -> new RateLimiter(apiConfig.getRateLimit()));
+  }
+
+  /**
+   * Provides the default RequestSpecification for API requests. The specification is shared like
+   * the REST Assured configuration by all threads and endpoints; it must not be modified, requests
+   * only merge it into their own specification.
+   *
+   * @return The shared default RequestSpecification.
    */
   protected RequestSpecification getDefaultSpecification() {
+    return SPECIFICATIONS.computeIfAbsent(serviceKey, key -> buildDefaultSpecification());
+  }
+
+  /**
+   * Creates a default RequestSpecification for API requests. The specification includes content
+   * type, base URI, port, optional base path and the pooled HTTP client configuration. Exchanges
+   * are captured per test and reported only for failed or sampled tests; in the 'always' capture
+   * mode the logging filters for response, request, and errors are added instead, and every
+   * exchange is attached to the Allure report asynchronously. GET responses are cached if the
+   * response cache is enabled for the service; GET requests which are not answered from the cache
+   * are hedged if hedging is enabled for it, and the requests sent to the service are rate limited
+   * if the rate limit is enabled for it. The latency of every request sent is recorded per method,
+   * path template and status code. Requests are sent with the Apache client of REST Assured, or
+   * with the java.net.http client if it is the configured transport of the service; both accept
+   * the compressed responses configured for the service. Services with a binary data format send
+   * their bodies in it and accept it in preference to JSON.
+   *
+   * @return A new default RequestSpecification.
+   */
+  private RequestSpecification buildDefaultSpecification() {
     RequestSpecBuilder specBuilder = new RequestSpecBuilder()
-        .setContentType(ContentType.JSON)
+        .setConfig(getRestAssuredConfig())
         .setBaseUri(apiConfig.getApiUrl())
         .setPort(apiConfig.getApiPort());
+    DataFormat dataFormat = getDataFormat();
+    if (dataFormat.isBinary()) {
+      specBuilder.setContentType(dataFormat.getMimeType())
+          .setAccept(dataFormat.getMimeType() + ", " + DataFormat.JSON.getMimeType() + ";q=0.5");
+    } else {
+      specBuilder.setContentType(ContentType.JSON);
+    }
     if (!StringUtils.isEmpty(apiConfig.getApiBasePath())) {
       specBuilder.setBasePath(apiConfig.getApiBasePath());
     }
-    specBuilder
-        .addFilter(new ResponseLoggingFilter())
-        .addFilter(new RequestLoggingFilter())
-        .addFilter(new AllureRestAssured())
-        .addFilter(new ErrorLoggingFilter());
+    if (CaptureMode.current() == CaptureMode.ALWAYS) {
+      specBuilder
+          .addFilter(new ResponseLoggingFilter())
+          .addFilter(new RequestLoggingFilter())
+          .addFilter(ExchangeCaptureFilter.attachingEveryExchange())
+          .addFilter(new ErrorLoggingFilter());
+    } else {
+      specBuilder.addFilter(new ExchangeCaptureFilter());
+    }
+    ResponseCacheSettingsDto cacheSettings = apiConfig.getResponseCache();
+    if (Boolean.TRUE.equals(cacheSettings.getEnabled())) {
+      specBuilder.addFilter(new ResponseCacheFilter(getResponseCache(),
+          cacheSettings.getVaryHeaders()));
+    }
+    if (getResiliencePolicy().isHedgingEnabled()) {
+      specBuilder.addFilter(new HedgingFilter(getResiliencePolicy()));
+    }
+    if (Boolean.TRUE.equals(apiConfig.getRateLimit().getEnabled())) {
+      specBuilder.addFilter(new RateLimitFilter(getRateLimiter()));
+    }
+    specBuilder.addFilter(new RequestTimingFilter(apiSetting));
+    if (getHttpTransport() == HttpTransport.JAVA_HTTP) {
+      specBuilder.addFilter(register(new JavaHttpTransportFilter(apiConfig.getHttpClient(),
+          getContentDecoder())));
+    }
 
     return specBuilder.build();
   }
+
+  /**
+   * Key of the instances shared per service: the API setting together with the source of its
+   * configuration, compared by identity. The source is the environment snapshot the configuration
+   * was taken from, or the service itself if it has explicit settings. Services of different API
+   * settings never share instances, and a reloaded or overridden configuration gets its own
+   * client, cache, policy and limiter instead of those built for the replaced snapshot.
+   *
+   * @param apiSetting The API setting name of the service.
+   * @param source     The environment snapshot or the service with explicit settings.
+   */
+  private record ServiceKey(String apiSetting, Object source) {
+
+  }
 }
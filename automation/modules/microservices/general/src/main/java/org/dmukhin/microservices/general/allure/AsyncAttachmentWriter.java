@@ -0,0 +1,202 @@
+package org.dmukhin.microservices.general.allure;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.maven.MavenProperties;
+
+/**
+ * Utility class for writing Allure attachments in the background. The attachment is registered on
+ * the calling thread, so it belongs to the current test or step, while rendering, compression and
+ * the disk write happen on a single writer thread. Submissions wait only when the bounded queue is
+ * full; these waits are counted in {@link AttachmentWriterMetrics}. Attachments larger than the
+ * 'api.attachment.gzip.threshold.bytes' property are written gzip-compressed, the queue capacity is
+ * configured by the 'api.attachment.queue.capacity' property.
+ */
+public final class AsyncAttachmentWriter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final String GZIP_TYPE = "application/gzip";
+  private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(30);
+  private static final int GZIP_THRESHOLD = MavenProperties.getAttachmentGzipThreshold();
+  private static final BlockingQueue<Runnable> QUEUE =
+      new ArrayBlockingQueue<>(Math.max(1, MavenProperties.getAttachmentQueueCapacity()));
+
+  private static final LongAdder SUBMITTED = new LongAdder();
+  private static final LongAdder WRITTEN = new LongAdder();
+  private static final LongAdder FAILED = new LongAdder();
+  private static final LongAdder COMPRESSED = new LongAdder();
+  private static final LongAdder BYTES_WRITTEN = new LongAdder();
+  private static final LongAdder PRODUCER_WAITS = new LongAdder();
+  private static final LongAdder PRODUCER_WAIT_NANOS = new LongAdder();
+  private static final AtomicInteger MAX_QUEUE_DEPTH = new AtomicInteger();
+
+  static {
+    Thread.ofPlatform().name("allure-attachment-writer").daemon().start(
+        AsyncAttachmentWriter::drain);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_TIMEOUT),
+        "allure-attachment-flush"));
+  }
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private AsyncAttachmentWriter() {
+    // default constructor
+  }
+
+  /**
+   * Adds a text attachment to the current test or step and writes it in the background.
+   *
+   * @param name      The name of the attachment.
+   * @param type      The MIME type of the attachment.
+   * @param extension The file extension of the attachment, e.g. '.txt'.
+   * @param content   The content of the attachment.
+   */
+  public static void addAttachment(String name, String type, String extension, String content) {
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    addAttachment(name, type, extension, bytes.length, () -> bytes);
+  }
+
+  /**
+   * Adds an attachment to the current test or step whose content is rendered on the writer thread.
+   * Whether the attachment is compressed is decided up front from the estimated size, since the
+   * file name and type are registered before the content exists.
+   *
+   * @param name          The name of the attachment.
+   * @param type          The MIME type of the uncompressed attachment.
+   * @param extension     The file extension of the uncompressed attachment, e.g. '.txt'.
+   * @param estimatedSize The estimated size of the content in bytes.
+   * @param content       The supplier rendering the content, called on the writer thread.
+   */
+  public static void addAttachment(String name, String type, String extension, long estimatedSize,
+      Supplier<byte[]> content) {
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    boolean compress = estimatedSize > GZIP_THRESHOLD;
+    String source = compress
+        ? lifecycle.prepareAttachment(name + " (gzip)", GZIP_TYPE, extension + ".gz")
+        : lifecycle.prepareAttachment(name, type, extension);
+    SUBMITTED.increment();
+    enqueue(() -> write(lifecycle, source, compress, content));
+  }
+
+  /**
+   * Waits until all attachments submitted before are written.
+   *
+   * @param timeout The maximum time to wait.
+   * @return true if all attachments were written within the timeout, false otherwise.
+   */
+  public static boolean flush(Duration timeout) {
+    CountDownLatch written = new CountDownLatch(1);
+    try {
+      return QUEUE.offer(written::countDown, timeout.toMillis(), TimeUnit.MILLISECONDS)
+          && written.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Provides the current counters of the writer.
+   *
+   * @return A snapshot of the writer metrics.
+   */
+  public static AttachmentWriterMetrics getMetrics() {
+    return new AttachmentWriterMetrics(SUBMITTED.sum(), WRITTEN.sum(), FAILED.sum(),
+        COMPRESSED.sum(), BYTES_WRITTEN.sum(), PRODUCER_WAITS.sum(),
+        TimeUnit.NANOSECONDS.toMillis(PRODUCER_WAIT_NANOS.sum()), MAX_QUEUE_DEPTH.get());
+  }
+
+  /**
+   * Puts a task into the queue, waiting for room if the queue is full.
+   *
+   * @param task The task to run on the writer thread.
+   */
+  private static void enqueue(Runnable task) {
+    if (!QUEUE.offer(task)) {
+      PRODUCER_WAITS.increment();
+      long start = System.nanoTime();
+      try {
+        QUEUE.put(task);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        FAILED.increment();
+        LOGGER.warn("Interrupted while waiting for the attachment queue, attachment dropped");
+        return;
+      } finally {
+        PRODUCER_WAIT_NANOS.add(System.nanoTime() - start);
+      }
+    }
+    MAX_QUEUE_DEPTH.accumulateAndGet(QUEUE.size(), Math::max);
+  }
+
+  /**
+   * Runs the queued tasks on the writer thread until the JVM exits.
+   */
+  private static void drain() {
+    while (true) {
+      try {
+        QUEUE.take().run();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        LOGGER.error("Attachment writer task failed", e);
+      }
+    }
+  }
+
+  /**
+   * Renders, optionally compresses, and writes an attachment to the results directory.
+   *
+   * @param lifecycle The Allure lifecycle the attachment was registered with.
+   * @param source    The file name of the attachment.
+   * @param compress  Whether the attachment is written gzip-compressed.
+   * @param content   The supplier rendering the content.
+   */
+  private static void write(AllureLifecycle lifecycle, String source, boolean compress,
+      Supplier<byte[]> content) {
+    try {
+      byte[] bytes = compress ? gzip(content.get()) : content.get();
+      lifecycle.writeAttachment(source, new ByteArrayInputStream(bytes));
+      WRITTEN.increment();
+      BYTES_WRITTEN.add(bytes.length);
+      if (compress) {
+        COMPRESSED.increment();
+      }
+    } catch (IOException | RuntimeException e) {
+      FAILED.increment();
+      LOGGER.error("Failed to write attachment [{}]", source, e);
+    }
+  }
+
+  /**
+   * Compresses the given content with gzip.
+   *
+   * @param content The content to compress.
+   * @return The compressed content.
+   * @throws IOException If the content cannot be compressed.
+   */
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(content);
+    }
+    return compressed.toByteArray();
+  }
+}
@@ -0,0 +1,20 @@
+package org.dmukhin.microservices.general.allure;
+
+/**
+ * Snapshot of the counters of {@link AsyncAttachmentWriter}. Producer waits show the backpressure
+ * of the writer: they grow when attachments are submitted faster than the disk can take them.
+ *
+ * @param submitted          The number of submitted attachments.
+ * @param written            The number of written attachments.
+ * @param failed             The number of attachments which could not be written.
+ * @param compressed         The number of attachments written gzip-compressed.
+ * @param bytesWritten       The number of bytes written to the results directory.
+ * @param producerWaits      The number of submissions which had to wait for a full queue.
+ * @param producerWaitMillis The total time test threads waited for a full queue.
+ * @param maxQueueDepth      The highest number of attachments waiting in the queue.
+ */
+public record AttachmentWriterMetrics(long submitted, long written, long failed, long compressed,
+                                      long bytesWritten, long producerWaits,
+                                      long producerWaitMillis, int maxQueueDepth) {
+
+}
@@ -0,0 +1,115 @@
+package org.dmukhin.microservices.general.async;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.microservices.general.capture.ExchangeCaptureBuffer;
+import org.dmukhin.microservices.general.timing.RequestTimingWindow;
+
+/**
+ * Utility class for executing API requests asynchronously. Every request runs on its own virtual
+ * thread, while a shared semaphore bounds the number of requests in flight, so bulk operations can
+ * be submitted at once without overloading the service or the HTTP connection pool. The limit is
+ * configured by the 'api.async.max.in.flight' property. Requests submitted by a running request,
+ * e.g. the single lookups of a batch lookup, run inline on its thread and use its slot: waiting for
+ * a slot while holding one could exhaust the slots and never complete.
+ */
+public final class AsyncRequestExecutor {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+  private static final Semaphore IN_FLIGHT =
+      new Semaphore(MavenProperties.getAsyncMaxInFlight(), true);
+  private static final ThreadLocal<Boolean> IN_REQUEST = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private AsyncRequestExecutor() {
+    // default constructor
+  }
+
+  /**
+   * Submits a request for asynchronous execution. The request waits for a free in-flight slot on
+   * its worker thread, so the caller is never blocked. The Allure test case and the exchange capture
+   * buffer of the caller are propagated to the worker thread, so steps, attachments and captured
+   * exchanges of the request are reported with the test. A request submitted by a running request
+   * is executed inline on the calling thread, in the slot of the running request.
+   *
+   * @param request The request to execute.
+   * @param <T>     The type of the request result.
+   * @return A CompletableFuture completed with the result of the request.
+   */
+  public static <T> CompletableFuture<T> submit(Supplier<T> request) {
+    if (IN_REQUEST.get()) {
+      LOGGER.debug("Execute nested asynchronous request inline");
+      try {
+        return CompletableFuture.completedFuture(request.get());
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+    Supplier<T> boundRequest = withCallerContext(request);
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        IN_FLIGHT.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CompletionException("Interrupted while waiting for an in-flight slot", e);
+      }
+      IN_REQUEST.set(true);
+      try {
+        return boundRequest.get();
+      } finally {
+        IN_REQUEST.set(false);
+        IN_FLIGHT.release();
+      }
+    }, EXECUTOR);
+  }
+
+  /**
+   * Wraps a request, so it runs in the context of the calling thread on any other thread: the
+   * Allure test case, the exchange capture buffer and the request timing window of the caller are
+   * bound before the request starts.
+   *
+   * @param request The request to wrap.
+   * @param <T>     The type of the request result.
+   * @return The request bound to the context of the calling thread.
+   */
+  public static <T> Supplier<T> withCallerContext(Supplier<T> request) {
+    AllureLifecycle lifecycle = Allure.getLifecycle();
+    Optional<String> testCase = lifecycle.getCurrentTestCase();
+    ExchangeCaptureBuffer captureBuffer = ExchangeCaptureBuffer.current();
+    RequestTimingWindow timingWindow = RequestTimingWindow.current();
+    return () -> {
+      testCase.ifPresent(lifecycle::setCurrentTestCase);
+      ExchangeCaptureBuffer.bind(captureBuffer);
+      RequestTimingWindow.bind(timingWindow);
+      return request.get();
+    };
+  }
+
+  /**
+   * Combines a list of futures into a single future of their results. The results keep the order of
+   * the given futures; the combined future completes exceptionally if any of them fails.
+   *
+   * @param futures The futures to combine.
+   * @param <T>     The type of the results.
+   * @return A CompletableFuture completed with the list of results.
+   */
+  public static <T> CompletableFuture<List<T>> allOf(List<CompletableFuture<T>> futures) {
+    LOGGER.debug("Wait for [{}] asynchronous requests", futures.size());
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+  }
+}
@@ -0,0 +1,37 @@
+package org.dmukhin.microservices.general.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of looking up several elements by ID. Results keep the order of the requested IDs; an ID
+ * which could not be retrieved has a null result and its failure, e.g. the AssertionError of an
+ * unexpected status, in the failures.
+ *
+ * @param ids      The requested IDs.
+ * @param results  The retrieved elements at the positions of their IDs, null for failed IDs.
+ * @param failures The failures by ID in the order of the requested IDs.
+ * @param <I>      The type of the IDs.
+ * @param <T>      The type of the elements.
+ */
+public record BatchLookupResult<I, T>(List<I> ids, List<T> results, Map<I, Throwable> failures) {
+
+  /**
+   * Checks whether any ID could not be retrieved.
+   *
+   * @return true if there are failures, false otherwise.
+   */
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+
+  /**
+   * Provides the retrieved elements without the gaps of failed IDs.
+   *
+   * @return The retrieved elements in the order of their IDs.
+   */
+  public List<T> found() {
+    return results.stream().filter(Objects::nonNull).toList();
+  }
+}
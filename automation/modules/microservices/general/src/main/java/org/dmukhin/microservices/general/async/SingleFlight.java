@@ -0,0 +1,87 @@
+package org.dmukhin.microservices.general.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Coalesces concurrent identical calls: while a call for a key is in flight, further callers with
+ * the same key wait for it and receive its result instead of starting their own call. Nothing is
+ * kept once the call completes, so a later caller starts a new call. The call runs on the thread of
+ * the first caller, so its steps and attachments are reported with that caller's test.
+ */
+public class SingleFlight {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+      new ConcurrentHashMap<>();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+
+  /**
+   * Executes a call or joins the call already in flight for the same key. If the call fails, all
+   * callers waiting for it receive the same exception.
+   *
+   * @param key  The key identifying identical calls, e.g. the request path.
+   * @param call The call to execute.
+   * @param <T>  The type of the call result; all calls with the same key must return this type.
+   * @return The result of the call, shared by all callers which joined it.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, Supplier<T> call) {
+    CompletableFuture<Object> own = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, own);
+    if (running != null) {
+      coalesced.increment();
+      LOGGER.debug("Join call in flight [{}]", key);
+      return (T) join(running);
+    }
+    executions.increment();
+    try {
+      T result = call.get();
+      own.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, own);
+    }
+  }
+
+  /**
+   * Provides the current counters of the coalescing.
+   *
+   * @return A snapshot of the single-flight metrics.
+   */
+  public SingleFlightMetrics getMetrics() {
+    return new SingleFlightMetrics(executions.sum(), coalesced.sum());
+  }
+
+  /**
+   * Waits for a call in flight and rethrows its failure unwrapped, so joined callers see the same
+   * exception, e.g. the AssertionError of an unexpected status, as the caller executing the call.
+   *
+   * @param running The future of the call in flight.
+   * @return The result of the call.
+   */
+  private static Object join(CompletableFuture<Object> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
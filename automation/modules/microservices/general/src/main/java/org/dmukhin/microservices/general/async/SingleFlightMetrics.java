@@ -0,0 +1,12 @@
+package org.dmukhin.microservices.general.async;
+
+/**
+ * Snapshot of the counters of a {@link SingleFlight}. Every coalesced call is a request which was
+ * neither sent nor parsed.
+ *
+ * @param executions The number of calls executed.
+ * @param coalesced  The number of callers which joined a call in flight instead.
+ */
+public record SingleFlightMetrics(long executions, long coalesced) {
+
+}
@@ -0,0 +1,59 @@
+package org.dmukhin.microservices.general.cache;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+/**
+ * Cached GET response. The response is kept with its body read into memory; every use gets its own
+ * copy, since REST Assured responses are not safe to share between threads.
+ *
+ * @param resource       The requested URI without query, used for invalidation.
+ * @param response       The cached response.
+ * @param etag           The ETag of the response, or null if it has none.
+ * @param size           The size of the response body in bytes.
+ * @param storedAtNanos  The time the response was stored or last revalidated.
+ */
+record CachedResponse(String resource, Response response, String etag, int size,
+                      long storedAtNanos) {
+
+  /**
+   * Creates a cache entry from a response, reading its body.
+   *
+   * @param resource The requested URI without query.
+   * @param response The response to cache.
+   * @return The new cache entry.
+   */
+  static CachedResponse of(String resource, Response response) {
+    byte[] body = response.asByteArray();
+    return new CachedResponse(resource, response, response.getHeader("ETag"), body.length,
+        System.nanoTime());
+  }
+
+  /**
+   * Checks whether the entry can be used without asking the service.
+   *
+   * @param ttlNanos The time to live of entries in nanoseconds.
+   * @return true if the entry is younger than the time to live, false otherwise.
+   */
+  boolean isFresh(long ttlNanos) {
+    return System.nanoTime() - storedAtNanos < ttlNanos;
+  }
+
+  /**
+   * Creates a copy of the entry which is fresh again, after the service confirmed it.
+   *
+   * @return The revalidated entry.
+   */
+  CachedResponse revalidated() {
+    return new CachedResponse(resource, response, etag, size, System.nanoTime());
+  }
+
+  /**
+   * Creates a copy of the cached response for a single request.
+   *
+   * @return A new response with the cached status, headers and body.
+   */
+  Response toResponse() {
+    return new ResponseBuilder().clone(response).build();
+  }
+}
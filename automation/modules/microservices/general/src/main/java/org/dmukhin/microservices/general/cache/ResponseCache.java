@@ -0,0 +1,160 @@
+package org.dmukhin.microservices.general.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.dmukhin.general.config.environment.models.ResponseCacheSettingsDto;
+
+/**
+ * Size-bounded LRU cache of GET responses, shared by all threads and endpoints of a service. The
+ * least recently used entries are evicted once the number of entries or the total size of the
+ * cached bodies exceeds its limit. Access is synchronized; it is negligible compared to an HTTP
+ * request.
+ */
+public class ResponseCache {
+
+  private final boolean enabled;
+  private final long ttlNanos;
+  private final int maxEntries;
+  private final long maxBytes;
+  private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder revalidations = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  /**
+   * Constructor for ResponseCache.
+   *
+   * @param settings The response cache settings of the service.
+   */
+  public ResponseCache(ResponseCacheSettingsDto settings) {
+    this.enabled = Boolean.TRUE.equals(settings.getEnabled());
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(settings.getTtlMillis());
+    this.maxEntries = settings.getMaxEntries();
+    this.maxBytes = settings.getMaxBytes();
+  }
+
+  /**
+   * Checks whether the cache is enabled in the settings of the service, i.e. whether GET requests
+   * are answered from it.
+   *
+   * @return true if the cache is enabled, false otherwise.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Removes all entries from the cache. The counters are kept.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    bytes = 0;
+  }
+
+  /**
+   * Provides the current counters of the cache.
+   *
+   * @return A snapshot of the cache metrics.
+   */
+  public ResponseCacheMetrics getMetrics() {
+    int entryCount;
+    long byteCount;
+    synchronized (this) {
+      entryCount = entries.size();
+      byteCount = bytes;
+    }
+    return new ResponseCacheMetrics(hits.sum(), revalidations.sum(), misses.sum(),
+        evictions.sum(), invalidations.sum(), entryCount, byteCount);
+  }
+
+  /**
+   * Retrieves the time a cached response is used without asking the service.
+   *
+   * @return The time to live in nanoseconds.
+   */
+  long getTtlNanos() {
+    return ttlNanos;
+  }
+
+  /**
+   * Retrieves an entry and marks it as recently used.
+   *
+   * @param key The cache key.
+   * @return The entry, or null if there is none.
+   */
+  synchronized CachedResponse get(String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Stores an entry and evicts the least recently used entries above the limits. Entries larger
+   * than the size limit are not stored.
+   *
+   * @param key   The cache key.
+   * @param entry The entry to store.
+   */
+  synchronized void put(String key, CachedResponse entry) {
+    if (entry.size() > maxBytes) {
+      return;
+    }
+    CachedResponse previous = entries.put(key, entry);
+    if (previous != null) {
+      bytes -= previous.size();
+    }
+    bytes += entry.size();
+    Iterator<CachedResponse> leastRecentlyUsed = entries.values().iterator();
+    while ((entries.size() > maxEntries || bytes > maxBytes) && leastRecentlyUsed.hasNext()) {
+      bytes -= leastRecentlyUsed.next().size();
+      leastRecentlyUsed.remove();
+      evictions.increment();
+    }
+  }
+
+  /**
+   * Removes the entries of a modified resource: the resource itself, its sub-resources and its
+   * parent collection, e.g. '/users/9', '/users/9/posts' and '/users' for a change of '/users/9'.
+   *
+   * @param resource The modified URI without query.
+   */
+  synchronized void invalidate(String resource) {
+    String parent = resource.substring(0, Math.max(0, resource.lastIndexOf('/')));
+    Iterator<CachedResponse> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      CachedResponse entry = iterator.next();
+      if (entry.resource().equals(resource) || entry.resource().equals(parent)
+          || entry.resource().startsWith(resource + "/")) {
+        bytes -= entry.size();
+        iterator.remove();
+        invalidations.increment();
+      }
+    }
+  }
+
+  /**
+   * Counts a request answered from the cache.
+   */
+  void recordHit() {
+    hits.increment();
+  }
+
+  /**
+   * Counts a stale entry confirmed by the service.
+   */
+  void recordRevalidation() {
+    revalidations.increment();
+  }
+
+  /**
+   * Counts a request answered by the service.
+   */
+  void recordMiss() {
+    misses.increment();
+  }
+}
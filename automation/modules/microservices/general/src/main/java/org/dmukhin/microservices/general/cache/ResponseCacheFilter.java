@@ -0,0 +1,142 @@
+package org.dmukhin.microservices.general.cache;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.microservices.general.http.StreamedResponseFilter;
+
+/**
+ * REST Assured filter answering GET requests from a {@link ResponseCache}. Responses are keyed by
+ * method, resolved URI and the configured vary headers. Fresh entries are returned without a
+ * request; stale entries with an ETag are revalidated with 'If-None-Match' and reused on 304 Not
+ * Modified. Requests with 'Cache-Control: no-cache' are always sent, and their response replaces
+ * the entry. Only 200 responses without 'Cache-Control: no-store' are cached. Any other method
+ * invalidates the entries of the modified resource. Streamed requests, see
+ * {@link StreamedResponseFilter}, bypass the cache, as caching reads the whole body.
+ */
+public class ResponseCacheFilter implements Filter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final int NOT_MODIFIED = 304;
+  private static final int OK = 200;
+
+  private final ResponseCache cache;
+  private final List<String> varyHeaders;
+
+  /**
+   * Constructor for ResponseCacheFilter.
+   *
+   * @param cache       The cache of the service.
+   * @param varyHeaders The request headers which are part of the cache key.
+   */
+  public ResponseCacheFilter(ResponseCache cache, List<String> varyHeaders) {
+    this.cache = cache;
+    this.varyHeaders = List.copyOf(varyHeaders);
+  }
+
+  /**
+   * Answers GET requests from the cache if possible and invalidates entries on modifications.
+   * Streamed requests are passed on unchanged.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The cached or the received response.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    if (StreamedResponseFilter.isStreamed(ctx)) {
+      return ctx.next(requestSpec, responseSpec);
+    }
+    String method = requestSpec.getMethod();
+    String resource = resourceOf(requestSpec.getURI());
+    if (!"GET".equals(method)) {
+      Response response = ctx.next(requestSpec, responseSpec);
+      if (!"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+        cache.invalidate(resource);
+      }
+      return response;
+    }
+
+    String key = cacheKey(requestSpec);
+    CachedResponse cached = isNoCache(requestSpec) ? null : cache.get(key);
+    if (cached != null && cached.isFresh(cache.getTtlNanos())) {
+      cache.recordHit();
+      LOGGER.debug("Response cache hit [{}]", key);
+      return cached.toResponse();
+    }
+    if (cached != null && cached.etag() != null) {
+      requestSpec.header("If-None-Match", cached.etag());
+    }
+    Response response = ctx.next(requestSpec, responseSpec);
+    if (cached != null && response.statusCode() == NOT_MODIFIED) {
+      cache.put(key, cached.revalidated());
+      cache.recordRevalidation();
+      LOGGER.debug("Response cache entry revalidated [{}]", key);
+      return cached.toResponse();
+    }
+    cache.recordMiss();
+    if (response.statusCode() == OK && !isNoStore(response)) {
+      cache.put(key, CachedResponse.of(resource, response));
+    }
+    return response;
+  }
+
+  /**
+   * Creates the cache key of a request from its method, URI and vary headers.
+   *
+   * @param requestSpec The request specification.
+   * @return The cache key.
+   */
+  private String cacheKey(FilterableRequestSpecification requestSpec) {
+    StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ')
+        .append(requestSpec.getURI());
+    for (String header : varyHeaders) {
+      String value = requestSpec.getHeaders().getValue(header);
+      if (value != null) {
+        key.append('\n').append(header).append(':').append(value);
+      }
+    }
+    return key.toString();
+  }
+
+  /**
+   * Checks whether the request must be sent to the service instead of being answered from the
+   * cache.
+   *
+   * @param requestSpec The request specification.
+   * @return true if the request has 'Cache-Control: no-cache', false otherwise.
+   */
+  private static boolean isNoCache(FilterableRequestSpecification requestSpec) {
+    String cacheControl = requestSpec.getHeaders().getValue("Cache-Control");
+    return cacheControl != null && cacheControl.contains("no-cache");
+  }
+
+  /**
+   * Checks whether the service forbids storing the response.
+   *
+   * @param response The response.
+   * @return true if the response has 'Cache-Control: no-store', false otherwise.
+   */
+  private static boolean isNoStore(Response response) {
+    String cacheControl = response.getHeader("Cache-Control");
+    return cacheControl != null && cacheControl.contains("no-store");
+  }
+
+  /**
+   * Removes the query from a URI.
+   *
+   * @param uri The URI.
+   * @return The URI without query.
+   */
+  private static String resourceOf(String uri) {
+    int query = uri.indexOf('?');
+    return query < 0 ? uri : uri.substring(0, query);
+  }
+}
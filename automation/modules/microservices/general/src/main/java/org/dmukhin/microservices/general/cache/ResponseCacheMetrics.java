@@ -0,0 +1,29 @@
+package org.dmukhin.microservices.general.cache;
+
+/**
+ * Snapshot of the counters of a {@link ResponseCache}.
+ *
+ * @param hits          The number of GET requests answered from the cache without a request.
+ * @param revalidations The number of stale entries confirmed by the service with 304 Not Modified.
+ * @param misses        The number of GET requests answered by the service.
+ * @param evictions     The number of entries evicted to stay within the entry and size limits.
+ * @param invalidations The number of entries removed because their resource was modified.
+ * @param entries       The current number of entries.
+ * @param bytes         The current total size of the cached bodies.
+ */
+public record ResponseCacheMetrics(long hits, long revalidations, long misses, long evictions,
+                                   long invalidations, int entries, long bytes) {
+
+  /**
+   * Calculates the counters accumulated since an earlier snapshot of the same cache. The entries
+   * and bytes are the current ones.
+   *
+   * @param earlier The earlier snapshot.
+   * @return The difference between this snapshot and the earlier one.
+   */
+  public ResponseCacheMetrics since(ResponseCacheMetrics earlier) {
+    return new ResponseCacheMetrics(hits - earlier.hits, revalidations - earlier.revalidations,
+        misses - earlier.misses, evictions - earlier.evictions,
+        invalidations - earlier.invalidations, entries, bytes);
+  }
+}
@@ -0,0 +1,50 @@
+package org.dmukhin.microservices.general.capture;
+
+import org.dmukhin.general.config.maven.MavenProperties;
+
+/**
+ * Enum representing how HTTP exchanges are reported. The mode is configured by the
+ * 'api.capture.mode' property.
+ */
+public enum CaptureMode {
+
+  /**
+   * Every exchange is logged to the console and attached to the Allure report.
+   */
+  ALWAYS("always"),
+
+  /**
+   * Exchanges are captured per test and reported only if the test fails or is sampled.
+   */
+  ON_FAILURE("on-failure");
+
+  private final String property;
+
+  /**
+   * Constructor for CaptureMode enum.
+   *
+   * @param property The value of the mode in the 'api.capture.mode' property.
+   */
+  CaptureMode(String property) {
+    this.property = property;
+  }
+
+  /**
+   * Retrieves the configured capture mode.
+   *
+   * @return The mode of the 'api.capture.mode' property, or ON_FAILURE when it is not set.
+   * @throws IllegalStateException If the property has an unknown value.
+   */
+  public static CaptureMode current() {
+    String mode = MavenProperties.getCaptureMode();
+    if (mode == null || mode.isBlank()) {
+      return ON_FAILURE;
+    }
+    for (CaptureMode captureMode : values()) {
+      if (captureMode.property.equalsIgnoreCase(mode.trim())) {
+        return captureMode;
+      }
+    }
+    throw new IllegalStateException("Unknown capture mode: " + mode);
+  }
+}
@@ -0,0 +1,101 @@
+package org.dmukhin.microservices.general.capture;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.DtoConverter;
+
+/**
+ * Body of a captured HTTP exchange. The body is kept as the bytes sent or received, together with
+ * its data format; Smile and CBOR bodies are transcoded to JSON text only when the exchange is
+ * rendered for a report. A body can be limited to a prefix of its bytes, so a buffer of exchanges
+ * does not hold every body in full.
+ *
+ * @param bytes  The captured bytes of the body, the whole body or a prefix of it.
+ * @param length The length of the whole body in bytes.
+ * @param format The data format of the body.
+ */
+public record CapturedBody(byte[] bytes, int length, DataFormat format) {
+
+  /**
+   * Captures a body received or sent as bytes.
+   *
+   * @param body   The body, may be null.
+   * @param format The data format of the body.
+   * @return The captured body, or null if there is no body.
+   */
+  static CapturedBody of(byte[] body, DataFormat format) {
+    return body == null ? null : new CapturedBody(body, body.length, format);
+  }
+
+  /**
+   * Captures a request body as set on the request specification.
+   *
+   * @param body   The request body, a string or a byte array, may be null.
+   * @param format The data format of the body.
+   * @return The captured body, or null if there is no body.
+   */
+  static CapturedBody ofRequestBody(Object body, DataFormat format) {
+    if (body instanceof byte[] bytes) {
+      return of(bytes, format);
+    }
+    return body == null ? null
+        : of(String.valueOf(body).getBytes(StandardCharsets.UTF_8), format);
+  }
+
+  /**
+   * Retrieves the number of captured bytes.
+   *
+   * @return The number of bytes kept.
+   */
+  public int size() {
+    return bytes.length;
+  }
+
+  /**
+   * Checks whether only a prefix of the body was kept.
+   *
+   * @return true if the body is longer than the captured bytes, false otherwise.
+   */
+  public boolean isTruncated() {
+    return bytes.length < length;
+  }
+
+  /**
+   * Limits the body to a prefix of its bytes.
+   *
+   * @param limit The maximum number of bytes to keep.
+   * @return This body if it is within the limit, otherwise a body with a copy of its prefix.
+   */
+  public CapturedBody limitedTo(int limit) {
+    return bytes.length <= limit ? this
+        : new CapturedBody(Arrays.copyOf(bytes, limit), length, format);
+  }
+
+  /**
+   * Renders the body as text, transcoding Smile and CBOR bodies to JSON. The prefix of a truncated
+   * binary body is transcoded up to the last complete token.
+   *
+   * @return The body as text.
+   */
+  public String toText() {
+    if (!format.isBinary() || !isTruncated()) {
+      return DtoConverter.bytesToJsonString(bytes, format);
+    }
+    StringWriter json = new StringWriter(bytes.length * 2);
+    try (JsonParser parser = format.getFactory().createParser(bytes);
+        JsonGenerator generator = DataFormat.JSON.getFactory().createGenerator(json)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+      while (parser.nextToken() != null) {
+        generator.copyCurrentEvent(parser);
+      }
+    } catch (IOException e) {
+      // the prefix ends within a token, the tokens before it are rendered
+    }
+    return json.toString();
+  }
+}
@@ -0,0 +1,142 @@
+package org.dmukhin.microservices.general.capture;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.dmukhin.general.config.maven.MavenProperties;
+
+/**
+ * Bounded ring buffer of the HTTP exchanges of a test. When the buffer is full, the oldest exchange
+ * is dropped. Only the latest exchange keeps its bodies in full, usually the one a failing
+ * assertion is about; the bodies of older exchanges are cut to a prefix, so a passing test does not
+ * hold every body it received. Each thread records into its current buffer; asynchronous requests
+ * are bound to the buffer of the submitting thread, therefore recording is synchronized. The
+ * capacity is configured by the 'api.capture.buffer.size' property, the prefix by the
+ * 'api.capture.body.limit.bytes' property. Threads which are not part of a test, e.g. the workers
+ * of a load run, are bound to the {@link #discarding()} buffer, so their exchanges are not
+ * captured at all.
+ */
+public class ExchangeCaptureBuffer {
+
+  private static final int CAPACITY = Math.max(1, MavenProperties.getCaptureBufferSize());
+  private static final int BODY_LIMIT = Math.max(0, MavenProperties.getCaptureBodyLimit());
+  private static final ThreadLocal<ExchangeCaptureBuffer> CURRENT =
+      ThreadLocal.withInitial(ExchangeCaptureBuffer::new);
+  private static final ExchangeCaptureBuffer DISCARDING = new ExchangeCaptureBuffer(true);
+
+  private final Deque<HttpExchangeRecord> exchanges;
+  private final boolean discarding;
+  private int dropped;
+
+  /**
+   * Constructor for ExchangeCaptureBuffer.
+   */
+  public ExchangeCaptureBuffer() {
+    this(false);
+  }
+
+  /**
+   * Constructor for ExchangeCaptureBuffer.
+   *
+   * @param discarding Whether the buffer discards the exchanges instead of recording them.
+   */
+  private ExchangeCaptureBuffer(boolean discarding) {
+    this.discarding = discarding;
+    this.exchanges = new ArrayDeque<>(discarding ? 0 : CAPACITY);
+  }
+
+  /**
+   * Provides the buffer of the current thread, creating it on first use.
+   *
+   * @return The buffer of the current thread.
+   */
+  public static ExchangeCaptureBuffer current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Binds the current thread to the given buffer, e.g. a worker thread to the buffer of the test
+   * which submitted the request.
+   *
+   * @param buffer The buffer to record into.
+   */
+  public static void bind(ExchangeCaptureBuffer buffer) {
+    CURRENT.set(buffer);
+  }
+
+  /**
+   * Starts a new, empty buffer for the current thread and returns it.
+   *
+   * @return The new buffer of the current thread.
+   */
+  public static ExchangeCaptureBuffer reset() {
+    ExchangeCaptureBuffer buffer = new ExchangeCaptureBuffer();
+    CURRENT.set(buffer);
+    return buffer;
+  }
+
+  /**
+   * Provides the shared buffer which discards every exchange. The capture filter does not record
+   * the exchanges of threads bound to it.
+   *
+   * @return The discarding buffer.
+   */
+  public static ExchangeCaptureBuffer discarding() {
+    return DISCARDING;
+  }
+
+  /**
+   * Checks whether the buffer discards the exchanges instead of recording them.
+   *
+   * @return true if this is the discarding buffer, false otherwise.
+   */
+  public boolean isDiscarding() {
+    return discarding;
+  }
+
+  /**
+   * Removes the buffer of the current thread, so the captured exchanges can be garbage collected.
+   */
+  public static void unload() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Records an exchange, dropping the oldest one if the buffer is full. The bodies of the exchange
+   * recorded before are cut to the body limit. The discarding buffer ignores the exchange.
+   *
+   * @param exchange The exchange to record.
+   */
+  public synchronized void add(HttpExchangeRecord exchange) {
+    if (discarding) {
+      return;
+    }
+    HttpExchangeRecord previous = exchanges.pollLast();
+    if (previous != null) {
+      exchanges.addLast(previous.withBodiesLimitedTo(BODY_LIMIT));
+    }
+    if (exchanges.size() == CAPACITY) {
+      exchanges.removeFirst();
+      dropped++;
+    }
+    exchanges.addLast(exchange);
+  }
+
+  /**
+   * Retrieves the recorded exchanges.
+   *
+   * @return A copy of the recorded exchanges, oldest first.
+   */
+  public synchronized List<HttpExchangeRecord> getExchanges() {
+    return List.copyOf(exchanges);
+  }
+
+  /**
+   * Retrieves the number of exchanges dropped because the buffer was full.
+   *
+   * @return The number of dropped exchanges.
+   */
+  public synchronized int getDropped() {
+    return dropped;
+  }
+}
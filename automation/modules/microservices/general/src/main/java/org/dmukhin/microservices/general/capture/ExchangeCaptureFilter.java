@@ -0,0 +1,112 @@
+package org.dmukhin.microservices.general.capture;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.microservices.general.http.StreamedResponseFilter;
+
+/**
+ * REST Assured filter which records every exchange into the capture buffer of the current thread
+ * instead of printing it. Only a one-line summary is logged on debug level; the full exchange is
+ * rendered by {@link ExchangeCaptureReporter} when the test fails or is sampled. Alternatively the
+ * filter attaches every exchange to the Allure report right away. Bodies are recorded as bytes;
+ * Smile and CBOR bodies are transcoded to JSON text only when the exchange is rendered. The
+ * response bodies of streamed requests are not read, only their status line and headers are
+ * recorded. Threads bound to the {@link ExchangeCaptureBuffer#discarding()} buffer are not
+ * recorded, neither into a buffer nor as attachments; their response bodies are still read, so
+ * their connections are returned to the pool.
+ */
+public class ExchangeCaptureFilter implements Filter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private final Consumer<HttpExchangeRecord> sink;
+
+  /**
+   * Constructor for ExchangeCaptureFilter recording into the capture buffer of the current thread.
+   */
+  public ExchangeCaptureFilter() {
+    this(exchange -> ExchangeCaptureBuffer.current().add(exchange));
+  }
+
+  /**
+   * Constructor for ExchangeCaptureFilter.
+   *
+   * @param sink The consumer of the recorded exchanges.
+   */
+  private ExchangeCaptureFilter(Consumer<HttpExchangeRecord> sink) {
+    this.sink = sink;
+  }
+
+  /**
+   * Creates a filter which attaches every exchange to the current Allure test or step through the
+   * asynchronous attachment writer.
+   *
+   * @return A new ExchangeCaptureFilter attaching every exchange.
+   */
+  public static ExchangeCaptureFilter attachingEveryExchange() {
+    return new ExchangeCaptureFilter(ExchangeCaptureReporter::attach);
+  }
+
+  /**
+   * Executes the request and records the exchange, also if the request fails without response.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The response of the request.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    if (ExchangeCaptureBuffer.current().isDiscarding()) {
+      Response response = ctx.next(requestSpec, responseSpec);
+      if (!StreamedResponseFilter.isStreamed(ctx)) {
+        // REST Assured reads bodies lazily; a pooled connection is released only once its body
+        // is read, and capturing was what read the bodies of responses checked by status only
+        response.asByteArray();
+      }
+      return response;
+    }
+    long start = System.nanoTime();
+    Response response;
+    try {
+      response = ctx.next(requestSpec, responseSpec);
+    } catch (RuntimeException e) {
+      record(requestSpec, "Failed: " + e, "", null, start);
+      throw e;
+    }
+    record(requestSpec, response.getStatusLine(), String.valueOf(response.getHeaders()),
+        StreamedResponseFilter.isStreamed(ctx) ? null : CapturedBody.of(response.asByteArray(),
+            DataFormat.ofContentType(response.getContentType())), start);
+    return response;
+  }
+
+  /**
+   * Records the exchange and passes it to the sink of the filter.
+   *
+   * @param requestSpec     The request specification.
+   * @param statusLine      The status line of the response, or the failure.
+   * @param responseHeaders The headers of the response.
+   * @param responseBody    The body of the response.
+   * @param start           The start of the exchange in nanoseconds.
+   */
+  private void record(FilterableRequestSpecification requestSpec, String statusLine,
+      String responseHeaders, CapturedBody responseBody, long start) {
+    long timeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    LOGGER.debug("{} {} -> {} in {} ms", requestSpec.getMethod(), requestSpec.getURI(), statusLine,
+        timeMillis);
+    sink.accept(new HttpExchangeRecord(requestSpec.getMethod(),
+        requestSpec.getURI(), String.valueOf(requestSpec.getHeaders()),
+        CapturedBody.ofRequestBody(requestSpec.getBody(),
+            DataFormat.ofContentType(requestSpec.getContentType())),
+        statusLine, responseHeaders, responseBody, timeMillis));
+  }
+}
@@ -0,0 +1,151 @@
+package org.dmukhin.microservices.general.capture;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+import org.dmukhin.microservices.general.allure.AsyncAttachmentWriter;
+
+/**
+ * Utility class for reporting captured HTTP exchanges. Each exchange is rendered as plain text with
+ * pretty-printed JSON bodies, Smile and CBOR bodies transcoded to JSON, and attached to the current Allure test case through
+ * {@link AsyncAttachmentWriter}, so the disk write does not delay the test.
+ */
+public final class ExchangeCaptureReporter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final String TEXT_TYPE = "text/plain";
+  private static final String TEXT_EXTENSION = ".txt";
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private ExchangeCaptureReporter() {
+    // default constructor
+  }
+
+  /**
+   * Attaches an exchange to the current Allure test or step. The exchange is rendered on the
+   * attachment writer thread.
+   *
+   * @param exchange The exchange to attach.
+   */
+  public static void attach(HttpExchangeRecord exchange) {
+    AsyncAttachmentWriter.addAttachment(attachmentName(exchange), TEXT_TYPE, TEXT_EXTENSION,
+        estimateSize(exchange), () -> render(exchange).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reports the exchanges recorded in the given buffer: logs and attaches them.
+   *
+   * @param buffer The buffer of the test.
+   * @param reason The reason of the report, e.g. 'failed' or 'sampled'.
+   */
+  public static void report(ExchangeCaptureBuffer buffer, String reason) {
+    List<HttpExchangeRecord> exchanges = buffer.getExchanges();
+    if (exchanges.isEmpty()) {
+      return;
+    }
+    if (buffer.getDropped() > 0) {
+      LOGGER.info("[{}] older HTTP exchanges were dropped from the capture buffer",
+          buffer.getDropped());
+    }
+    for (HttpExchangeRecord exchange : exchanges) {
+      String rendered = render(exchange);
+      LOGGER.info("HTTP exchange of {} test:{}{}", reason, System.lineSeparator(), rendered);
+      AsyncAttachmentWriter.addAttachment(attachmentName(exchange), TEXT_TYPE, TEXT_EXTENSION,
+          rendered);
+    }
+  }
+
+  /**
+   * Renders an exchange as plain text.
+   *
+   * @param exchange The exchange to render.
+   * @return The rendered exchange.
+   */
+  public static String render(HttpExchangeRecord exchange) {
+    String separator = System.lineSeparator();
+    StringBuilder rendered = new StringBuilder()
+        .append("--> ").append(exchange.method()).append(' ').append(exchange.uri())
+        .append(separator).append(exchange.requestHeaders()).append(separator);
+    appendBody(rendered, exchange.requestBody());
+    rendered.append(separator)
+        .append("<-- ").append(exchange.statusLine())
+        .append(" (").append(exchange.timeMillis()).append(" ms)")
+        .append(separator).append(exchange.responseHeaders()).append(separator);
+    appendBody(rendered, exchange.responseBody());
+    return rendered.toString();
+  }
+
+  /**
+   * Creates the attachment name of an exchange.
+   *
+   * @param exchange The exchange.
+   * @return The attachment name, e.g. 'GET http://host/users/1 -> HTTP/1.1 200 OK'.
+   */
+  private static String attachmentName(HttpExchangeRecord exchange) {
+    return "%s %s -> %s".formatted(exchange.method(), exchange.uri(), exchange.statusLine());
+  }
+
+  /**
+   * Estimates the size of the rendered exchange from its raw parts.
+   *
+   * @param exchange The exchange.
+   * @return The estimated size in bytes.
+   */
+  private static long estimateSize(HttpExchangeRecord exchange) {
+    return length(exchange.requestHeaders()) + size(exchange.requestBody())
+        + length(exchange.responseHeaders()) + size(exchange.responseBody());
+  }
+
+  /**
+   * Retrieves the length of a nullable string.
+   *
+   * @param value The string.
+   * @return The length of the string, or 0 if it is null.
+   */
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  /**
+   * Retrieves the size of a nullable captured body.
+   *
+   * @param body The captured body.
+   * @return The size of the body in bytes, or 0 if it is null.
+   */
+  private static int size(CapturedBody body) {
+    return body == null ? 0 : body.size();
+  }
+
+  /**
+   * Appends a body, pretty-printed if it is complete JSON. A truncated body is appended as far as it
+   * was captured, followed by its size.
+   *
+   * @param rendered The rendered exchange to append to.
+   * @param captured The body to append, may be null or empty.
+   */
+  private static void appendBody(StringBuilder rendered, CapturedBody captured) {
+    if (captured == null || captured.size() == 0) {
+      return;
+    }
+    String body = captured.toText();
+    if (captured.isTruncated()) {
+      rendered.append(System.lineSeparator()).append(body).append(System.lineSeparator())
+          .append("[truncated, ").append(captured.size()).append(" of ").append(captured.length())
+          .append(" bytes captured]").append(System.lineSeparator());
+      return;
+    }
+    String prettyBody;
+    try {
+      prettyBody = ObjectMapperRegistry.prettyWriter()
+          .writeValueAsString(ObjectMapperRegistry.mapper().readTree(body));
+    } catch (JsonProcessingException e) {
+      prettyBody = body;
+    }
+    rendered.append(System.lineSeparator()).append(prettyBody).append(System.lineSeparator());
+  }
+}
@@ -0,0 +1,32 @@
+package org.dmukhin.microservices.general.capture;
+
+/**
+ * Captured HTTP request and its response. Headers and bodies are kept as received and rendered only
+ * when the exchange is reported. The response body of a streamed request is not captured.
+ *
+ * @param method          The HTTP method of the request.
+ * @param uri             The URI of the request.
+ * @param requestHeaders  The headers of the request.
+ * @param requestBody     The body of the request, or null if it has none.
+ * @param statusLine      The status line of the response, or the failure if there is no response.
+ * @param responseHeaders The headers of the response.
+ * @param responseBody    The body of the response, or null if it has none or was streamed.
+ * @param timeMillis      The duration of the exchange in milliseconds.
+ */
+public record HttpExchangeRecord(String method, String uri, String requestHeaders,
+                                 CapturedBody requestBody, String statusLine,
+                                 String responseHeaders, CapturedBody responseBody,
+                                 long timeMillis) {
+
+  /**
+   * Limits the request and response bodies of the exchange to a prefix of their bytes.
+   *
+   * @param limit The maximum number of bytes kept per body.
+   * @return The exchange with limited bodies.
+   */
+  public HttpExchangeRecord withBodiesLimitedTo(int limit) {
+    return new HttpExchangeRecord(method, uri, requestHeaders,
+        requestBody == null ? null : requestBody.limitedTo(limit), statusLine, responseHeaders,
+        responseBody == null ? null : responseBody.limitedTo(limit), timeMillis);
+  }
+}
@@ -0,0 +1,63 @@
+package org.dmukhin.microservices.general.codec;
+
+import io.restassured.mapper.ObjectMapper;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+import java.io.IOException;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+
+/**
+ * REST Assured object mapper for services exchanging bodies in a binary {@link DataFormat}.
+ * Response bodies are read in the format of their 'Content-Type', so a service answering a binary
+ * 'Accept' with JSON, e.g. for an error, is still understood. Bodies are bound by the shared readers
+ * of {@link ObjectMapperRegistry}, so DTOs map the same way as with text JSON. REST Assured turns the
+ * result of an object mapper into a string, so binary request bodies are encoded before they are
+ * set on the request, see {@link org.dmukhin.microservices.general.AbstractWebEndpoint}.
+ */
+public class DataFormatObjectMapper implements ObjectMapper {
+
+  private final DataFormat format;
+
+  /**
+   * Constructor for DataFormatObjectMapper.
+   *
+   * @param format The data format of the request bodies of the service.
+   */
+  public DataFormatObjectMapper(DataFormat format) {
+    this.format = format;
+  }
+
+  /**
+   * Rejects request bodies which were not encoded before they were set on the request.
+   *
+   * @param context The serialization context of REST Assured.
+   * @return Never returns normally.
+   * @throws IllegalStateException Always, since a binary body cannot pass through REST Assured as
+   *                               a string.
+   */
+  @Override
+  public Object serialize(ObjectMapperSerializationContext context) {
+    throw new IllegalStateException(String.format(
+        "Request body of type [%s] must be encoded as %s before it is set on the request",
+        context.getObjectToSerialize().getClass().getName(), format));
+  }
+
+  /**
+   * Reads a response body in the data format of its 'Content-Type'.
+   *
+   * @param context The deserialization context of REST Assured.
+   * @return The deserialized body.
+   * @throws IllegalStateException If the body cannot be deserialized.
+   */
+  @Override
+  public Object deserialize(ObjectMapperDeserializationContext context) {
+    DataFormat responseFormat = DataFormat.ofContentType(context.getContentType());
+    try {
+      return ObjectMapperRegistry.readerFor(responseFormat, context.getType())
+          .readValue(context.getDataToDeserialize().asByteArray());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read the response body as " + responseFormat, e);
+    }
+  }
+}
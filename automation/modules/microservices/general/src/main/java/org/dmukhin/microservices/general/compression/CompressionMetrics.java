@@ -0,0 +1,27 @@
+package org.dmukhin.microservices.general.compression;
+
+/**
+ * Snapshot of the counters of a {@link ContentDecoder}. Wire bytes are the response bytes read
+ * from the connection, inflated bytes the bytes handed to the parser; their ratio shows how much
+ * transfer the compression saves. Only bytes actually read are counted.
+ *
+ * @param responses           The number of response bodies read.
+ * @param compressedResponses The number of response bodies inflated.
+ * @param wireBytes           The number of body bytes read from the connection.
+ * @param inflatedBytes       The number of body bytes after inflating.
+ */
+public record CompressionMetrics(long responses, long compressedResponses, long wireBytes,
+                                 long inflatedBytes) {
+
+  /**
+   * Calculates the counters accumulated since an earlier snapshot of the same decoder.
+   *
+   * @param earlier The earlier snapshot.
+   * @return The difference between this snapshot and the earlier one.
+   */
+  public CompressionMetrics since(CompressionMetrics earlier) {
+    return new CompressionMetrics(responses - earlier.responses,
+        compressedResponses - earlier.compressedResponses, wireBytes - earlier.wireBytes,
+        inflatedBytes - earlier.inflatedBytes);
+  }
+}
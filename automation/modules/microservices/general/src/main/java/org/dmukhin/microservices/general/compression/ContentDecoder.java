@@ -0,0 +1,184 @@
+package org.dmukhin.microservices.general.compression;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.dmukhin.general.config.environment.models.CompressionSettingsDto;
+
+/**
+ * Negotiates and inflates compressed responses of a service. The accepted encodings are advertised
+ * in the 'Accept-Encoding' header; compressed bodies are inflated while they are read, and the
+ * decoder itself buffers neither the compressed nor the inflated body. Whether the inflated body is
+ * held in memory depends on its reader: REST Assured reads ordinary responses whole, which the
+ * exchange capture and the response cache then keep, while streamed responses are parsed as the
+ * inflated bytes arrive. The decoder is shared by all threads of the service and counts the bytes read
+ * from the connection and handed to the parser in {@link CompressionMetrics}.
+ */
+public class ContentDecoder {
+
+  private final List<ContentEncoding> encodings;
+  private final String acceptEncoding;
+
+  private final LongAdder responses = new LongAdder();
+  private final LongAdder compressedResponses = new LongAdder();
+  private final LongAdder wireBytes = new LongAdder();
+  private final LongAdder inflatedBytes = new LongAdder();
+
+  /**
+   * Constructor for ContentDecoder.
+   *
+   * @param settings The compression settings of the service.
+   * @throws IllegalStateException If an encoding of the settings is unknown.
+   */
+  public ContentDecoder(CompressionSettingsDto settings) {
+    this.encodings = Boolean.TRUE.equals(settings.getEnabled())
+        ? settings.getEncodings().stream().map(ContentEncoding::of).distinct().toList()
+        : List.of();
+    this.acceptEncoding = encodings.isEmpty()
+        ? null
+        : encodings.stream().map(ContentEncoding::getSetting).collect(Collectors.joining(", "));
+  }
+
+  /**
+   * Retrieves the value of the 'Accept-Encoding' header of the requests.
+   *
+   * @return The accepted encodings, or null if compression is disabled.
+   */
+  public String getAcceptEncoding() {
+    return acceptEncoding;
+  }
+
+  /**
+   * Checks whether a response body with the given 'Content-Encoding' is inflated by
+   * {@link #decode(InputStream, String)}. Bodies in other encodings are passed on unchanged, so
+   * their encoding header has to stay.
+   *
+   * @param contentEncoding The value of the 'Content-Encoding' header, may be null.
+   * @return true if the body is inflated, false otherwise.
+   */
+  public boolean isDecoded(String contentEncoding) {
+    ContentEncoding encoding = ContentEncoding.find(contentEncoding);
+    return encoding != null && encodings.contains(encoding);
+  }
+
+  /**
+   * Wraps a response body into a stream counting its bytes and, if its encoding is one of the
+   * accepted encodings, inflating it while it is read.
+   *
+   * @param body            The response body as read from the connection.
+   * @param contentEncoding The value of the 'Content-Encoding' header, may be null.
+   * @return The counted, and inflated if compressed, response body.
+   * @throws IOException If the header of the compressed body cannot be read.
+   */
+  public InputStream decode(InputStream body, String contentEncoding) throws IOException {
+    responses.increment();
+    if (!isDecoded(contentEncoding)) {
+      return new CountingInputStream(body, wireBytes, inflatedBytes);
+    }
+    compressedResponses.increment();
+    return new CountingInputStream(ContentEncoding.find(contentEncoding)
+        .inflate(new CountingInputStream(body, wireBytes)), inflatedBytes);
+  }
+
+  /**
+   * Provides the current counters of the decoder.
+   *
+   * @return A snapshot of the compression metrics.
+   */
+  public CompressionMetrics getMetrics() {
+    return new CompressionMetrics(responses.sum(), compressedResponses.sum(), wireBytes.sum(),
+        inflatedBytes.sum());
+  }
+
+  /**
+   * Input stream adding the number of bytes read to counters.
+   */
+  private static class CountingInputStream extends FilterInputStream {
+
+    private final LongAdder[] counters;
+
+    /**
+     * Constructor for CountingInputStream.
+     *
+     * @param in       The counted stream.
+     * @param counters The counters to add the bytes read to.
+     */
+    CountingInputStream(InputStream in, LongAdder... counters) {
+      super(in);
+      this.counters = counters;
+    }
+
+    /**
+     * Reads a byte and counts it.
+     *
+     * @return The byte, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    @Override
+    public int read() throws IOException {
+      int read = super.read();
+      if (read >= 0) {
+        count(1);
+      }
+      return read;
+    }
+
+    /**
+     * Reads bytes into an array and counts them.
+     *
+     * @param b   The array to read into.
+     * @param off The offset in the array.
+     * @param len The maximum number of bytes to read.
+     * @return The number of bytes read, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    /**
+     * Skips bytes and counts them, since they were read from the connection.
+     *
+     * @param n The number of bytes to skip.
+     * @return The number of bytes skipped.
+     * @throws IOException If the stream cannot be read.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      if (skipped > 0) {
+        count(skipped);
+      }
+      return skipped;
+    }
+
+    /**
+     * Disables mark and reset, so no byte is counted twice.
+     *
+     * @return false.
+     */
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    /**
+     * Adds a number of bytes to all counters.
+     *
+     * @param bytes The number of bytes.
+     */
+    private void count(long bytes) {
+      for (LongAdder counter : counters) {
+        counter.add(bytes);
+      }
+    }
+  }
+}
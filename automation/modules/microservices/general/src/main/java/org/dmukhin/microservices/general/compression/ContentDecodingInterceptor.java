@@ -0,0 +1,146 @@
+package org.dmukhin.microservices.general.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Apache HttpClient interceptor negotiating compressed responses with the {@link ContentDecoder}
+ * of a service. Requests get the 'Accept-Encoding' header unless they set one; the entities of
+ * responses are replaced by entities inflating, and counting, the body while it is read. The
+ * encoding and length headers of inflated responses are removed, since they describe the body on
+ * the wire.
+ */
+public class ContentDecodingInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+  private final ContentDecoder decoder;
+
+  /**
+   * Constructor for ContentDecodingInterceptor.
+   *
+   * @param decoder The content decoder of the service.
+   */
+  public ContentDecodingInterceptor(ContentDecoder decoder) {
+    this.decoder = decoder;
+  }
+
+  /**
+   * Adds the accepted encodings to a request.
+   *
+   * @param request The request to send.
+   * @param context The execution context.
+   */
+  @Override
+  public void process(HttpRequest request, HttpContext context) {
+    if (decoder.getAcceptEncoding() != null
+        && !request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+      request.addHeader(HttpHeaders.ACCEPT_ENCODING, decoder.getAcceptEncoding());
+    }
+  }
+
+  /**
+   * Replaces the entity of a response by an entity decoding its body.
+   *
+   * @param response The received response.
+   * @param context  The execution context.
+   */
+  @Override
+  public void process(HttpResponse response, HttpContext context) {
+    HttpEntity entity = response.getEntity();
+    if (entity == null) {
+      return;
+    }
+    Header contentEncoding = entity.getContentEncoding();
+    String encoding = contentEncoding == null ? null : contentEncoding.getValue();
+    boolean decoded = decoder.isDecoded(encoding);
+    response.setEntity(new DecodingEntity(entity, decoder, encoding, decoded));
+    if (decoded) {
+      response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+      response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+      response.removeHeaders(HttpHeaders.CONTENT_MD5);
+    }
+  }
+
+  /**
+   * Entity whose content is decoded from the wrapped entity when it is first requested.
+   */
+  private static class DecodingEntity extends HttpEntityWrapper {
+
+    private final ContentDecoder decoder;
+    private final String encoding;
+    private final boolean decoded;
+    private InputStream content;
+
+    /**
+     * Constructor for DecodingEntity.
+     *
+     * @param entity   The entity as received.
+     * @param decoder  The content decoder of the service.
+     * @param encoding The content encoding of the entity, may be null.
+     * @param decoded  Whether the content is inflated.
+     */
+    DecodingEntity(HttpEntity entity, ContentDecoder decoder, String encoding, boolean decoded) {
+      super(entity);
+      this.decoder = decoder;
+      this.encoding = encoding;
+      this.decoded = decoded;
+    }
+
+    /**
+     * Provides the decoded content. The stream is created once, so repeated calls continue where
+     * the previous reader stopped, like for any streamed entity.
+     *
+     * @return The decoded content.
+     * @throws IOException If the content cannot be read.
+     */
+    @Override
+    public synchronized InputStream getContent() throws IOException {
+      if (content == null) {
+        content = decoder.decode(wrappedEntity.getContent(), encoding);
+      }
+      return content;
+    }
+
+    /**
+     * Retrieves the length of the content.
+     *
+     * @return The length of the entity as received, or -1 if the content is inflated.
+     */
+    @Override
+    public long getContentLength() {
+      return decoded ? -1 : super.getContentLength();
+    }
+
+    /**
+     * Retrieves the content encoding.
+     *
+     * @return The content encoding as received, or null if the content is inflated.
+     */
+    @Override
+    public Header getContentEncoding() {
+      return decoded ? null : super.getContentEncoding();
+    }
+
+    /**
+     * Writes the decoded content to a stream.
+     *
+     * @param outStream The stream to write to.
+     * @throws IOException If the content cannot be read or written.
+     */
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+      try (InputStream in = getContent()) {
+        in.transferTo(outStream);
+      }
+    }
+  }
+}
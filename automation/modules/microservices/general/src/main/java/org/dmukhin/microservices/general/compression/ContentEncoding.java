@@ -0,0 +1,106 @@
+package org.dmukhin.microservices.general.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Enum representing the content encodings a compressed response can be inflated from. The encodings
+ * are configured by the 'encodings' setting of the 'compression' settings of the service.
+ */
+public enum ContentEncoding {
+
+  /**
+   * The gzip format, RFC 1952.
+   */
+  GZIP("gzip") {
+    @Override
+    public InputStream inflate(InputStream compressed) throws IOException {
+      return new GZIPInputStream(compressed, BUFFER_SIZE);
+    }
+  },
+
+  /**
+   * The zlib format, RFC 1950. Some servers send raw deflate data instead, which is detected from
+   * the missing zlib header.
+   */
+  DEFLATE("deflate") {
+    @Override
+    public InputStream inflate(InputStream compressed) throws IOException {
+      PushbackInputStream pushback = new PushbackInputStream(compressed, 2);
+      byte[] header = pushback.readNBytes(2);
+      pushback.unread(header);
+      boolean zlib = header.length == 2 && (header[0] & 0x0F) == 8
+          && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+      return new InflaterInputStream(pushback, new Inflater(!zlib), BUFFER_SIZE);
+    }
+  };
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final String setting;
+
+  /**
+   * Constructor for ContentEncoding enum.
+   *
+   * @param setting The name of the encoding in the 'Accept-Encoding' and 'Content-Encoding'
+   *                headers.
+   */
+  ContentEncoding(String setting) {
+    this.setting = setting;
+  }
+
+  /**
+   * Wraps a compressed stream into a stream inflating it while it is read.
+   *
+   * @param compressed The compressed stream.
+   * @return The inflating stream.
+   * @throws IOException If the header of the compressed stream cannot be read.
+   */
+  public abstract InputStream inflate(InputStream compressed) throws IOException;
+
+  /**
+   * Retrieves the name of the encoding in the 'Accept-Encoding' and 'Content-Encoding' headers.
+   *
+   * @return The name of the encoding, e.g. 'gzip'.
+   */
+  public String getSetting() {
+    return setting;
+  }
+
+  /**
+   * Retrieves the encoding of an 'encodings' setting.
+   *
+   * @param setting The name of the encoding.
+   * @return The encoding of the setting.
+   * @throws IllegalStateException If the setting has an unknown value.
+   */
+  public static ContentEncoding of(String setting) {
+    ContentEncoding encoding = find(setting);
+    if (encoding == null) {
+      throw new IllegalStateException("Unknown content encoding: " + setting);
+    }
+    return encoding;
+  }
+
+  /**
+   * Finds the encoding of a 'Content-Encoding' header value.
+   *
+   * @param contentEncoding The value of the header, may be null.
+   * @return The encoding, or null if the value is not a single known encoding.
+   */
+  public static ContentEncoding find(String contentEncoding) {
+    if (contentEncoding == null) {
+      return null;
+    }
+    for (ContentEncoding encoding : values()) {
+      if (encoding.setting.equalsIgnoreCase(contentEncoding.trim())) {
+        return encoding;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,49 @@
+package org.dmukhin.microservices.general.http;
+
+/**
+ * Enum representing the HTTP transport of a service. The transport is configured by the 'transport'
+ * setting of the 'httpClient' settings of the service.
+ */
+public enum HttpTransport {
+
+  /**
+   * The Apache HttpClient 4 of REST Assured, HTTP/1.1 over pooled connections.
+   */
+  APACHE("apache"),
+
+  /**
+   * The java.net.http client, HTTP/2 with multiplexed streams where the server supports it.
+   * Response bodies are read in full, so streamed responses are buffered.
+   */
+  JAVA_HTTP("java-http");
+
+  private final String setting;
+
+  /**
+   * Constructor for HttpTransport enum.
+   *
+   * @param setting The value of the transport in the 'transport' setting.
+   */
+  HttpTransport(String setting) {
+    this.setting = setting;
+  }
+
+  /**
+   * Retrieves the transport of a 'transport' setting.
+   *
+   * @param setting The value of the 'transport' setting.
+   * @return The transport of the setting, or APACHE when it is not set.
+   * @throws IllegalStateException If the setting has an unknown value.
+   */
+  public static HttpTransport of(String setting) {
+    if (setting == null || setting.isBlank()) {
+      return APACHE;
+    }
+    for (HttpTransport transport : values()) {
+      if (transport.setting.equalsIgnoreCase(setting.trim())) {
+        return transport;
+      }
+    }
+    throw new IllegalStateException("Unknown HTTP transport: " + setting);
+  }
+}
@@ -0,0 +1,321 @@
+package org.dmukhin.microservices.general.http;
+
+import io.restassured.authentication.ExplicitNoAuthScheme;
+import io.restassured.authentication.NoAuthScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.internal.RestAssuredResponseImpl;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.environment.models.HttpClientSettingsDto;
+import org.dmukhin.microservices.general.compression.ContentDecoder;
+
+/**
+ * REST Assured filter sending requests with the java.net.http client instead of the Apache client
+ * of REST Assured. It is the last filter of the chain and answers the request itself, so all other
+ * filters, response validation and DTO extraction work unchanged on the returned response. The
+ * client negotiates HTTP/2 with ALPN over TLS and by upgrade over cleartext, falls back to HTTP/1.1
+ * if the server does not support it, and multiplexes concurrent requests to a host over a single
+ * HTTP/2 connection. Compressed responses are negotiated with the content decoder of the service
+ * and inflated while the body is read from the connection. Requests with form or multipart
+ * parameters, authentication schemes or a proxy are passed on to the Apache client.
+ * <p>
+ * The filter cannot stream a response: the whole body is read before the response is returned, as
+ * a REST Assured response can only be built from a complete body. A streamed request, see
+ * {@link StreamedResponseFilter}, is parsed lazily from the buffered bytes, but its body is held in
+ * memory in full; use the Apache transport to stream large responses.
+ * </p>
+ */
+public class JavaHttpTransportFilter implements OrderedFilter, AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final Set<String> RESTRICTED_HEADERS =
+      Set.of("connection", "content-length", "expect", "host", "upgrade");
+  private static final Set<String> WIRE_HEADERS = Set.of("content-encoding", "content-length");
+
+  private final HttpClient httpClient;
+  private final Duration requestTimeout;
+  private final ContentDecoder contentDecoder;
+
+  /**
+   * Constructor for JavaHttpTransportFilter.
+   *
+   * @param settings       The HTTP client settings of the service.
+   * @param contentDecoder The content decoder of the service.
+   */
+  public JavaHttpTransportFilter(HttpClientSettingsDto settings, ContentDecoder contentDecoder) {
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMillis()))
+        .build();
+    this.requestTimeout = Duration.ofMillis(settings.getSocketTimeoutMillis());
+    this.contentDecoder = contentDecoder;
+  }
+
+  /**
+   * Initiates an orderly shutdown of the client once the service it belongs to was replaced;
+   * requests already sent are completed, new requests are rejected.
+   */
+  @Override
+  public void close() {
+    httpClient.shutdown();
+  }
+
+  /**
+   * Runs the filter after all other filters.
+   *
+   * @return The lowest precedence.
+   */
+  @Override
+  public int getOrder() {
+    return OrderedFilter.LOWEST_PRECEDENCE;
+  }
+
+  /**
+   * Sends the request with the java.net.http client and converts its response.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The response of the request.
+   * @throws UncheckedIOException If the request fails.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    if (!isSupported(requestSpec)) {
+      LOGGER.debug("Send {} {} with the Apache client", requestSpec.getMethod(),
+          requestSpec.getURI());
+      return ctx.next(requestSpec, responseSpec);
+    }
+    HttpRequest request = toHttpRequest(requestSpec);
+    long start = System.nanoTime();
+    HttpResponse<InputStream> response;
+    byte[] body;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      try (InputStream decoded = contentDecoder.decode(response.body(),
+          contentEncoding(response))) {
+        body = decoded.readAllBytes();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to send %s %s", request.method(), request.uri()), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          String.format("Interrupted while sending %s %s", request.method(), request.uri()), e);
+    }
+    LOGGER.debug("{} {} -> {} over {} in {} ms", request.method(), request.uri(),
+        response.statusCode(), response.version(), (System.nanoTime() - start) / 1_000_000);
+    return toResponse(response, body, requestSpec);
+  }
+
+  /**
+   * Checks whether the request can be sent with the java.net.http client.
+   *
+   * @param requestSpec The request specification.
+   * @return true if the request has no form or multipart parameters, authentication scheme, proxy
+   *     or unsupported body type, false otherwise.
+   */
+  private static boolean isSupported(FilterableRequestSpecification requestSpec) {
+    Object body = requestSpec.getBody();
+    return requestSpec.getFormParams().isEmpty()
+        && requestSpec.getMultiPartParams().isEmpty()
+        && requestSpec.getProxySpecification() == null
+        && (requestSpec.getAuthenticationScheme() instanceof NoAuthScheme
+        || requestSpec.getAuthenticationScheme() instanceof ExplicitNoAuthScheme)
+        && (body == null || body instanceof String || body instanceof byte[]);
+  }
+
+  /**
+   * Converts a REST Assured request specification to a java.net.http request.
+   *
+   * @param requestSpec The request specification.
+   * @return The request to send.
+   */
+  private HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+        .timeout(requestTimeout);
+    boolean hasAccept = false;
+    boolean hasAcceptEncoding = false;
+    boolean hasContentType = false;
+    for (Header header : requestSpec.getHeaders()) {
+      String name = header.getName().toLowerCase();
+      if (!RESTRICTED_HEADERS.contains(name)) {
+        builder.header(header.getName(), header.getValue());
+        hasAccept |= "accept".equals(name);
+        hasAcceptEncoding |= "accept-encoding".equals(name);
+        hasContentType |= "content-type".equals(name);
+      }
+    }
+    if (!hasAccept) {
+      builder.header("Accept", "*/*");
+    }
+    if (!hasAcceptEncoding && contentDecoder.getAcceptEncoding() != null) {
+      builder.header("Accept-Encoding", contentDecoder.getAcceptEncoding());
+    }
+    if (!hasContentType && requestSpec.getContentType() != null
+        && requestSpec.getBody() != null) {
+      builder.header("Content-Type", requestSpec.getContentType());
+    }
+    Cookies cookies = requestSpec.getCookies();
+    if (cookies.exist()) {
+      builder.header("Cookie", cookies.asList().stream()
+          .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+          .collect(Collectors.joining("; ")));
+    }
+    return builder.method(requestSpec.getMethod(), bodyPublisher(requestSpec)).build();
+  }
+
+  /**
+   * Creates the body publisher of a request, encoding text bodies with the charset of the content
+   * type or UTF-8.
+   *
+   * @param requestSpec The request specification.
+   * @return The body publisher, empty if the request has no body.
+   */
+  private static HttpRequest.BodyPublisher bodyPublisher(
+      FilterableRequestSpecification requestSpec) {
+    Object body = requestSpec.getBody();
+    if (body instanceof byte[] bytes) {
+      return HttpRequest.BodyPublishers.ofByteArray(bytes);
+    }
+    if (body instanceof String text) {
+      return HttpRequest.BodyPublishers.ofString(text, charsetOf(requestSpec.getContentType()));
+    }
+    return HttpRequest.BodyPublishers.noBody();
+  }
+
+  /**
+   * Retrieves the content encoding of a response.
+   *
+   * @param response The received response.
+   * @return The value of the 'Content-Encoding' header, or null if the response has none.
+   */
+  private static String contentEncoding(HttpResponse<?> response) {
+    return response.headers().firstValue("Content-Encoding").orElse(null);
+  }
+
+  /**
+   * Converts a java.net.http response to a REST Assured response. The response gets the REST
+   * Assured configuration of the request, so DTOs are extracted with the same object mapper as with
+   * the Apache client. The encoding and length headers of an inflated body are left out, since
+   * they describe the body on the wire.
+   *
+   * @param response    The received response.
+   * @param body        The decoded body of the response.
+   * @param requestSpec The request specification.
+   * @return The REST Assured response.
+   */
+  private Response toResponse(HttpResponse<InputStream> response, byte[] body,
+      FilterableRequestSpecification requestSpec) {
+    boolean decoded = contentDecoder.isDecoded(contentEncoding(response));
+    List<Header> headers = new ArrayList<>();
+    List<Cookie> cookies = new ArrayList<>();
+    for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+      if (header.getKey().startsWith(":")
+          || decoded && WIRE_HEADERS.contains(header.getKey().toLowerCase())) {
+        continue;
+      }
+      for (String value : header.getValue()) {
+        headers.add(new Header(header.getKey(), value));
+        if ("set-cookie".equalsIgnoreCase(header.getKey())) {
+          HttpCookie.parse(value).forEach(cookie -> cookies.add(
+              new Cookie.Builder(cookie.getName(), cookie.getValue()).build()));
+        }
+      }
+    }
+    Response restAssuredResponse = new ResponseBuilder()
+        .setStatusCode(response.statusCode())
+        .setStatusLine(statusLine(response))
+        .setHeaders(new Headers(headers))
+        .setCookies(new Cookies(cookies))
+        .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+        .setBody(body)
+        .build();
+    return withConfig(restAssuredResponse, requestSpec);
+  }
+
+  /**
+   * Sets the REST Assured configuration of the request on a built response. The response builder
+   * of REST Assured has no public way to set the configuration and always builds the default one,
+   * which would extract DTOs with the default object mapper instead of the one of the service. The
+   * internal response implementation is the only access to it, so the cast is kept to this method;
+   * if a REST Assured version builds another implementation, the response keeps the default
+   * configuration and a warning is logged.
+   *
+   * @param response    The response built by the response builder.
+   * @param requestSpec The request specification.
+   * @return The response with the configuration of the request.
+   */
+  private static Response withConfig(Response response,
+      FilterableRequestSpecification requestSpec) {
+    if (response instanceof RestAssuredResponseImpl responseImpl) {
+      responseImpl.setConfig(requestSpec.getConfig());
+    } else {
+      LOGGER.warn("Response [{}] keeps the default REST Assured configuration",
+          response.getClass().getName());
+    }
+    return response;
+  }
+
+  /**
+   * Creates the status line of a response in the format of the Apache client, e.g.
+   * 'HTTP/1.1 200 OK'.
+   *
+   * @param response The received response.
+   * @return The status line.
+   */
+  private static String statusLine(HttpResponse<?> response) {
+    String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+    String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason(response.statusCode(), null);
+    return reason == null
+        ? protocol + " " + response.statusCode()
+        : protocol + " " + response.statusCode() + " " + reason;
+  }
+
+  /**
+   * Retrieves the charset of a content type.
+   *
+   * @param contentType The content type, may be null.
+   * @return The charset of the content type, or UTF-8 if it has none.
+   */
+  private static Charset charsetOf(String contentType) {
+    if (contentType != null) {
+      for (String parameter : contentType.split(";")) {
+        String trimmed = parameter.trim();
+        if (trimmed.regionMatches(true, 0, "charset=", 0, "charset=".length())) {
+          return Charset.forName(trimmed.substring("charset=".length()).replace("\"", ""));
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+}
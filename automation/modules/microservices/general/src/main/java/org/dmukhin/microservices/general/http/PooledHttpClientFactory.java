@@ -0,0 +1,151 @@
+package org.dmukhin.microservices.general.http;
+
+import io.restassured.config.HttpClientConfig;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.environment.models.HttpClientSettingsDto;
+import org.dmukhin.microservices.general.compression.ContentDecoder;
+import org.dmukhin.microservices.general.compression.ContentDecodingInterceptor;
+
+/**
+ * REST Assured HTTP client factory backed by a pooled connection manager. The client is created
+ * once and returned on every call, so all requests of a service reuse kept-alive connections and
+ * resume TLS sessions from a shared SSL context instead of paying a TCP and TLS handshake per call.
+ * Compressed responses are negotiated and inflated by the content decoder of the service. Closing
+ * the factory shuts the connection manager down and closes the pooled connections.
+ * <p>
+ * REST Assured requires an {@code AbstractHttpClient}, therefore the deprecated HttpClient 4 API
+ * is used on purpose.
+ * </p>
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory,
+    AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  private final HttpClientSettingsDto settings;
+  private final ContentDecoder contentDecoder;
+  private DefaultHttpClient httpClient;
+
+  /**
+   * Constructor for PooledHttpClientFactory.
+   *
+   * @param settings       The HTTP client settings of the service.
+   * @param contentDecoder The content decoder of the service.
+   */
+  public PooledHttpClientFactory(HttpClientSettingsDto settings, ContentDecoder contentDecoder) {
+    this.settings = settings;
+    this.contentDecoder = contentDecoder;
+  }
+
+  /**
+   * Provides the shared pooled HTTP client, creating it on first use.
+   *
+   * @return The shared HTTP client.
+   */
+  @Override
+  public synchronized HttpClient createHttpClient() {
+    if (httpClient == null) {
+      httpClient = buildHttpClient();
+    }
+    return httpClient;
+  }
+
+  /**
+   * Shuts down the connection manager of the client, if it was created, and closes its pooled
+   * connections. Requests still running on them fail.
+   */
+  @Override
+  public synchronized void close() {
+    if (httpClient != null) {
+      LOGGER.debug("Shut down pooled HTTP client");
+      httpClient.getConnectionManager().shutdown();
+      httpClient = null;
+    }
+  }
+
+  /**
+   * Builds the HTTP client with a pooled connection manager, timeouts, keep-alive strategy and
+   * content decoding. The keep-alive strategy closes connections which were idle for longer than
+   * the keep-alive announced by the server, or the configured one if the server announces none; the
+   * lifetime of the connection manager closes connections which reached the configured lifetime,
+   * also if they were never idle.
+   *
+   * @return A new pooled HTTP client.
+   */
+  private DefaultHttpClient buildHttpClient() {
+    LOGGER.debug("Create pooled HTTP client: max per route [{}], max total [{}], "
+            + "keep-alive [{}] ms, connection lifetime [{}] ms",
+        settings.getMaxConnectionsPerRoute(), settings.getMaxConnectionsTotal(),
+        settings.getKeepAliveMillis(), settings.getConnectionTtlMillis());
+    PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager(
+        createSchemeRegistry(), settings.getConnectionTtlMillis(), TimeUnit.MILLISECONDS);
+    connectionManager.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+    connectionManager.setMaxTotal(settings.getMaxConnectionsTotal());
+
+    HttpParams params = new BasicHttpParams();
+    HttpConnectionParams.setConnectionTimeout(params, settings.getConnectTimeoutMillis());
+    HttpConnectionParams.setSoTimeout(params, settings.getSocketTimeoutMillis());
+    HttpConnectionParams.setTcpNoDelay(params, true);
+
+    DefaultHttpClient client = new DefaultHttpClient(connectionManager, params);
+    DefaultConnectionKeepAliveStrategy serverKeepAlive = new DefaultConnectionKeepAliveStrategy();
+    client.setKeepAliveStrategy((response, context) -> {
+      long serverValue = serverKeepAlive.getKeepAliveDuration(response, context);
+      return serverValue > 0 ? serverValue : settings.getKeepAliveMillis();
+    });
+    ContentDecodingInterceptor contentDecoding = new ContentDecodingInterceptor(contentDecoder);
+    client.addRequestInterceptor(contentDecoding);
+    client.addResponseInterceptor(contentDecoding);
+    return client;
+  }
+
+  /**
+   * Creates the scheme registry for plain and TLS connections. The TLS socket factory uses a
+   * dedicated SSL context, so its client session cache enables TLS session resumption for new
+   * pooled connections.
+   *
+   * @return The scheme registry.
+   */
+  private SchemeRegistry createSchemeRegistry() {
+    SchemeRegistry schemeRegistry = new SchemeRegistry();
+    schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+    schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(createSslContext(),
+        SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+    return schemeRegistry;
+  }
+
+  /**
+   * Creates the SSL context with a configured client session cache.
+   *
+   * @return The SSL context.
+   */
+  private SSLContext createSslContext() {
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, null, null);
+      SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+      sessionContext.setSessionCacheSize(settings.getTlsSessionCacheSize());
+      sessionContext.setSessionTimeout(settings.getTlsSessionTimeoutSeconds());
+      return sslContext;
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Failed to create SSL context for pooled HTTP client", e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package org.dmukhin.microservices.general.http;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter marking a request whose response body is streamed to the caller. The filter
+ * runs before all other filters of the request; filters which would read the response body check
+ * {@link #isStreamed(FilterContext)} and pass the response on unread, so the body is parsed while
+ * it arrives instead of being held in memory.
+ */
+public class StreamedResponseFilter implements OrderedFilter {
+
+  private static final String STREAMED = StreamedResponseFilter.class.getName();
+
+  /**
+   * Marks the request as streamed and executes it.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The response of the request.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    ctx.setValue(STREAMED, Boolean.TRUE);
+    return ctx.next(requestSpec, responseSpec);
+  }
+
+  /**
+   * Retrieves the order of the filter, which is the highest precedence.
+   *
+   * @return The order of the filter.
+   */
+  @Override
+  public int getOrder() {
+    return HIGHEST_PRECEDENCE;
+  }
+
+  /**
+   * Checks whether the response body of a request is streamed to the caller.
+   *
+   * @param ctx The filter context of the request.
+   * @return true if the response body must not be read by filters, false otherwise.
+   */
+  public static boolean isStreamed(FilterContext ctx) {
+    return ctx.hasValue(STREAMED);
+  }
+}
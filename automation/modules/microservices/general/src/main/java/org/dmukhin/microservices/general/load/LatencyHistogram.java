@@ -0,0 +1,146 @@
+package org.dmukhin.microservices.general.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent latency histogram with log-linear buckets in the manner of HdrHistogram: values below
+ * 128 ns are counted exactly, larger values in 64 linear sub-buckets per power of two, so every
+ * recorded value is reported within 1.6% regardless of its magnitude. The memory footprint is fixed
+ * at about 30 KiB and recording is lock-free, so all load workers can share one histogram.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+
+  private final AtomicLongArray counts = new AtomicLongArray(bucketIndex(Long.MAX_VALUE) + 1);
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * Records a latency.
+   *
+   * @param latencyNanos The latency in nanoseconds, negative values are recorded as 0.
+   */
+  public void record(long latencyNanos) {
+    long value = Math.max(0L, latencyNanos);
+    counts.incrementAndGet(bucketIndex(value));
+    totalCount.increment();
+    totalNanos.add(value);
+    maxNanos.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Adds all latencies recorded by another histogram to this one.
+   *
+   * @param other The histogram to add.
+   */
+  public void add(LatencyHistogram other) {
+    for (int i = 0; i < counts.length(); i++) {
+      long count = other.counts.get(i);
+      if (count > 0) {
+        counts.addAndGet(i, count);
+      }
+    }
+    totalCount.add(other.totalCount.sum());
+    totalNanos.add(other.totalNanos.sum());
+    maxNanos.accumulateAndGet(other.maxNanos.get(), Math::max);
+  }
+
+  /**
+   * Retrieves the number of recorded latencies.
+   *
+   * @return The number of latencies.
+   */
+  public long getTotalCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * Retrieves the highest recorded latency.
+   *
+   * @return The maximum latency in nanoseconds, 0 if nothing is recorded.
+   */
+  public long getMaxNanos() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Computes the mean of the recorded latencies.
+   *
+   * @return The mean latency in nanoseconds, 0 if nothing is recorded.
+   */
+  public double getMeanNanos() {
+    long count = totalCount.sum();
+    return count == 0 ? 0.0 : (double) totalNanos.sum() / count;
+  }
+
+  /**
+   * Computes a percentile of the recorded latencies. Like HdrHistogram, the highest value
+   * equivalent to the bucket of the percentile is returned, so the percentile is never understated.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   * @return The latency in nanoseconds, 0 if nothing is recorded.
+   */
+  public long percentileNanos(double percentile) {
+    long count = totalCount.sum();
+    if (count == 0) {
+      return 0L;
+    }
+    long rank = Math.max(1L,
+        (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highestEquivalentValue(i), maxNanos.get());
+      }
+    }
+    return maxNanos.get();
+  }
+
+  /**
+   * Computes a percentile of the recorded latencies in milliseconds.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   * @return The latency in milliseconds.
+   */
+  public double percentileMillis(double percentile) {
+    return (double) percentileNanos(percentile) / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Maps a value to its bucket: values below the linear limit map to themselves, larger values to
+   * one of the sub-buckets of their power of two.
+   *
+   * @param value The non-negative value.
+   * @return The index of the bucket.
+   */
+  private static int bucketIndex(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  /**
+   * Computes the highest value which maps to a bucket.
+   *
+   * @param index The index of the bucket.
+   * @return The highest value of the bucket.
+   */
+  private static long highestEquivalentValue(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,267 @@
+package org.dmukhin.microservices.general.load;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.microservices.general.capture.ExchangeCaptureBuffer;
+
+/**
+ * Utility class for running endpoint operations as an in-process load test. Operations run on
+ * virtual threads, under the open model at a fixed arrival rate or under the closed model with a
+ * fixed number of workers. Every operation is due at a point of a fixed schedule, and its latency
+ * is measured from that point rather than from when it actually started, so a stalled service is
+ * charged for the operations it delayed; this corrects the coordinated omission of load tools
+ * which only time the requests they manage to send. Unpaced closed workers have no schedule, their
+ * latencies are the plain service times. Operations run outside the context of the calling
+ * test: their threads neither inherit its Allure test case nor record into its exchange capture
+ * buffer, so a run of thousands of operations adds neither steps nor captured exchanges to the
+ * report; only the load report of the run is reported.
+ */
+public final class LoadGenerator {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final ThreadFactory LOAD_THREADS = Thread.ofVirtual()
+      .name("load-", 0)
+      .inheritInheritableThreadLocals(false)
+      .factory();
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private LoadGenerator() {
+    // default constructor
+  }
+
+  /**
+   * Runs a workload according to a profile and waits until all started operations completed.
+   *
+   * @param profile    The profile of the run.
+   * @param operations The weighted operations of the workload.
+   * @return The throughput and latency percentiles of the run.
+   * @throws IllegalStateException If the workload is empty or the profile has no load.
+   */
+  public static LoadReport run(LoadProfile profile, List<WeightedOperation> operations) {
+    Workload workload = new Workload(operations);
+    long start = System.nanoTime();
+    long warmupEnd = start + profile.getWarmup().toNanos();
+    long end = warmupEnd + profile.getDuration().toNanos();
+    LOGGER.info("Start load run: {}", profile);
+    long dropped = profile.getModel() == LoadModel.OPEN
+        ? runOpen(profile, workload, start, warmupEnd, end)
+        : runClosed(profile, workload, start, warmupEnd, end);
+    LoadReport report = workload.toReport(profile.getModel(), end - warmupEnd, dropped);
+    LOGGER.info("Load run finished:{}{}", System.lineSeparator(), report.toTable());
+    return report;
+  }
+
+  /**
+   * Starts operations at the arrival rate without waiting for the running ones.
+   *
+   * @param profile   The profile of the run.
+   * @param workload  The workload to run.
+   * @param start     The start of the run.
+   * @param warmupEnd The end of the warm-up.
+   * @param end       The end of the run.
+   * @return The number of measured arrivals dropped because too many operations were outstanding.
+   */
+  private static long runOpen(LoadProfile profile, Workload workload, long start, long warmupEnd,
+      long end) {
+    long intervalNanos = intervalNanos(profile.getArrivalRate());
+    AtomicInteger outstanding = new AtomicInteger();
+    long dropped = 0;
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(LOAD_THREADS)) {
+      for (long due = start; due < end; due += intervalNanos) {
+        parkUntil(due);
+        if (outstanding.get() >= profile.getMaxOutstanding()) {
+          dropped += due >= warmupEnd ? 1 : 0;
+          continue;
+        }
+        outstanding.incrementAndGet();
+        long scheduled = due;
+        executor.execute(() -> {
+          ExchangeCaptureBuffer.bind(ExchangeCaptureBuffer.discarding());
+          try {
+            workload.runNext(scheduled, scheduled >= warmupEnd);
+          } finally {
+            outstanding.decrementAndGet();
+          }
+        });
+      }
+    }
+    return dropped;
+  }
+
+  /**
+   * Runs the workers of the closed model until the end of the run. Paced workers share the
+   * arrival rate and keep their schedule when an operation overruns it.
+   *
+   * @param profile   The profile of the run.
+   * @param workload  The workload to run.
+   * @param start     The start of the run.
+   * @param warmupEnd The end of the warm-up.
+   * @param end       The end of the run.
+   * @return Always 0, workers never drop operations.
+   */
+  private static long runClosed(LoadProfile profile, Workload workload, long start,
+      long warmupEnd, long end) {
+    int concurrency = profile.getConcurrency();
+    if (concurrency <= 0) {
+      throw new IllegalStateException("Closed load model needs a concurrency greater than 0");
+    }
+    boolean paced = profile.getArrivalRate() > 0;
+    long workerIntervalNanos = paced ? intervalNanos(profile.getArrivalRate()) * concurrency : 0;
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(LOAD_THREADS)) {
+      for (int worker = 0; worker < concurrency; worker++) {
+        long firstDue = start + workerIntervalNanos * worker / concurrency;
+        executor.execute(() -> {
+          ExchangeCaptureBuffer.bind(ExchangeCaptureBuffer.discarding());
+          for (long due = firstDue; ; due += workerIntervalNanos) {
+            long scheduled = paced ? due : System.nanoTime();
+            if (scheduled >= end) {
+              return;
+            }
+            parkUntil(scheduled);
+            workload.runNext(scheduled, scheduled >= warmupEnd);
+          }
+        });
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Converts an arrival rate to the interval between two arrivals.
+   *
+   * @param arrivalRate The arrivals per second.
+   * @return The interval in nanoseconds.
+   */
+  private static long intervalNanos(double arrivalRate) {
+    if (arrivalRate <= 0) {
+      throw new IllegalStateException("Open load model needs an arrival rate greater than 0");
+    }
+    return Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / arrivalRate));
+  }
+
+  /**
+   * Parks the current thread until the given time.
+   *
+   * @param deadline The time to wake up, in terms of {@link System#nanoTime()}.
+   */
+  private static void parkUntil(long deadline) {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  /**
+   * Weighted operations of a run with their latency histograms and error counters.
+   */
+  private static final class Workload {
+
+    private final List<WeightedOperation> operations;
+    private final int[] cumulativeWeights;
+    private final LatencyHistogram[] histograms;
+    private final LongAdder[] errors;
+    private final AtomicBoolean errorLogged = new AtomicBoolean();
+
+    /**
+     * Constructor for Workload.
+     *
+     * @param operations The weighted operations.
+     * @throws IllegalStateException If there are no operations or a weight is not positive.
+     */
+    private Workload(List<WeightedOperation> operations) {
+      if (operations.isEmpty()) {
+        throw new IllegalStateException("Load workload has no operations");
+      }
+      this.operations = List.copyOf(operations);
+      this.cumulativeWeights = new int[operations.size()];
+      this.histograms = new LatencyHistogram[operations.size()];
+      this.errors = new LongAdder[operations.size()];
+      int totalWeight = 0;
+      for (int i = 0; i < operations.size(); i++) {
+        if (operations.get(i).weight() <= 0) {
+          throw new IllegalStateException(
+              "Weight of load operation [" + operations.get(i).name() + "] must be positive");
+        }
+        totalWeight += operations.get(i).weight();
+        cumulativeWeights[i] = totalWeight;
+        histograms[i] = new LatencyHistogram();
+        errors[i] = new LongAdder();
+      }
+    }
+
+    /**
+     * Picks an operation by weight, runs it and records its latency from the time it was due.
+     *
+     * @param due    The time the operation was due, in terms of {@link System#nanoTime()}.
+     * @param record Whether the operation is measured, false during the warm-up.
+     */
+    private void runNext(long due, boolean record) {
+      int index = pick();
+      boolean failed = false;
+      try {
+        operations.get(index).operation().run();
+      } catch (Exception | AssertionError e) {
+        failed = true;
+        if (errorLogged.compareAndSet(false, true)) {
+          LOGGER.warn("Load operation [{}] failed, further failures are only counted",
+              operations.get(index).name(), e);
+        }
+      }
+      if (record) {
+        histograms[index].record(System.nanoTime() - due);
+        if (failed) {
+          errors[index].increment();
+        }
+      }
+    }
+
+    /**
+     * Picks a random operation in proportion to the weights.
+     *
+     * @return The index of the operation.
+     */
+    private int pick() {
+      int value = ThreadLocalRandom.current()
+          .nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+      int index = 0;
+      while (cumulativeWeights[index] <= value) {
+        index++;
+      }
+      return index;
+    }
+
+    /**
+     * Creates the report of the run.
+     *
+     * @param model         The load model of the run.
+     * @param measuredNanos The measured duration of the run.
+     * @param dropped       The number of dropped arrivals.
+     * @return The report of the run.
+     */
+    private LoadReport toReport(LoadModel model, long measuredNanos, long dropped) {
+      LatencyHistogram totalHistogram = new LatencyHistogram();
+      long totalErrors = 0;
+      OperationStats[] stats = new OperationStats[operations.size()];
+      for (int i = 0; i < operations.size(); i++) {
+        totalHistogram.add(histograms[i]);
+        totalErrors += errors[i].sum();
+        stats[i] = OperationStats.of(operations.get(i).name(), histograms[i], errors[i].sum(),
+            measuredNanos);
+      }
+      return new LoadReport(model, TimeUnit.NANOSECONDS.toMillis(measuredNanos), dropped,
+          OperationStats.of("total", totalHistogram, totalErrors, measuredNanos), List.of(stats));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package org.dmukhin.microservices.general.load;
+
+/**
+ * Enum representing how a {@link LoadGenerator} issues operations. The model is configured by the
+ * 'api.load.model' property.
+ */
+public enum LoadModel {
+
+  /**
+   * Operations arrive at a fixed rate regardless of how many are still running, like independent
+   * users; a slow service accumulates outstanding operations instead of slowing the arrivals.
+   */
+  OPEN("open"),
+
+  /**
+   * A fixed number of workers issue operations back to back, optionally paced to a total rate.
+   */
+  CLOSED("closed");
+
+  private final String setting;
+
+  /**
+   * Constructor for LoadModel enum.
+   *
+   * @param setting The value of the model in the 'api.load.model' property.
+   */
+  LoadModel(String setting) {
+    this.setting = setting;
+  }
+
+  /**
+   * Retrieves the model of an 'api.load.model' property value.
+   *
+   * @param setting The value of the 'api.load.model' property.
+   * @return The model of the setting, or OPEN when it is not set.
+   * @throws IllegalStateException If the setting has an unknown value.
+   */
+  public static LoadModel of(String setting) {
+    if (setting == null || setting.isBlank()) {
+      return OPEN;
+    }
+    for (LoadModel model : values()) {
+      if (model.setting.equalsIgnoreCase(setting.trim())) {
+        return model;
+      }
+    }
+    throw new IllegalStateException("Unknown load model: " + setting);
+  }
+}
@@ -0,0 +1,165 @@
+package org.dmukhin.microservices.general.load;
+
+import java.time.Duration;
+
+/**
+ * Profile of a load run: the load model with its arrival rate or concurrency, and how long the run
+ * warms up and is measured. In the closed model the arrival rate is optional and paces the workers;
+ * without it they issue operations back to back.
+ */
+public class LoadProfile {
+
+  private LoadModel model = LoadModel.OPEN;
+  private double arrivalRate;
+  private int concurrency = 1;
+  private Duration duration = Duration.ofSeconds(10);
+  private Duration warmup = Duration.ZERO;
+  private int maxOutstanding = 10_000;
+
+  /**
+   * Creates a profile of the open model.
+   *
+   * @param arrivalRate The operations started per second.
+   * @return A new LoadProfile.
+   */
+  public static LoadProfile openModel(double arrivalRate) {
+    return new LoadProfile().setModel(LoadModel.OPEN).setArrivalRate(arrivalRate);
+  }
+
+  /**
+   * Creates a profile of the closed model.
+   *
+   * @param concurrency The number of workers.
+   * @return A new LoadProfile.
+   */
+  public static LoadProfile closedModel(int concurrency) {
+    return new LoadProfile().setModel(LoadModel.CLOSED).setConcurrency(concurrency);
+  }
+
+  /**
+   * Retrieves the load model.
+   *
+   * @return The load model.
+   */
+  public LoadModel getModel() {
+    return model;
+  }
+
+  /**
+   * Sets the load model.
+   *
+   * @param model The load model to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setModel(LoadModel model) {
+    this.model = model;
+    return this;
+  }
+
+  /**
+   * Retrieves the operations started per second, in the closed model 0 for unpaced workers.
+   *
+   * @return The arrival rate.
+   */
+  public double getArrivalRate() {
+    return arrivalRate;
+  }
+
+  /**
+   * Sets the operations started per second.
+   *
+   * @param arrivalRate The arrival rate to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setArrivalRate(double arrivalRate) {
+    this.arrivalRate = arrivalRate;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of workers of the closed model.
+   *
+   * @return The concurrency.
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Sets the number of workers of the closed model.
+   *
+   * @param concurrency The concurrency to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+    return this;
+  }
+
+  /**
+   * Retrieves the measured duration of the run, after the warm-up.
+   *
+   * @return The measured duration.
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  /**
+   * Sets the measured duration of the run, after the warm-up.
+   *
+   * @param duration The measured duration to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setDuration(Duration duration) {
+    this.duration = duration;
+    return this;
+  }
+
+  /**
+   * Retrieves the warm-up at the start of the run, whose operations are not reported.
+   *
+   * @return The warm-up duration.
+   */
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  /**
+   * Sets the warm-up at the start of the run, whose operations are not reported.
+   *
+   * @param warmup The warm-up duration to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setWarmup(Duration warmup) {
+    this.warmup = warmup;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of outstanding operations of the open model; further arrivals are
+   * dropped and reported, so an unresponsive service cannot exhaust the memory of the run.
+   *
+   * @return The maximum number of outstanding operations.
+   */
+  public int getMaxOutstanding() {
+    return maxOutstanding;
+  }
+
+  /**
+   * Sets the maximum number of outstanding operations of the open model.
+   *
+   * @param maxOutstanding The maximum number of outstanding operations to set.
+   * @return The current instance of LoadProfile for method chaining.
+   */
+  public LoadProfile setMaxOutstanding(int maxOutstanding) {
+    this.maxOutstanding = maxOutstanding;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s model, %.1f/s, concurrency %d, %d s + %d s warm-up", model,
+        arrivalRate, concurrency, duration.toSeconds(), warmup.toSeconds());
+  }
+}
@@ -0,0 +1,49 @@
+package org.dmukhin.microservices.general.load;
+
+import java.util.List;
+
+/**
+ * Result of a load run: the statistics of every operation and of all operations together.
+ *
+ * @param model          The load model of the run.
+ * @param measuredMillis The measured duration of the run without warm-up in milliseconds.
+ * @param dropped        The arrivals skipped because too many operations were outstanding.
+ * @param total          The statistics of all operations together.
+ * @param operations     The statistics of every operation, in the order of the workload.
+ */
+public record LoadReport(LoadModel model, long measuredMillis, long dropped, OperationStats total,
+                         List<OperationStats> operations) {
+
+  private static final String ROW_FORMAT =
+      "%-16s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n";
+
+  /**
+   * Renders the report as a table, one row per operation and a total row, for logs and
+   * attachments.
+   *
+   * @return The report as text.
+   */
+  public String toTable() {
+    StringBuilder table = new StringBuilder(String.format(
+        "%s model, %d ms measured, %d arrivals dropped%n", model, measuredMillis, dropped));
+    table.append(String.format("%-16s %9s %7s %10s %9s %9s %9s %9s %9s %9s%n", "operation",
+        "count", "errors", "ops/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+    for (OperationStats stats : operations) {
+      appendRow(table, stats);
+    }
+    appendRow(table, total);
+    return table.toString();
+  }
+
+  /**
+   * Appends the row of an operation to the table.
+   *
+   * @param table The table to append to.
+   * @param stats The statistics of the operation.
+   */
+  private static void appendRow(StringBuilder table, OperationStats stats) {
+    table.append(String.format(ROW_FORMAT, stats.name(), stats.count(), stats.errors(),
+        stats.throughputPerSec(), stats.meanMillis(), stats.p50Millis(), stats.p90Millis(),
+        stats.p99Millis(), stats.p999Millis(), stats.maxMillis()));
+  }
+}
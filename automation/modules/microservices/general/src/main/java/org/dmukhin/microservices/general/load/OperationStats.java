@@ -0,0 +1,43 @@
+package org.dmukhin.microservices.general.load;
+
+/**
+ * Throughput and latency percentiles of one operation, or of all operations, of a load run. The
+ * latencies are measured from the time the operation was due, so queueing behind a slow service is
+ * included instead of being omitted.
+ *
+ * @param name             The name of the operation.
+ * @param count            The number of completed operations.
+ * @param errors           The number of failed operations.
+ * @param throughputPerSec The completed operations per second.
+ * @param meanMillis       The mean latency in milliseconds.
+ * @param p50Millis        The median latency in milliseconds.
+ * @param p90Millis        The 90th percentile latency in milliseconds.
+ * @param p99Millis        The 99th percentile latency in milliseconds.
+ * @param p999Millis       The 99.9th percentile latency in milliseconds.
+ * @param maxMillis        The highest latency in milliseconds.
+ */
+public record OperationStats(String name, long count, long errors, double throughputPerSec,
+                             double meanMillis, double p50Millis, double p90Millis,
+                             double p99Millis, double p999Millis, double maxMillis) {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  /**
+   * Creates the statistics of an operation from its latency histogram.
+   *
+   * @param name          The name of the operation.
+   * @param histogram     The latencies of the operation.
+   * @param errors        The number of failed operations.
+   * @param measuredNanos The measured duration of the run in nanoseconds.
+   * @return The statistics of the operation.
+   */
+  public static OperationStats of(String name, LatencyHistogram histogram, long errors,
+      long measuredNanos) {
+    long count = histogram.getTotalCount();
+    return new OperationStats(name, count, errors,
+        measuredNanos > 0 ? count * 1_000_000_000.0 / measuredNanos : 0.0,
+        histogram.getMeanNanos() / NANOS_PER_MILLI, histogram.percentileMillis(50.0),
+        histogram.percentileMillis(90.0), histogram.percentileMillis(99.0),
+        histogram.percentileMillis(99.9), histogram.getMaxNanos() / NANOS_PER_MILLI);
+  }
+}
@@ -0,0 +1,14 @@
+package org.dmukhin.microservices.general.load;
+
+/**
+ * Operation of a load workload, e.g. retrieving a user through its endpoint. Operations are picked
+ * at random in proportion to their weights; an operation fails by throwing, e.g. the AssertionError
+ * of an unexpected status.
+ *
+ * @param name      The name of the operation in the load report.
+ * @param weight    The relative frequency of the operation, greater than 0.
+ * @param operation The call performing the operation.
+ */
+public record WeightedOperation(String name, int weight, Runnable operation) {
+
+}
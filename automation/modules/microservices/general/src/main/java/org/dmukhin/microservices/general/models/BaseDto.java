@@ -3,51 +3,180 @@ package org.dmukhin.microservices.general.models;
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dmukhin.general.objectmapper.DtoConverter;
+import org.dmukhin.general.objectmapper.UnknownPropertiesMode;
 
 /**
  * Abstract base class for Data Transfer Objects (DTOs). Provides common functionalities for DTOs,
- * including handling of unknown JSON fields and methods to convert DTOs to JSON strings.
+ * including handling of unknown JSON fields and methods to convert DTOs to JSON strings. A DTO can
+ * be frozen when it is shared between threads; its setters then fail instead of changing the
+ * state seen by the other threads. Unknown fields are absent from almost every response, so no
+ * storage is allocated for them until the first one is set; up to a few of them are then kept as
+ * alternating names and values in an array sized to the number of fields, more of them in a hash
+ * map, which also replaces the array when a field is removed. DTOs read in the
+ * {@link UnknownPropertiesMode#COUNT} mode only count them per DTO type.
  */
 public abstract class BaseDto {
 
   protected static final Logger LOGGER = LogManager.getLogger();
 
+  private static final int MAX_ARRAY_UNKNOWN_FIELDS = 8;
+  private static final Map<Object, Object> NO_UNKNOWN_FIELDS =
+      new UnknownFieldArray(new Object[0]);
+  private static final Map<Object, Object> COUNTED_UNKNOWN_FIELDS =
+      new UnknownFieldArray(new Object[0]);
+  private static final Map<Class<?>, LongAdder> UNKNOWN_PROPERTY_COUNTS =
+      new ConcurrentHashMap<>();
+  private static final long UNOBSERVED = -1;
+  private static final AtomicLong MODIFICATIONS = new AtomicLong();
+
+  @JsonIgnore
+  private volatile Map<Object, Object> unknownFields = NO_UNKNOWN_FIELDS;
+
+  @JsonIgnore
+  private transient volatile Rendering rendering = Rendering.EMPTY;
+
   @JsonIgnore
-  private final Map<Object, Object> unknownFields = new HashMap<>();
+  private transient volatile long modificationStamp = UNOBSERVED;
+
+  @JsonIgnore
+  private transient volatile Mutability mutability = Mutability.MUTABLE;
 
   /**
-   * Retrieves any unknown fields that have been deserialized.
+   * Retrieves any unknown fields that have been deserialized. The returned map is a live view of
+   * the unknown fields in the order they were set: changes through it change the DTO like the
+   * setters, so they fail with IllegalStateException once the DTO is frozen. The view is created
+   * on each call, so DTOs whose unknown fields are not accessed do not allocate it. It is empty for
+   * DTOs read in the {@link UnknownPropertiesMode#COUNT} mode.
    *
    * @return A Map containing unknown field names and values.
    */
-  @JsonAnyGetter
   public Map<Object, Object> any() {
+    return new UnknownFieldsView();
+  }
+
+  /**
+   * Provides the stored unknown fields for JSON serialization without the view.
+   *
+   * @return The unknown fields in the order they were set.
+   */
+  @JsonAnyGetter
+  private Map<Object, Object> serializedUnknownFields() {
     return unknownFields;
   }
 
   /**
-   * Sets an unknown field during JSON deserialization.
+   * Sets an unknown field during JSON deserialization. A field which is already set is
+   * overwritten. A field read in the {@link UnknownPropertiesMode#COUNT} mode has the
+   * {@link UnknownPropertiesMode#COUNTED} value; it is counted for the type of the DTO instead of
+   * being stored.
    *
    * @param name  The name of the field.
    * @param value The value of the field.
    */
   @JsonAnySetter
   public void set(Object name, Object value) {
-    unknownFields.put(name, value);
+    checkMutable();
+    Map<Object, Object> fields = unknownFields;
+    if (value == UnknownPropertiesMode.COUNTED) {
+      UNKNOWN_PROPERTY_COUNTS.computeIfAbsent(getClass(), type -> new LongAdder()).increment();
+      if (fields == NO_UNKNOWN_FIELDS) {
+        unknownFields = COUNTED_UNKNOWN_FIELDS;
+      }
+    } else if (fields instanceof UnknownFieldArray array) {
+      unknownFields = array.with(name, value);
+    } else {
+      fields.put(name, value);
+    }
   }
 
   /**
-   * Checks if there are any unknown fields present in the DTO.
+   * Checks if there are any unknown fields present in the DTO. Counted unknown fields are present
+   * as well, although their values were not kept.
    *
    * @return true if unknown fields are present, false otherwise.
    */
   public boolean hasUnknownProperties() {
-    return !unknownFields.isEmpty();
+    Map<Object, Object> fields = unknownFields;
+    return fields == COUNTED_UNKNOWN_FIELDS || !fields.isEmpty();
+  }
+
+  /**
+   * Provides the number of unknown properties counted per DTO type in the
+   * {@link UnknownPropertiesMode#COUNT} mode since the start of the run.
+   *
+   * @return A snapshot of the counts, keyed by the DTO class.
+   */
+  public static Map<Class<?>, Long> unknownPropertyCounts() {
+    Map<Class<?>, Long> counts = new HashMap<>();
+    UNKNOWN_PROPERTY_COUNTS.forEach((type, count) -> counts.put(type, count.sum()));
+    return counts;
+  }
+
+  /**
+   * Freezes the DTO and its nested DTOs. Freezing cannot be undone; use a new DTO to change data.
+   */
+  public void freeze() {
+    mutability = Mutability.FROZEN;
+    for (BaseDto nested : nestedDtos()) {
+      if (nested != null) {
+        nested.freeze();
+      }
+    }
+  }
+
+  /**
+   * Checks whether the DTO is frozen.
+   *
+   * @return true if the setters of the DTO fail, false otherwise.
+   */
+  @JsonIgnore
+  public boolean isFrozen() {
+    return mutability == Mutability.FROZEN;
+  }
+
+  /**
+   * Fails if the DTO is frozen. Called by every setter before it changes the state. Once the DTO
+   * has been rendered by {@link #toString()}, every call also invalidates the cached rendering of
+   * this DTO and of the DTOs it is nested in.
+   *
+   * @throws IllegalStateException If the DTO is frozen.
+   */
+  protected void checkMutable() {
+    if (isFrozen()) {
+      throw new IllegalStateException(getClass().getSimpleName()
+          + " is frozen because it is shared between threads, create a new DTO to change data");
+    }
+    if (modificationStamp != UNOBSERVED) {
+      modificationStamp = MODIFICATIONS.incrementAndGet();
+    }
+  }
+
+  /**
+   * Provides the nested DTOs which are frozen together with this DTO. DTOs with nested DTOs must
+   * override this method.
+   *
+   * @return The nested DTOs, elements may be null.
+   */
+  protected List<BaseDto> nestedDtos() {
+    return List.of();
   }
 
   /**
@@ -70,12 +199,267 @@ public abstract class BaseDto {
   }
 
   /**
-   * Overrides the toString method to provide a JSON representation of the DTO.
+   * Overrides the toString method to provide a JSON representation of the DTO. The pretty JSON is
+   * rendered lazily and cached per instance; the cache is invalidated by the setters, which stamp
+   * the DTO with a new modification once it has been rendered, including the setters of nested
+   * DTOs. Checking the cache only visits the nested DTOs, not their fields.
    *
    * @return A JSON string representation of the DTO.
    */
   @Override
   public String toString() {
-    return toPrettyJsonString();
+    long stamp = observeModifications();
+    Rendering current = rendering;
+    if (current == Rendering.EMPTY || current.modificationStamp() != stamp) {
+      current = new Rendering(stamp, toPrettyJsonString());
+      rendering = current;
+    }
+    return current.json();
+  }
+
+  /**
+   * Marks the DTO and its nested DTOs as observed, so their setters stamp further modifications,
+   * and retrieves the latest modification stamp among them. Stamps are drawn from a global
+   * sequence, so any modification after this call results in a greater stamp.
+   *
+   * @return The latest modification stamp of the DTO and its nested DTOs, 0 if there was none.
+   */
+  private long observeModifications() {
+    if (modificationStamp == UNOBSERVED) {
+      modificationStamp = 0;
+    }
+    long stamp = modificationStamp;
+    for (BaseDto nested : nestedDtos()) {
+      if (nested != null) {
+        stamp = Math.max(stamp, nested.observeModifications());
+      }
+    }
+    return stamp;
+  }
+
+  /**
+   * Cached JSON rendering of a DTO together with the modification stamp it was rendered for.
+   *
+   * @param modificationStamp The latest modification stamp of the DTO graph at rendering time.
+   * @param json              The rendered JSON.
+   */
+  public record Rendering(long modificationStamp, String json) {
+
+    /**
+     * Sentinel used until the DTO is rendered for the first time.
+     */
+    static final Rendering EMPTY = new Rendering(UNOBSERVED, null);
+  }
+
+  /**
+   * Live view of the unknown fields of a DTO returned by {@link #any()}. Fields are set with
+   * {@link #set(Object, Object)}; removing fields stores them in a hash map. Every change checks the
+   * mutability of the DTO and stamps the modification.
+   */
+  private final class UnknownFieldsView extends AbstractMap<Object, Object> {
+
+    @Override
+    public int size() {
+      return unknownFields.size();
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+      return unknownFields.containsKey(name);
+    }
+
+    @Override
+    public Object get(Object name) {
+      return unknownFields.get(name);
+    }
+
+    /**
+     * Sets an unknown field like {@link #set(Object, Object)}.
+     *
+     * @param name  The name of the field.
+     * @param value The value of the field.
+     * @return The previous value of the field, or null if it was not set.
+     */
+    @Override
+    public Object put(Object name, Object value) {
+      Object previous = unknownFields.get(name);
+      set(name, value);
+      return previous;
+    }
+
+    /**
+     * Removes an unknown field, the few fields of an array are moved to a hash map first.
+     *
+     * @param name The name of the field.
+     * @return The value of the removed field, or null if it was not set.
+     */
+    @Override
+    public Object remove(Object name) {
+      checkMutable();
+      Map<Object, Object> fields = unknownFields;
+      if (!fields.containsKey(name)) {
+        return null;
+      }
+      if (fields instanceof UnknownFieldArray) {
+        fields = new LinkedHashMap<>(fields);
+        unknownFields = fields;
+      }
+      return fields.remove(name);
+    }
+
+    /**
+     * Removes all unknown fields. Counted unknown fields remain present.
+     */
+    @Override
+    public void clear() {
+      checkMutable();
+      if (unknownFields != COUNTED_UNKNOWN_FIELDS) {
+        unknownFields = NO_UNKNOWN_FIELDS;
+      }
+    }
+
+    /**
+     * Provides the unknown fields as entries in the order they were set. The entries are iterated
+     * over a copy of the field names, so fields can be changed and removed while iterating.
+     *
+     * @return The entries writing through to the DTO.
+     */
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<Object, Object>> iterator() {
+          Iterator<Object> names = new ArrayList<>(unknownFields.keySet()).iterator();
+          return new Iterator<>() {
+            private Object current;
+            private boolean removable;
+
+            @Override
+            public boolean hasNext() {
+              return names.hasNext();
+            }
+
+            @Override
+            public Entry<Object, Object> next() {
+              current = names.next();
+              removable = true;
+              Object name = current;
+              return new SimpleEntry<>(name, unknownFields.get(name)) {
+                @Override
+                public Object setValue(Object value) {
+                  super.setValue(value);
+                  return put(name, value);
+                }
+              };
+            }
+
+            @Override
+            public void remove() {
+              if (!removable) {
+                throw new IllegalStateException();
+              }
+              UnknownFieldsView.this.remove(current);
+              removable = false;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return unknownFields.size();
+        }
+      };
+    }
+  }
+
+  /**
+   * Read-only map of the alternating names and values of the few unknown fields of a DTO. The
+   * array is never changed once the map is created; setting a field creates a new map.
+   */
+  private static final class UnknownFieldArray extends AbstractMap<Object, Object> {
+
+    private final Object[] fields;
+
+    /**
+     * Constructor for UnknownFieldArray.
+     *
+     * @param fields The alternating names and values of the unknown fields.
+     */
+    private UnknownFieldArray(Object[] fields) {
+      this.fields = fields;
+    }
+
+    /**
+     * Creates the unknown fields with the given field set.
+     *
+     * @param name  The name of the field.
+     * @param value The value of the field.
+     * @return A new array map with the field, or a hash map once there are more fields than an
+     *     array map keeps.
+     */
+    private Map<Object, Object> with(Object name, Object value) {
+      for (int i = 0; i < fields.length; i += 2) {
+        if (Objects.equals(fields[i], name)) {
+          Object[] replaced = fields.clone();
+          replaced[i + 1] = value;
+          return new UnknownFieldArray(replaced);
+        }
+      }
+      if (fields.length / 2 == MAX_ARRAY_UNKNOWN_FIELDS) {
+        Map<Object, Object> map = new LinkedHashMap<>(this);
+        map.put(name, value);
+        return map;
+      }
+      Object[] extended = Arrays.copyOf(fields, fields.length + 2);
+      extended[fields.length] = name;
+      extended[fields.length + 1] = value;
+      return new UnknownFieldArray(extended);
+    }
+
+    /**
+     * Provides the unknown fields as entries in the order they were set.
+     *
+     * @return A read-only set of the entries.
+     */
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<Object, Object>> iterator() {
+          return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+              return index < fields.length;
+            }
+
+            @Override
+            public Entry<Object, Object> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              Entry<Object, Object> entry =
+                  new SimpleImmutableEntry<>(fields[index], fields[index + 1]);
+              index += 2;
+              return entry;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return fields.length / 2;
+        }
+      };
+    }
+  }
+
+  /**
+   * Whether the setters of a DTO may change its state.
+   */
+  public enum Mutability {
+    MUTABLE,
+    FROZEN
   }
 }
@@ -0,0 +1,56 @@
+package org.dmukhin.microservices.general.ratelimit;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * REST Assured filter passing every request of a service through its {@link RateLimiter}. It runs
+ * after the response cache, so cached responses do not take tokens, and every attempt of a hedged
+ * or retried request does.
+ */
+public class RateLimitFilter implements Filter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final RateLimiter rateLimiter;
+
+  /**
+   * Constructor for RateLimitFilter.
+   *
+   * @param rateLimiter The rate limiter of the service.
+   */
+  public RateLimitFilter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Waits for the rate limiter, sends the request and frees its slot once the response arrived.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The received response.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    rateLimiter.acquire();
+    try {
+      Response response = ctx.next(requestSpec, responseSpec);
+      if (response.statusCode() == TOO_MANY_REQUESTS) {
+        rateLimiter.recordTooManyRequests();
+        LOGGER.warn("[{}] [{}] was answered with 429 Too Many Requests despite the rate limit",
+            requestSpec.getMethod(), requestSpec.getURI());
+      }
+      return response;
+    } finally {
+      rateLimiter.release();
+    }
+  }
+}
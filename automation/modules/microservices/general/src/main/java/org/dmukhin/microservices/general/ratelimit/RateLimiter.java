@@ -0,0 +1,119 @@
+package org.dmukhin.microservices.general.ratelimit;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.dmukhin.general.config.environment.models.RateLimitSettingsDto;
+
+/**
+ * Client-side rate limiter of a service, combining a token bucket with a concurrency cap. The
+ * bucket is refilled at the configured rate and holds at most the burst; a request without a token
+ * reserves the next one and sleeps until it is due, so waiting requests are served in order and the
+ * lock is never held while sleeping. The cap bounds the requests in flight with a fair semaphore.
+ */
+public class RateLimiter {
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final Semaphore concurrency;
+  private long nextFreeNanos = System.nanoTime();
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder acquired = new LongAdder();
+  private final LongAdder throttled = new LongAdder();
+  private final LongAdder throttleWaitNanos = new LongAdder();
+  private final LongAdder concurrencyWaits = new LongAdder();
+  private final LongAdder concurrencyWaitNanos = new LongAdder();
+  private final LongAdder tooManyRequests = new LongAdder();
+
+  /**
+   * Constructor for RateLimiter.
+   *
+   * @param settings The rate limit settings of the service.
+   */
+  public RateLimiter(RateLimitSettingsDto settings) {
+    this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1)
+        / settings.getPermitsPerSecond()));
+    this.burstNanos = (Math.max(1, settings.getBurst()) - 1) * intervalNanos;
+    this.concurrency = settings.getMaxConcurrent() > 0
+        ? new Semaphore(settings.getMaxConcurrent(), true)
+        : null;
+  }
+
+  /**
+   * Waits for a token and a free concurrency slot. Every successful call must be followed by
+   * {@link #release()} once the response is received.
+   *
+   * @throws IllegalStateException If the thread is interrupted while waiting.
+   */
+  public void acquire() {
+    long waitNanos = reserve();
+    try {
+      if (waitNanos > 0) {
+        throttled.increment();
+        throttleWaitNanos.add(waitNanos);
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      }
+      if (concurrency != null && !concurrency.tryAcquire()) {
+        concurrencyWaits.increment();
+        long start = System.nanoTime();
+        try {
+          concurrency.acquire();
+        } finally {
+          concurrencyWaitNanos.add(System.nanoTime() - start);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the rate limiter", e);
+    }
+    inFlight.incrementAndGet();
+    acquired.increment();
+  }
+
+  /**
+   * Frees the concurrency slot of a request acquired before.
+   */
+  public void release() {
+    inFlight.decrementAndGet();
+    if (concurrency != null) {
+      concurrency.release();
+    }
+  }
+
+  /**
+   * Counts a response with status 429 Too Many Requests.
+   */
+  public void recordTooManyRequests() {
+    tooManyRequests.increment();
+  }
+
+  /**
+   * Provides the current counters of the limiter.
+   *
+   * @return A snapshot of the rate limiter metrics.
+   */
+  public RateLimiterMetrics getMetrics() {
+    return new RateLimiterMetrics(acquired.sum(), throttled.sum(),
+        TimeUnit.NANOSECONDS.toMillis(throttleWaitNanos.sum()), concurrencyWaits.sum(),
+        TimeUnit.NANOSECONDS.toMillis(concurrencyWaitNanos.sum()), inFlight.get(),
+        tooManyRequests.sum());
+  }
+
+  /**
+   * Takes the next token of the bucket. Tokens not used while idle accumulate up to the burst; the
+   * next free token moves one interval further with every reservation.
+   *
+   * @return The time until the reserved token is due in nanoseconds, 0 if it is available now.
+   */
+  private synchronized long reserve() {
+    long now = System.nanoTime();
+    if (nextFreeNanos - now < -burstNanos) {
+      nextFreeNanos = now - burstNanos;
+    }
+    long waitNanos = Math.max(0L, nextFreeNanos - now);
+    nextFreeNanos += intervalNanos;
+    return waitNanos;
+  }
+}
@@ -0,0 +1,19 @@
+package org.dmukhin.microservices.general.ratelimit;
+
+/**
+ * Snapshot of the counters of a {@link RateLimiter}. Wait times show how much the limit slows the
+ * run down; 429 responses show whether it is still above what the service sustains.
+ *
+ * @param acquired              The number of requests which passed the limiter.
+ * @param throttled             The number of requests which waited for a token.
+ * @param throttleWaitMillis    The total time requests waited for a token.
+ * @param concurrencyWaits      The number of requests which waited for a free concurrency slot.
+ * @param concurrencyWaitMillis The total time requests waited for a free concurrency slot.
+ * @param inFlight              The current number of requests in flight.
+ * @param tooManyRequests       The number of responses with status 429 Too Many Requests.
+ */
+public record RateLimiterMetrics(long acquired, long throttled, long throttleWaitMillis,
+                                 long concurrencyWaits, long concurrencyWaitMillis, int inFlight,
+                                 long tooManyRequests) {
+
+}
@@ -0,0 +1,139 @@
+package org.dmukhin.microservices.general.resilience;
+
+import static io.restassured.RestAssured.given;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.dmukhin.microservices.general.http.StreamedResponseFilter;
+
+/**
+ * REST Assured filter hedging the GET requests of a service with its {@link ResiliencePolicy}. It
+ * runs after the response cache, so cached responses are returned on the calling thread and only
+ * requests sent to the service are hedged and contribute to the latencies the hedging delay is
+ * computed from. Conditional requests revalidating a cache entry and streamed requests, see
+ * {@link StreamedResponseFilter}, are passed on unchanged. The second attempt of a hedged request
+ * is sent as a copy of the request through the filters following this one, e.g. the rate limit,
+ * the latency timing and the transport of the service.
+ */
+public class HedgingFilter implements Filter {
+
+  private static final String IF_NONE_MATCH = "If-None-Match";
+
+  private final ResiliencePolicy resiliencePolicy;
+
+  /**
+   * Constructor for HedgingFilter.
+   *
+   * @param resiliencePolicy The policy of the service, hedging must be enabled in it.
+   */
+  public HedgingFilter(ResiliencePolicy resiliencePolicy) {
+    this.resiliencePolicy = resiliencePolicy;
+  }
+
+  /**
+   * Sends a GET request with hedging, other requests are passed on unchanged. The bodies of both
+   * attempts are read before an attempt completes, so the connection of the discarded attempt is
+   * returned to the pool.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The response of the first attempt completed.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    if (!"GET".equals(requestSpec.getMethod()) || StreamedResponseFilter.isStreamed(ctx)
+        || requestSpec.getHeaders().hasHeaderWithName(IF_NONE_MATCH)) {
+      return ctx.next(requestSpec, responseSpec);
+    }
+    return resiliencePolicy.executeHedged(
+        () -> readBody(ctx.next(requestSpec, responseSpec)),
+        () -> readBody(sendCopy(requestSpec)));
+  }
+
+  /**
+   * Sends a copy of a GET request through the filters of the request which follow this one. The
+   * path template and path parameters are resolved again, the query parameters are taken from the
+   * URI of the request, so parameters with several values are kept.
+   *
+   * @param requestSpec The request to copy.
+   * @return The response of the copy.
+   */
+  private Response sendCopy(FilterableRequestSpecification requestSpec) {
+    RequestSpecification copy = given()
+        .config(requestSpec.getConfig())
+        .baseUri(requestSpec.getBaseUri())
+        .port(requestSpec.getPort())
+        .basePath(requestSpec.getBasePath())
+        .headers(requestSpec.getHeaders())
+        .cookies(requestSpec.getCookies())
+        .pathParams(requestSpec.getNamedPathParams())
+        .noFilters()
+        .filters(followingFilters(requestSpec));
+    queryParameters(requestSpec.getURI()).forEach(copy::queryParam);
+    return copy.request(requestSpec.getMethod(), requestSpec.getUserDefinedPath(),
+        requestSpec.getUnnamedPathParamValues().toArray());
+  }
+
+  /**
+   * Provides the filters of a request which follow this one, in the order REST Assured runs them:
+   * ordered by precedence, filters of equal precedence in the order they were added.
+   *
+   * @param requestSpec The request.
+   * @return The filters following this one.
+   */
+  private List<Filter> followingFilters(FilterableRequestSpecification requestSpec) {
+    List<Filter> filters = new ArrayList<>(requestSpec.getDefinedFilters());
+    filters.sort(Comparator.comparingInt(filter -> filter instanceof OrderedFilter ordered
+        ? ordered.getOrder()
+        : OrderedFilter.DEFAULT_PRECEDENCE));
+    return List.copyOf(filters.subList(filters.indexOf(this) + 1, filters.size()));
+  }
+
+  /**
+   * Parses the query of a URI into its decoded parameters.
+   *
+   * @param uri The URI of the request.
+   * @return The values of the query parameters by name, in the order of the query.
+   */
+  private static Map<String, List<String>> queryParameters(String uri) {
+    Map<String, List<String>> parameters = new LinkedHashMap<>();
+    String query = URI.create(uri).getRawQuery();
+    if (query == null || query.isEmpty()) {
+      return parameters;
+    }
+    for (String parameter : query.split("&")) {
+      int separator = parameter.indexOf('=');
+      String name = separator < 0 ? parameter : parameter.substring(0, separator);
+      String value = separator < 0 ? "" : parameter.substring(separator + 1);
+      parameters.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+          key -> new ArrayList<>()).add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return parameters;
+  }
+
+  /**
+   * Reads the body of a response, which REST Assured reads lazily, so its pooled connection is
+   * released even if the response is discarded.
+   *
+   * @param response The response of an attempt.
+   * @return The response with its body read.
+   */
+  private static Response readBody(Response response) {
+    response.asByteArray();
+    return response;
+  }
+}
@@ -0,0 +1,63 @@
+package org.dmukhin.microservices.general.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window over the most recent latencies of a service. The oldest latency is overwritten
+ * once the window is full, so percentiles follow changes of the service instead of being anchored
+ * to its warm-up. Recording and reading are synchronized, the window is shared by all threads.
+ */
+public class LatencyWindow {
+
+  private final long[] latencies;
+  private int next;
+  private int size;
+
+  /**
+   * Constructor for LatencyWindow.
+   *
+   * @param capacity The number of recent latencies kept.
+   */
+  public LatencyWindow(int capacity) {
+    this.latencies = new long[Math.max(1, capacity)];
+  }
+
+  /**
+   * Records a latency, replacing the oldest one if the window is full.
+   *
+   * @param latencyNanos The latency in nanoseconds.
+   */
+  public synchronized void record(long latencyNanos) {
+    latencies[next] = latencyNanos;
+    next = (next + 1) % latencies.length;
+    size = Math.min(size + 1, latencies.length);
+  }
+
+  /**
+   * Retrieves the number of latencies in the window.
+   *
+   * @return The number of recorded latencies, at most the capacity.
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Computes a percentile of the latencies in the window with the nearest-rank method.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   * @return The latency in nanoseconds, or 0 if nothing is recorded yet.
+   */
+  public long percentile(double percentile) {
+    long[] sorted;
+    synchronized (this) {
+      if (size == 0) {
+        return 0;
+      }
+      sorted = Arrays.copyOf(latencies, size);
+    }
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * sorted.length);
+    return sorted[Math.max(0, rank - 1)];
+  }
+}
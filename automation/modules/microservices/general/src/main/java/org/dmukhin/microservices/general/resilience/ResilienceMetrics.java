@@ -0,0 +1,31 @@
+package org.dmukhin.microservices.general.resilience;
+
+/**
+ * Snapshot of the counters of a {@link ResiliencePolicy}. The share of hedge wins among the hedged
+ * requests shows whether hedging cuts the tail latency or only adds load; retries show how often
+ * the service could not be reached.
+ *
+ * @param requests         The number of requests executed through the policy.
+ * @param hedged           The number of GET requests which were sent a second time.
+ * @param hedgeWins        The number of hedged requests answered first by the second request.
+ * @param retries          The number of attempts repeated after a connection failure.
+ * @param retriesExhausted The number of requests which still failed to connect after all attempts.
+ * @param hedgeDelayMillis The current delay before a GET request is hedged, -1 while not enough
+ *                         latencies are recorded or hedging is disabled.
+ */
+public record ResilienceMetrics(long requests, long hedged, long hedgeWins, long retries,
+                                long retriesExhausted, long hedgeDelayMillis) {
+
+  /**
+   * Calculates the counters accumulated since an earlier snapshot of the same policy. The hedging
+   * delay is the current one.
+   *
+   * @param earlier The earlier snapshot.
+   * @return The difference between this snapshot and the earlier one.
+   */
+  public ResilienceMetrics since(ResilienceMetrics earlier) {
+    return new ResilienceMetrics(requests - earlier.requests, hedged - earlier.hedged,
+        hedgeWins - earlier.hedgeWins, retries - earlier.retries,
+        retriesExhausted - earlier.retriesExhausted, hedgeDelayMillis);
+  }
+}
@@ -0,0 +1,260 @@
+package org.dmukhin.microservices.general.resilience;
+
+import io.restassured.http.Method;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.environment.models.HedgingSettingsDto;
+import org.dmukhin.general.config.environment.models.RetrySettingsDto;
+import org.dmukhin.microservices.general.async.AsyncRequestExecutor;
+
+/**
+ * Hedging and retry policy of the requests of a service. GET requests sent to the service which
+ * take longer than the configured percentile of its recent GET latencies are sent a second time by
+ * the {@link HedgingFilter} of the service; the first response is used and the other request is
+ * cancelled by interrupting its virtual thread, which closes its connection. Idempotent requests
+ * which fail to connect, or lose their connection before the response, are repeated with
+ * exponential backoff. Both are configured per service and disabled by default, then requests run
+ * on the calling thread without any overhead.
+ */
+public class ResiliencePolicy {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+  private static final Set<Method> IDEMPOTENT_METHODS = EnumSet.of(Method.GET, Method.HEAD,
+      Method.PUT, Method.DELETE, Method.OPTIONS, Method.TRACE);
+
+  private final HedgingSettingsDto hedging;
+  private final RetrySettingsDto retry;
+  private final boolean hedgingEnabled;
+  private final boolean retryEnabled;
+  private final LatencyWindow latencies;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder hedged = new LongAdder();
+  private final LongAdder hedgeWins = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder retriesExhausted = new LongAdder();
+
+  /**
+   * Constructor for ResiliencePolicy.
+   *
+   * @param hedging The hedging settings of the service.
+   * @param retry   The retry settings of the service.
+   */
+  public ResiliencePolicy(HedgingSettingsDto hedging, RetrySettingsDto retry) {
+    this.hedging = hedging;
+    this.retry = retry;
+    this.hedgingEnabled = Boolean.TRUE.equals(hedging.getEnabled());
+    this.retryEnabled = Boolean.TRUE.equals(retry.getEnabled());
+    this.latencies = new LatencyWindow(hedging.getWindowSize());
+  }
+
+  /**
+   * Provides a policy with hedging and retries disabled, which runs every request once on the
+   * calling thread.
+   *
+   * @return A new disabled policy.
+   */
+  public static ResiliencePolicy disabled() {
+    return new ResiliencePolicy(new HedgingSettingsDto(), new RetrySettingsDto());
+  }
+
+  /**
+   * Executes a request according to the retry settings of the policy; GET requests are hedged by
+   * the {@link HedgingFilter} of the service once they are sent. Failures which are not connection
+   * failures, e.g. the AssertionError of an unexpected status, are thrown unchanged and never
+   * retried.
+   *
+   * @param method  The HTTP method of the request.
+   * @param request The request, called once per attempt on the calling thread.
+   * @param <T>     The type of the request result.
+   * @return The result of the first successful attempt.
+   */
+  public <T> T execute(Method method, Supplier<T> request) {
+    requests.increment();
+    int maxAttempts = retryEnabled && IDEMPOTENT_METHODS.contains(method)
+        ? Math.max(1, retry.getMaxAttempts())
+        : 1;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return request.get();
+      } catch (Exception e) {
+        boolean connectionFailure = isConnectionFailure(e);
+        if (!connectionFailure || attempt >= maxAttempts) {
+          if (connectionFailure && maxAttempts > 1) {
+            retriesExhausted.increment();
+          }
+          throw e;
+        }
+        long backoffMillis = backoffMillis(attempt);
+        retries.increment();
+        LOGGER.warn("{} attempt [{}] of [{}] failed to connect, retry in [{}] ms: {}", method,
+            attempt, maxAttempts, backoffMillis, e.toString());
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks whether hedging is enabled in the settings of the service, i.e. whether slow GET
+   * requests are sent a second time.
+   *
+   * @return true if hedging is enabled, false otherwise.
+   */
+  public boolean isHedgingEnabled() {
+    return hedgingEnabled;
+  }
+
+  /**
+   * Provides the current counters of the policy.
+   *
+   * @return A snapshot of the resilience metrics.
+   */
+  public ResilienceMetrics getMetrics() {
+    long delayNanos = hedgingEnabled ? hedgeDelayNanos() : -1;
+    return new ResilienceMetrics(requests.sum(), hedged.sum(), hedgeWins.sum(), retries.sum(),
+        retriesExhausted.sum(), delayNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delayNanos));
+  }
+
+  /**
+   * Sends a GET request on a virtual thread and, if it has not completed within the hedging delay,
+   * sends its copy. The first successful response is returned, a failure only once both attempts
+   * failed; the attempt still running is cancelled. While fewer latencies than required are
+   * recorded, the request is sent once on the calling thread. The latency seen by the caller is
+   * recorded, so hedging raises the tail it is computed from instead of hedging ever earlier.
+   *
+   * @param request      The request to send.
+   * @param hedgeRequest The copy of the request sent if it is hedged.
+   * @param <T>          The type of the request result.
+   * @return The result of the first successful attempt.
+   */
+  public <T> T executeHedged(Supplier<T> request, Supplier<T> hedgeRequest) {
+    long start = System.nanoTime();
+    long delayNanos = hedgeDelayNanos();
+    if (delayNanos < 0) {
+      T result = request.get();
+      latencies.record(System.nanoTime() - start);
+      return result;
+    }
+    CompletionService<T> attempts = new ExecutorCompletionService<>(EXECUTOR);
+    List<Future<T>> started = new ArrayList<>(2);
+    started.add(attempts.submit(AsyncRequestExecutor.withCallerContext(request)::get));
+    try {
+      Future<T> completed = attempts.poll(delayNanos, TimeUnit.NANOSECONDS);
+      if (completed == null) {
+        hedged.increment();
+        LOGGER.debug("GET not answered within [{}] ms, send it again",
+            TimeUnit.NANOSECONDS.toMillis(delayNanos));
+        started.add(attempts.submit(AsyncRequestExecutor.withCallerContext(hedgeRequest)::get));
+      }
+      ExecutionException failure = null;
+      for (int received = 0; received < started.size(); received++) {
+        Future<T> attempt = received == 0 && completed != null ? completed : attempts.take();
+        try {
+          T result = attempt.get();
+          if (started.size() > 1 && attempt == started.get(1)) {
+            hedgeWins.increment();
+          }
+          latencies.record(System.nanoTime() - start);
+          return result;
+        } catch (ExecutionException e) {
+          failure = failure == null ? e : failure;
+        }
+      }
+      throw unwrap(failure);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the GET response", e);
+    } finally {
+      started.forEach(attempt -> attempt.cancel(true));
+    }
+  }
+
+  /**
+   * Computes the delay before a GET request is hedged from the recent latencies.
+   *
+   * @return The delay in nanoseconds, or -1 while fewer latencies than required are recorded.
+   */
+  private long hedgeDelayNanos() {
+    if (latencies.size() < hedging.getMinSamples()) {
+      return -1;
+    }
+    return Math.max(TimeUnit.MILLISECONDS.toNanos(hedging.getMinDelayMillis()),
+        latencies.percentile(hedging.getPercentile()));
+  }
+
+  /**
+   * Computes the pause after a failed attempt: the initial backoff grows by the multiplier with
+   * every attempt up to the maximum, and a random half of it is dropped, so clients failing at the
+   * same time do not retry in lockstep.
+   *
+   * @param attempt The number of the failed attempt, starting with 1.
+   * @return The pause in milliseconds.
+   */
+  private long backoffMillis(int attempt) {
+    double backoff = retry.getInitialBackoffMillis() * Math.pow(retry.getMultiplier(), attempt - 1);
+    long cappedBackoff = (long) Math.min(backoff, retry.getMaxBackoffMillis());
+    return ThreadLocalRandom.current().nextLong(cappedBackoff / 2, cappedBackoff + 1);
+  }
+
+  /**
+   * Checks whether a failure means the request did not reach the service or its connection was
+   * lost before the response, so repeating an idempotent request is safe.
+   *
+   * @param failure The failure of the attempt.
+   * @return true if the failure or one of its causes is a connection failure, false otherwise.
+   */
+  private static boolean isConnectionFailure(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConnectException || cause instanceof SocketException
+          || cause instanceof NoHttpResponseException || cause instanceof ConnectTimeoutException
+          || cause instanceof HttpConnectTimeoutException) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Unwraps the failure of an attempt, so the caller sees the same exception as without hedging.
+   *
+   * @param failure The failure of the attempt.
+   * @return The unchecked failure to throw.
+   */
+  private static RuntimeException unwrap(ExecutionException failure) {
+    if (failure.getCause() instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (failure.getCause() instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException("GET request failed", failure.getCause());
+  }
+}
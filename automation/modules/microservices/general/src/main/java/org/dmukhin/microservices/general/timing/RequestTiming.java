@@ -0,0 +1,21 @@
+package org.dmukhin.microservices.general.timing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measured latency of a single request.
+ *
+ * @param key          The key of the request: service, method, path template and status.
+ * @param latencyNanos The latency in nanoseconds.
+ */
+public record RequestTiming(RequestTimingKey key, long latencyNanos) {
+
+  /**
+   * Retrieves the latency in milliseconds.
+   *
+   * @return The latency in milliseconds.
+   */
+  public double latencyMillis() {
+    return (double) latencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,75 @@
+package org.dmukhin.microservices.general.timing;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+
+/**
+ * Utility class providing the stored latency baseline. A baseline is a request timing report of an
+ * earlier run, as written by {@link RequestTimingReporter}, kept at the path of the
+ * 'api.timing.baseline.file' property. It is read once; without the property there is no baseline.
+ */
+public final class RequestTimingBaseline {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private RequestTimingBaseline() {
+    // default constructor
+  }
+
+  /**
+   * Finds the baseline of the endpoint and status of a request.
+   *
+   * @param key The key of the request.
+   * @return The baseline statistics, or an empty Optional if there is no baseline for the key.
+   */
+  public static Optional<RequestTimingStats> find(RequestTimingKey key) {
+    return Holder.BASELINE.stream()
+        .filter(stats -> stats.service().equals(key.service())
+            && stats.method().equals(key.method())
+            && stats.path().equals(key.path())
+            && stats.status() == key.status())
+        .findFirst();
+  }
+
+  /**
+   * Reads the baseline file of the 'api.timing.baseline.file' property.
+   *
+   * @return The statistics of the baseline, empty if the property is not set.
+   * @throws IllegalStateException If the baseline file cannot be read.
+   */
+  private static List<RequestTimingStats> load() {
+    String baselineFile = MavenProperties.getTimingBaselineFile();
+    if (StringUtils.isBlank(baselineFile)) {
+      return List.of();
+    }
+    try {
+      List<RequestTimingStats> baseline = ObjectMapperRegistry.mapper().readValue(
+          Files.readAllBytes(Path.of(baselineFile)), new TypeReference<>() {
+          });
+      LOGGER.info("Latency baseline of [{}] keys read from [{}]", baseline.size(), baselineFile);
+      return baseline;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read the latency baseline " + baselineFile, e);
+    }
+  }
+
+  /**
+   * Holder of the baseline, read on first use.
+   */
+  private static class Holder {
+
+    private static final List<RequestTimingStats> BASELINE = load();
+  }
+}
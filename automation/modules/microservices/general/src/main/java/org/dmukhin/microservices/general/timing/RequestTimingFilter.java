@@ -0,0 +1,73 @@
+package org.dmukhin.microservices.general.timing;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * REST Assured filter recording the latency of every request of a service in
+ * {@link RequestTimings} and in the {@link RequestTimingWindow} of the current test. It runs after
+ * the response cache and the rate limiter, so it measures the time the service took to answer,
+ * without cache hits and client-side throttling. Requests failing without response, e.g. the
+ * cancelled loser of a hedged request, are recorded with status 0 in the execution-wide timings
+ * only, so they do not count against the latency budgets of the test. The timing of a received
+ * response can be looked up with {@link RequestTimings#timingOf(Response)}.
+ */
+public class RequestTimingFilter implements Filter {
+
+  private static final int NO_RESPONSE = 0;
+
+  private final String service;
+
+  /**
+   * Constructor for RequestTimingFilter.
+   *
+   * @param service The API setting name of the service.
+   */
+  public RequestTimingFilter(String service) {
+    this.service = service;
+  }
+
+  /**
+   * Sends the request and records its latency under its path template and status code.
+   *
+   * @param requestSpec  The request specification.
+   * @param responseSpec The response specification.
+   * @param ctx          The filter context.
+   * @return The received response.
+   */
+  @Override
+  public Response filter(FilterableRequestSpecification requestSpec,
+      FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    Response response = null;
+    long start = System.nanoTime();
+    try {
+      response = ctx.next(requestSpec, responseSpec);
+      return response;
+    } finally {
+      long latencyNanos = System.nanoTime() - start;
+      int status = response == null ? NO_RESPONSE : response.statusCode();
+      RequestTimingKey key = new RequestTimingKey(service, requestSpec.getMethod(),
+          pathTemplate(requestSpec.getUserDefinedPath()), status);
+      RequestTimings.record(key, latencyNanos);
+      if (response != null) {
+        RequestTiming timing = new RequestTiming(key, latencyNanos);
+        RequestTimingWindow.current().record(timing);
+        RequestTimings.record(response, timing);
+      }
+    }
+  }
+
+  /**
+   * Removes the query from the path as written by the endpoint.
+   *
+   * @param userDefinedPath The path of the request with unresolved path parameters.
+   * @return The path template.
+   */
+  private static String pathTemplate(String userDefinedPath) {
+    int query = userDefinedPath.indexOf('?');
+    return query < 0 ? userDefinedPath : userDefinedPath.substring(0, query);
+  }
+}
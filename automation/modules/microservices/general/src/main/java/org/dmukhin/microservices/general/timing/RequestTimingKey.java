@@ -0,0 +1,15 @@
+package org.dmukhin.microservices.general.timing;
+
+/**
+ * Key of the request latencies recorded by {@link RequestTimingFilter}: one histogram is kept per
+ * service, HTTP method, path template and status code. The path template is the path as written by
+ * the endpoint, e.g. '/users/{userID}', so the number of keys does not grow with the IDs used.
+ *
+ * @param service The API setting name of the service, e.g. 'placeholderService'.
+ * @param method  The HTTP method of the request.
+ * @param path    The path template of the request, without base path and query.
+ * @param status  The status code of the response, 0 if no response was received.
+ */
+public record RequestTimingKey(String service, String method, String path, int status) {
+
+}
@@ -0,0 +1,60 @@
+package org.dmukhin.microservices.general.timing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+import org.dmukhin.microservices.general.allure.AsyncAttachmentWriter;
+
+/**
+ * Utility class for reporting the request latencies recorded in {@link RequestTimings}. The report
+ * is a JSON array of {@link RequestTimingStats}, written to a file and attached to the current
+ * Allure test or fixture.
+ */
+public final class RequestTimingReporter {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private RequestTimingReporter() {
+    // default constructor
+  }
+
+  /**
+   * Writes the request latencies recorded so far to the given file and attaches them to the Allure
+   * report. Nothing is reported if no request was recorded.
+   *
+   * @param reportFile The file to write the JSON report to, replaced if it exists.
+   */
+  public static void report(Path reportFile) {
+    List<RequestTimingStats> stats = RequestTimings.snapshot();
+    if (stats.isEmpty()) {
+      return;
+    }
+    String json;
+    try {
+      json = ObjectMapperRegistry.mapper().writerWithDefaultPrettyPrinter()
+          .writeValueAsString(stats);
+    } catch (JsonProcessingException e) {
+      LOGGER.error("Failed to render the request timings", e);
+      return;
+    }
+    try {
+      Path parent = reportFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Files.writeString(reportFile, json);
+      LOGGER.info("Request timings of [{}] keys written to [{}]", stats.size(), reportFile);
+    } catch (IOException e) {
+      LOGGER.error("Failed to write the request timings to [{}]", reportFile, e);
+    }
+    AsyncAttachmentWriter.addAttachment("Request timings", "application/json", ".json", json);
+  }
+}
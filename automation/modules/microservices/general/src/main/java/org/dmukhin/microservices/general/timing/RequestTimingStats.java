@@ -0,0 +1,41 @@
+package org.dmukhin.microservices.general.timing;
+
+import org.dmukhin.microservices.general.load.LatencyHistogram;
+
+/**
+ * Count and latency percentiles of the requests recorded under one {@link RequestTimingKey}.
+ *
+ * @param service    The API setting name of the service.
+ * @param method     The HTTP method of the requests.
+ * @param path       The path template of the requests.
+ * @param status     The status code of the responses, 0 if no response was received.
+ * @param count      The number of recorded requests.
+ * @param meanMillis The mean latency in milliseconds.
+ * @param p50Millis  The median latency in milliseconds.
+ * @param p90Millis  The 90th percentile latency in milliseconds.
+ * @param p95Millis  The 95th percentile latency in milliseconds.
+ * @param p99Millis  The 99th percentile latency in milliseconds.
+ * @param maxMillis  The highest latency in milliseconds.
+ */
+public record RequestTimingStats(String service, String method, String path, int status,
+                                 long count, double meanMillis, double p50Millis,
+                                 double p90Millis, double p95Millis, double p99Millis,
+                                 double maxMillis) {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  /**
+   * Creates the statistics of a key from its latency histogram.
+   *
+   * @param key       The key the latencies were recorded under.
+   * @param histogram The recorded latencies.
+   * @return The statistics of the key.
+   */
+  public static RequestTimingStats of(RequestTimingKey key, LatencyHistogram histogram) {
+    return new RequestTimingStats(key.service(), key.method(), key.path(), key.status(),
+        histogram.getTotalCount(), histogram.getMeanNanos() / NANOS_PER_MILLI,
+        histogram.percentileMillis(50.0), histogram.percentileMillis(90.0),
+        histogram.percentileMillis(95.0), histogram.percentileMillis(99.0),
+        histogram.getMaxNanos() / NANOS_PER_MILLI);
+  }
+}
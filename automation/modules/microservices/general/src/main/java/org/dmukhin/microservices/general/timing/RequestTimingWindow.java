@@ -0,0 +1,78 @@
+package org.dmukhin.microservices.general.timing;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.dmukhin.microservices.general.resilience.LatencyWindow;
+
+/**
+ * Latencies of the requests sent during a test, the sampling window of the latency budget
+ * assertions. The latencies are kept per key, i.e. service, method, path template and status, like
+ * in the timing report. Each thread records into its current window; asynchronous requests are
+ * bound to the window of the submitting thread like the exchange capture buffer, therefore
+ * recording is synchronized.
+ */
+public class RequestTimingWindow {
+
+  private static final int CAPACITY_PER_KEY = 1_000;
+  private static final ThreadLocal<RequestTimingWindow> CURRENT =
+      ThreadLocal.withInitial(RequestTimingWindow::new);
+
+  private final Map<RequestTimingKey, LatencyWindow> latencies = new HashMap<>();
+
+  /**
+   * Provides the window of the current thread, creating it on first use.
+   *
+   * @return The window of the current thread.
+   */
+  public static RequestTimingWindow current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Binds the current thread to the given window, e.g. a worker thread to the window of the test
+   * which submitted the request.
+   *
+   * @param window The window to record into.
+   */
+  public static void bind(RequestTimingWindow window) {
+    CURRENT.set(window);
+  }
+
+  /**
+   * Starts a new, empty window for the current thread and returns it.
+   *
+   * @return The new window of the current thread.
+   */
+  public static RequestTimingWindow reset() {
+    RequestTimingWindow window = new RequestTimingWindow();
+    CURRENT.set(window);
+    return window;
+  }
+
+  /**
+   * Removes the window of the current thread.
+   */
+  public static void unload() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Records the latency of a request. Per key the most recent 1000 latencies are kept.
+   *
+   * @param timing The measured request.
+   */
+  public synchronized void record(RequestTiming timing) {
+    latencies.computeIfAbsent(timing.key(), key -> new LatencyWindow(CAPACITY_PER_KEY))
+        .record(timing.latencyNanos());
+  }
+
+  /**
+   * Retrieves the latencies of the requests recorded under a key.
+   *
+   * @param key The key of the requests.
+   * @return The latencies of the key, or null if no request was recorded under it.
+   */
+  public synchronized LatencyWindow getLatencies(RequestTimingKey key) {
+    return latencies.get(key);
+  }
+}
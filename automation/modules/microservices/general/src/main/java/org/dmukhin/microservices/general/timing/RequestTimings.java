@@ -0,0 +1,87 @@
+package org.dmukhin.microservices.general.timing;
+
+import io.restassured.response.Response;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.dmukhin.microservices.general.load.LatencyHistogram;
+
+/**
+ * Utility class holding the request latencies of the whole execution, one lock-free
+ * {@link LatencyHistogram} per {@link RequestTimingKey}. Recording is a map lookup and a few atomic
+ * updates, so the timings stay enabled for every request. The timing of each received response is
+ * kept as long as the response is referenced, so assertions can refer to the request which
+ * produced a response; responses answered from the response cache have no timing.
+ */
+public final class RequestTimings {
+
+  private static final Comparator<RequestTimingStats> ORDER =
+      Comparator.comparing(RequestTimingStats::service)
+          .thenComparing(RequestTimingStats::path)
+          .thenComparing(RequestTimingStats::method)
+          .thenComparingInt(RequestTimingStats::status);
+
+  private static final Map<RequestTimingKey, LatencyHistogram> HISTOGRAMS =
+      new ConcurrentHashMap<>();
+  private static final Map<Response, RequestTiming> RESPONSE_TIMINGS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private RequestTimings() {
+    // default constructor
+  }
+
+  /**
+   * Records the latency of a request.
+   *
+   * @param key          The key of the request.
+   * @param latencyNanos The latency in nanoseconds.
+   */
+  public static void record(RequestTimingKey key, long latencyNanos) {
+    LatencyHistogram histogram = HISTOGRAMS.get(key);
+    if (histogram == null) {
+      histogram = HISTOGRAMS.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+    histogram.record(latencyNanos);
+  }
+
+  /**
+   * Remembers the timing of the request which received a response.
+   *
+   * @param response The received response.
+   * @param timing   The timing of its request.
+   */
+  static void record(Response response, RequestTiming timing) {
+    RESPONSE_TIMINGS.put(response, timing);
+  }
+
+  /**
+   * Provides the timing of the request which received a response.
+   *
+   * @param response The response, e.g. extracted from a ValidatableResponse.
+   * @return The timing of its request, or empty if the response was not received from the service,
+   * e.g. answered or revalidated by the response cache.
+   */
+  public static Optional<RequestTiming> timingOf(Response response) {
+    return Optional.ofNullable(RESPONSE_TIMINGS.get(response));
+  }
+
+  /**
+   * Provides the statistics of all keys recorded so far, ordered by service, path, method and
+   * status.
+   *
+   * @return The statistics of the recorded keys.
+   */
+  public static List<RequestTimingStats> snapshot() {
+    return HISTOGRAMS.entrySet().stream()
+        .map(entry -> RequestTimingStats.of(entry.getKey(), entry.getValue()))
+        .sorted(ORDER)
+        .toList();
+  }
+}
@@ -0,0 +1,250 @@
+package org.dmukhin.microservices.placeholder.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+import org.dmukhin.general.utils.FileUtil;
+
+/**
+ * Embedded stub of the placeholder service for offline runs and for measuring the client-side
+ * overhead of the framework. It serves '/users' and '/comments' with deterministic fixtures on the
+ * JDK HTTP server, whose selector-based NIO dispatcher hands every request to a virtual thread, so
+ * slow responses do not limit the throughput. The latency of every response and the size of the
+ * comments payload are configurable.
+ * <p>
+ * The JDK HTTP server has to run with the process-level system property
+ * '-Dsun.net.httpserver.nodelay=true', which it reads once when the first server is created.
+ * Without it the server waits for delayed ACKs between the header and body writes of a response,
+ * which adds up to 40 ms to the measured latencies. The property is set by the surefire, exec and
+ * JMH fork configurations running the stub; the stub only sets it itself when it is run
+ * standalone by {@link #main(String[])}.
+ * </p>
+ */
+public class PlaceholderStubServer implements AutoCloseable {
+
+  /**
+   * Port used by the standalone stub and by the 'local' environment.
+   */
+  public static final int DEFAULT_PORT = 8089;
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final String USERS_FIXTURE = "/stub/placeholder/users.json";
+  private static final String COMMENTS_FIXTURE = "/stub/placeholder/comments.json";
+  private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+  private static final int COMMENTS_PER_POST = 5;
+  private static final int BACKLOG = 1024;
+
+  private InetAddress address = InetAddress.getLoopbackAddress();
+  private int port;
+  private volatile long latencyMillis;
+  private int commentsCount = 500;
+  private int commentBodyLength;
+  private HttpServer server;
+  private ExecutorService executor;
+
+  /**
+   * Starts a standalone stub, e.g. as the target of an external load generator. The port is read
+   * from the first argument, the latency and payload settings from the system properties
+   * 'placeholder.stub.latency.millis', 'placeholder.stub.comments.count' and
+   * 'placeholder.stub.comment.body.length'. As the process entry point it sets the no-delay
+   * property of the JDK HTTP server unless it was given.
+   *
+   * @param args The optional port to listen on.
+   */
+  public static void main(String[] args) {
+    if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+      System.setProperty(NO_DELAY_PROPERTY, "true");
+    }
+    new PlaceholderStubServer()
+        .setPort(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT)
+        .setLatencyMillis(Long.getLong("placeholder.stub.latency.millis", 0L))
+        .setCommentsCount(Integer.getInteger("placeholder.stub.comments.count", 500))
+        .setCommentBodyLength(Integer.getInteger("placeholder.stub.comment.body.length", 0))
+        .start();
+  }
+
+  /**
+   * Sets the address to listen on. Defaults to the loopback address.
+   *
+   * @param address The address to listen on.
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   */
+  public PlaceholderStubServer setAddress(InetAddress address) {
+    this.address = address;
+    return this;
+  }
+
+  /**
+   * Sets the port to listen on. Defaults to 0, which selects a free port.
+   *
+   * @param port The port to listen on.
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   */
+  public PlaceholderStubServer setPort(int port) {
+    this.port = port;
+    return this;
+  }
+
+  /**
+   * Sets the delay added to every response. Defaults to 0. It can be changed while the stub runs,
+   * e.g. to slow down a service whose latencies were recorded; it applies to requests arriving
+   * afterward.
+   *
+   * @param latencyMillis The delay in milliseconds.
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   */
+  public PlaceholderStubServer setLatencyMillis(long latencyMillis) {
+    this.latencyMillis = latencyMillis;
+    return this;
+  }
+
+  /**
+   * Sets the number of comments served. The fixtures are repeated with increasing IDs, five
+   * comments per post. Defaults to 500 like jsonplaceholder.
+   *
+   * @param commentsCount The number of comments.
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   */
+  public PlaceholderStubServer setCommentsCount(int commentsCount) {
+    this.commentsCount = commentsCount;
+    return this;
+  }
+
+  /**
+   * Sets the length of the comment bodies, the fixture bodies are repeated up to this length.
+   * Defaults to 0, which keeps the fixture bodies.
+   *
+   * @param commentBodyLength The length of the comment bodies in characters.
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   */
+  public PlaceholderStubServer setCommentBodyLength(int commentBodyLength) {
+    this.commentBodyLength = commentBodyLength;
+    return this;
+  }
+
+  /**
+   * Starts the stub. Does nothing if it is already running. Logs a warning if the process runs
+   * without the no-delay property of the JDK HTTP server.
+   *
+   * @return The current instance of PlaceholderStubServer for method chaining.
+   * @throws UncheckedIOException If the fixtures cannot be loaded or the port cannot be bound.
+   */
+  public synchronized PlaceholderStubServer start() {
+    if (server != null) {
+      return this;
+    }
+    if (!Boolean.getBoolean(NO_DELAY_PROPERTY)) {
+      LOGGER.warn("Placeholder stub runs without -D{}=true, responses may be delayed by up to "
+          + "40 ms", NO_DELAY_PROPERTY);
+    }
+    try {
+      HttpServer httpServer = HttpServer.create(new InetSocketAddress(address, port), BACKLOG);
+      httpServer.createContext("/users",
+          new StubResourceHandler("/users", loadFixture(USERS_FIXTURE), () -> latencyMillis));
+      httpServer.createContext("/comments",
+          new StubResourceHandler("/comments", createComments(), () -> latencyMillis));
+      executor = Executors.newVirtualThreadPerTaskExecutor();
+      httpServer.setExecutor(executor);
+      httpServer.start();
+      server = httpServer;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to start the placeholder stub", e);
+    }
+    LOGGER.info("Placeholder stub listens on [{}], latency [{}] ms, [{}] comments", getBaseUrl(),
+        latencyMillis, commentsCount);
+    return this;
+  }
+
+  /**
+   * Retrieves the port the stub listens on, which differs from the configured one if it was 0.
+   *
+   * @return The port of the running stub.
+   * @throws IllegalStateException If the stub is not running.
+   */
+  public synchronized int getPort() {
+    if (server == null) {
+      throw new IllegalStateException("Placeholder stub is not running");
+    }
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Retrieves the base URL of the stub without port, as expected by the 'apiUrl' setting.
+   *
+   * @return The base URL of the stub.
+   */
+  public String getBaseUrl() {
+    return "http://" + address.getHostAddress();
+  }
+
+  /**
+   * Stops the stub immediately. Does nothing if it is not running.
+   */
+  public synchronized void stop() {
+    if (server == null) {
+      return;
+    }
+    server.stop(0);
+    executor.shutdownNow();
+    server = null;
+    LOGGER.info("Placeholder stub stopped");
+  }
+
+  /**
+   * Stops the stub, see {@link #stop()}.
+   */
+  @Override
+  public void close() {
+    stop();
+  }
+
+  /**
+   * Creates the configured number of comments from the comment fixtures.
+   *
+   * @return The comments, the comment at index i has the ID i + 1.
+   * @throws IOException If the fixtures cannot be loaded.
+   */
+  private List<ObjectNode> createComments() throws IOException {
+    List<ObjectNode> fixtures = loadFixture(COMMENTS_FIXTURE);
+    List<ObjectNode> comments = new ArrayList<>(commentsCount);
+    for (int i = 0; i < commentsCount; i++) {
+      ObjectNode comment = fixtures.get(i % fixtures.size()).deepCopy();
+      comment.put("postId", i / COMMENTS_PER_POST + 1);
+      comment.put("id", i + 1);
+      if (commentBodyLength > 0) {
+        String body = comment.path("body").asText();
+        comment.put("body", body.repeat(commentBodyLength / body.length() + 1)
+            .substring(0, commentBodyLength));
+      }
+      comments.add(comment);
+    }
+    return comments;
+  }
+
+  /**
+   * Loads a JSON array fixture from the resources.
+   *
+   * @param path The path of the fixture.
+   * @return The elements of the fixture.
+   * @throws IOException If the fixture cannot be loaded.
+   */
+  private static List<ObjectNode> loadFixture(String path) throws IOException {
+    try (InputStream inputStream = FileUtil.getFileInputStream(path,
+        PlaceholderStubServer.class)) {
+      return ObjectMapperRegistry.readerFor(new TypeReference<List<ObjectNode>>() {
+      }).readValue(inputStream);
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package org.dmukhin.microservices.placeholder.stub;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.objectmapper.DataFormat;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
+
+/**
+ * HTTP handler serving a single collection resource of the placeholder stub, e.g. '/users'. It
+ * follows the behavior of jsonplaceholder: the collection and its elements can be retrieved, the
+ * collection can be filtered by top-level fields in the query, and created or updated elements are
+ * echoed back with their ID without changing the fixtures. Responses of GET requests are serialized
+ * once on creation, so serving them costs only the copy to the socket. They carry an ETag, and a
+ * matching 'If-None-Match' is answered with 304 Not Modified. Bodies of at least 1 KiB are sent
+ * gzip-compressed to clients accepting gzip; the collection is compressed once on creation. Bodies
+ * are served as Smile or CBOR to clients accepting them and read in the format of their
+ * 'Content-Type'; error bodies are always JSON.
+ */
+class StubResourceHandler implements HttpHandler {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+  private static final int MIN_COMPRESSED_BYTES = 1024;
+
+  private final String basePath;
+  private final List<ObjectNode> items;
+  private final Map<DataFormat, Representation> collections = new EnumMap<>(DataFormat.class);
+  private final Map<DataFormat, Representation[]> itemRepresentations =
+      new EnumMap<>(DataFormat.class);
+  private final LongSupplier latencyMillis;
+
+  /**
+   * Constructor for StubResourceHandler.
+   *
+   * @param basePath      The path of the collection, e.g. '/users'.
+   * @param items         The elements of the collection, the element at index i has the ID i + 1.
+   * @param latencyMillis The delay added to every response in milliseconds, read per request.
+   * @throws IOException If the elements cannot be serialized.
+   */
+  StubResourceHandler(String basePath, List<ObjectNode> items, LongSupplier latencyMillis)
+      throws IOException {
+    this.basePath = basePath;
+    this.items = List.copyOf(items);
+    for (DataFormat format : DataFormat.values()) {
+      ObjectWriter writer = writer(format);
+      byte[] collectionBody = writer.writeValueAsBytes(this.items);
+      collections.put(format,
+          new Representation(collectionBody, gzip(collectionBody), etag(collectionBody)));
+      Representation[] representations = new Representation[this.items.size()];
+      for (int i = 0; i < representations.length; i++) {
+        byte[] itemBody = writer.writeValueAsBytes(this.items.get(i));
+        representations[i] = new Representation(itemBody, null, etag(itemBody));
+      }
+      itemRepresentations.put(format, representations);
+    }
+    this.latencyMillis = latencyMillis;
+  }
+
+  /**
+   * Handles a request to the collection or to one of its elements.
+   *
+   * @param exchange The HTTP exchange to handle.
+   * @throws IOException If the request cannot be read or the response cannot be written.
+   */
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      simulateLatency();
+      String path = exchange.getRequestURI().getPath();
+      String method = exchange.getRequestMethod();
+      if (path.equals(basePath) || path.equals(basePath + "/")) {
+        handleCollection(exchange, method);
+      } else {
+        handleItem(exchange, method, path.substring(basePath.length() + 1));
+      }
+    }
+  }
+
+  /**
+   * Handles a request to the collection: lists or filters the elements, or creates a new one.
+   *
+   * @param exchange The HTTP exchange to handle.
+   * @param method   The HTTP method of the request.
+   * @throws IOException If the request cannot be read or the response cannot be written.
+   */
+  private void handleCollection(HttpExchange exchange, String method) throws IOException {
+    DataFormat format = acceptedFormat(exchange);
+    switch (method) {
+      case "GET" -> {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+          respondCacheable(exchange, format, collections.get(format));
+        } else {
+          respond(exchange, 200, format, writer(format).writeValueAsBytes(filter(query)), null);
+        }
+      }
+      case "POST" -> respond(exchange, 201, format, echo(exchange, format, items.size() + 1),
+          null);
+      default -> respond(exchange, 405, EMPTY_OBJECT);
+    }
+  }
+
+  /**
+   * Handles a request to a single element: retrieves, replaces or deletes it. Unknown IDs are
+   * answered with 404 like by jsonplaceholder.
+   *
+   * @param exchange The HTTP exchange to handle.
+   * @param method   The HTTP method of the request.
+   * @param id       The ID segment of the request path.
+   * @throws IOException If the request cannot be read or the response cannot be written.
+   */
+  private void handleItem(HttpExchange exchange, String method, String id) throws IOException {
+    int index = parseIndex(id);
+    if (index < 0) {
+      respond(exchange, 404, EMPTY_OBJECT);
+      return;
+    }
+    DataFormat format = acceptedFormat(exchange);
+    switch (method) {
+      case "GET" -> respondCacheable(exchange, format, itemRepresentations.get(format)[index]);
+      case "PUT", "PATCH" -> respond(exchange, 200, format, echo(exchange, format, index + 1),
+          null);
+      case "DELETE" -> respond(exchange, 200, EMPTY_OBJECT);
+      default -> respond(exchange, 405, EMPTY_OBJECT);
+    }
+  }
+
+  /**
+   * Reads the object of the request body in the format of its 'Content-Type' and returns it with
+   * the given ID.
+   *
+   * @param exchange The HTTP exchange to read the body from.
+   * @param format   The data format of the response.
+   * @param id       The ID to set on the returned object.
+   * @return The serialized object with the ID.
+   * @throws IOException If the request body cannot be read.
+   */
+  private byte[] echo(HttpExchange exchange, DataFormat format, int id) throws IOException {
+    DataFormat requestFormat = DataFormat.ofContentType(
+        exchange.getRequestHeaders().getFirst("Content-Type"));
+    JsonNode body = ObjectMapperRegistry.readerFor(requestFormat, JsonNode.class)
+        .readValue(exchange.getRequestBody());
+    ObjectNode created = body instanceof ObjectNode objectNode
+        ? objectNode
+        : ObjectMapperRegistry.mapper().createObjectNode();
+    created.put("id", id);
+    return writer(format).writeValueAsBytes(created);
+  }
+
+  /**
+   * Filters the elements by the parameters of the query. An element matches when every parameter
+   * equals one of its values, e.g. '?id=1&amp;id=2' matches the elements with ID 1 and 2.
+   *
+   * @param rawQuery The raw query of the request.
+   * @return The matching elements in the order of the collection.
+   */
+  private List<ObjectNode> filter(String rawQuery) {
+    Map<String, List<String>> parameters = new HashMap<>();
+    for (String parameter : rawQuery.split("&")) {
+      int separator = parameter.indexOf('=');
+      if (separator > 0) {
+        parameters.computeIfAbsent(decode(parameter.substring(0, separator)),
+            name -> new ArrayList<>()).add(decode(parameter.substring(separator + 1)));
+      }
+    }
+    return items.stream()
+        .filter(item -> parameters.entrySet().stream()
+            .allMatch(parameter -> parameter.getValue().contains(item.path(parameter.getKey())
+                .asText())))
+        .toList();
+  }
+
+  /**
+   * Converts the ID segment of a request path to the index of the element.
+   *
+   * @param id The ID segment of the request path.
+   * @return The index of the element, or -1 if there is no element with this ID.
+   */
+  private int parseIndex(String id) {
+    try {
+      int index = Integer.parseInt(id) - 1;
+      return index >= 0 && index < items.size() ? index : -1;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Delays the response by the configured latency. The handler runs on a virtual thread, so the
+   * delay does not occupy a platform thread.
+   */
+  private void simulateLatency() {
+    long delayMillis = latencyMillis.getAsLong();
+    if (delayMillis <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(delayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.debug("Stub latency interrupted for [{}]", basePath);
+    }
+  }
+
+  /**
+   * Decodes a URL-encoded query component.
+   *
+   * @param value The encoded value.
+   * @return The decoded value.
+   */
+  private static String decode(String value) {
+    return URLDecoder.decode(value, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Provides the writer of response bodies in the given data format.
+   *
+   * @param format The data format of the response.
+   * @return The shared writer of the format.
+   */
+  private static ObjectWriter writer(DataFormat format) {
+    return ObjectMapperRegistry.writer(format, JsonInclude.Include.ALWAYS);
+  }
+
+  /**
+   * Negotiates the data format of the response from the 'Accept' header of the request. Smile and
+   * CBOR are served only when accepted explicitly, everything else is answered with JSON.
+   *
+   * @param exchange The HTTP exchange to respond to.
+   * @return The data format of the response.
+   */
+  private static DataFormat acceptedFormat(HttpExchange exchange) {
+    String accept = exchange.getRequestHeaders().getFirst("Accept");
+    if (accept != null) {
+      for (String mediaRange : accept.split(",")) {
+        DataFormat format = DataFormat.ofContentType(mediaRange);
+        if (format.isBinary()) {
+          return format;
+        }
+      }
+    }
+    return DataFormat.JSON;
+  }
+
+  /**
+   * Creates a strong ETag for a response body.
+   *
+   * @param body The response body.
+   * @return The quoted ETag.
+   */
+  private static String etag(byte[] body) {
+    return "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+  }
+
+  /**
+   * Compresses a response body with gzip.
+   *
+   * @param body The response body.
+   * @return The compressed body.
+   * @throws IOException If the body cannot be compressed.
+   */
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(body);
+    }
+    return compressed.toByteArray();
+  }
+
+  /**
+   * Checks whether the client accepts gzip-compressed responses.
+   *
+   * @param exchange The HTTP exchange to respond to.
+   * @return true if the 'Accept-Encoding' header of the request contains gzip, false otherwise.
+   */
+  private static boolean acceptsGzip(HttpExchange exchange) {
+    String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+  }
+
+  /**
+   * Writes a response with its ETag, or 304 Not Modified without body if the client already has
+   * this version. Each data format is a representation with its own ETag.
+   *
+   * @param exchange       The HTTP exchange to respond to.
+   * @param format         The data format of the response.
+   * @param representation The serialized response in the data format.
+   * @throws IOException If the response cannot be written.
+   */
+  private static void respondCacheable(HttpExchange exchange, DataFormat format,
+      Representation representation) throws IOException {
+    exchange.getResponseHeaders().add("ETag", representation.etag());
+    exchange.getResponseHeaders().add("Vary", "Accept");
+    if (representation.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+      exchange.sendResponseHeaders(304, -1);
+      return;
+    }
+    respond(exchange, 200, format, representation.body(), representation.gzipBody());
+  }
+
+  /**
+   * Writes a JSON response, compressed if it is large enough and the client accepts gzip.
+   *
+   * @param exchange The HTTP exchange to respond to.
+   * @param status   The HTTP status code.
+   * @param body     The response body.
+   * @throws IOException If the response cannot be written.
+   */
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    respond(exchange, status, DataFormat.JSON, body, null);
+  }
+
+  /**
+   * Writes a response in the given data format, compressed if it is large enough and the client
+   * accepts gzip.
+   *
+   * @param exchange The HTTP exchange to respond to.
+   * @param status   The HTTP status code.
+   * @param format   The data format of the response body.
+   * @param body     The response body.
+   * @param gzipBody The gzip-compressed response body, or null to compress it if needed.
+   * @throws IOException If the response cannot be written.
+   */
+  private static void respond(HttpExchange exchange, int status, DataFormat format, byte[] body,
+      byte[] gzipBody) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", format.isBinary()
+        ? format.getMimeType()
+        : "application/json; charset=utf-8");
+    byte[] sent = body;
+    if (body.length >= MIN_COMPRESSED_BYTES) {
+      exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+      if (acceptsGzip(exchange)) {
+        sent = gzipBody == null ? gzip(body) : gzipBody;
+        exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      }
+    }
+    exchange.sendResponseHeaders(status, sent.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(sent);
+    }
+  }
+
+  /**
+   * A response body serialized once in one data format.
+   *
+   * @param body     The response body.
+   * @param gzipBody The gzip-compressed response body, or null to compress it if needed.
+   * @param etag     The ETag of the response body.
+   */
+  private record Representation(byte[] body, byte[] gzipBody, String etag) {
+
+  }
+}
@@ -2,86 +2,135 @@ package org.dmukhin.microservices.placeholder;
 
 import io.qameta.allure.Step;
 import io.restassured.specification.RequestSpecification;
+import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.general.objectmapper.ObjectMapperRegistry;
 import org.dmukhin.microservices.general.AbstractWebService;
 import org.dmukhin.microservices.placeholder.endpoints.CommentEndpoint;
 import org.dmukhin.microservices.placeholder.endpoints.UserEndpoint;
+import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
 
 /**
  * Service class for accessing the JSONPlaceholder API. This class extends AbstractWebService and
- * provides access to various endpoints like UserEndpoint and CommentEndpoint. It uses a ThreadLocal
- * instance for thread-safe operations.
+ * provides access to various endpoints like UserEndpoint and CommentEndpoint. A single instance is
+ * shared by all threads: its request specification is only read when requests are built, so
+ * parallel tests do not need to load the configuration and build the specification per thread.
  */
 public class PlaceholderApi extends AbstractWebService {
 
   private static final String API_KEY = "placeholderService";
 
-  private static final ThreadLocal<PlaceholderApi> webApi = new ThreadLocal<>();
+  private static volatile PlaceholderApi webApi;
   private RequestSpecification requestSpecification;
+  private UserEndpoint userEndpoint;
+  private CommentEndpoint commentEndpoint;
 
   /**
-   * Constructor for PlaceholderApi. Initializes the request specification for the service.
+   * Constructor for PlaceholderApi. Initializes the request specification for the service and warms
+   * up the readers and writers of its DTOs in the data format of the service.
    */
   protected PlaceholderApi() {
     super(API_KEY);
     initRequestSpecification();
+    ObjectMapperRegistry.warmUp(getDataFormat(), UserDto.class, UserDto[].class,
+        CommentDto.class, CommentDto[].class);
   }
 
   /**
-   * Provides a singleton instance of PlaceholderApi. This method ensures a single instance per
-   * thread.
+   * Constructor for PlaceholderApi with explicit settings instead of those of the environment.
+   *
+   * @param settings The configuration settings of the service.
+   */
+  protected PlaceholderApi(EnvironmentConfigDto settings) {
+    super(API_KEY, settings);
+    initRequestSpecification();
+    ObjectMapperRegistry.warmUp(getDataFormat(), UserDto.class, UserDto[].class,
+        CommentDto.class, CommentDto[].class);
+  }
+
+  /**
+   * Provides a singleton instance of PlaceholderApi. The instance is created lazily on first use
+   * and shared by all threads; it is created anew once the environment settings were reloaded or
+   * overridden.
    *
    * @return An instance of PlaceholderApi.
    */
   @Step("Provides a singleton instance of PlaceholderApi")
   public static PlaceholderApi placeholderApi() {
-    if (webApi.get() == null) {
-      initPlaceholderApi();
+    PlaceholderApi api = webApi;
+    if (api == null || !api.isEnvironmentCurrent()) {
+      api = initPlaceholderApi();
     }
-    return webApi.get();
+    return api;
+  }
+
+  /**
+   * Creates an instance of PlaceholderApi with explicit settings, e.g. to point a test at its own
+   * stub. The instance is not shared: it has its own client, cache and resilience policy, which
+   * are released once it is closed.
+   *
+   * @param settings The configuration settings of the service, which must not be modified
+   *                 afterward.
+   * @return A new instance of PlaceholderApi, to be closed after use.
+   */
+  @Step("Creates an instance of PlaceholderApi with explicit settings")
+  public static PlaceholderApi placeholderApi(EnvironmentConfigDto settings) {
+    return new PlaceholderApi(settings);
   }
 
   /**
-   * Initializes a singleton instance of PlaceholderApi for the current thread.
+   * Initializes the shared singleton instance of PlaceholderApi unless another thread already did
+   * for the current environment settings.
+   *
+   * @return The shared instance of PlaceholderApi.
    */
-  private static void initPlaceholderApi() {
-    webApi.set(new PlaceholderApi());
+  private static synchronized PlaceholderApi initPlaceholderApi() {
+    if (webApi == null || !webApi.isEnvironmentCurrent()) {
+      webApi = new PlaceholderApi();
+    }
+    return webApi;
   }
 
   /**
-   * Initializes the request specification for the API. This specification is used for making HTTP
-   * requests to the JSONPlaceholder API.
+   * Initializes the request specification for the API and the endpoints using it. This
+   * specification is used for making HTTP requests to the JSONPlaceholder API.
    */
   @Override
   protected void initRequestSpecification() {
     requestSpecification = getDefaultSpecification();
+    userEndpoint = new UserEndpoint(requestSpecification, getResiliencePolicy());
+    commentEndpoint = new CommentEndpoint(requestSpecification, getResiliencePolicy());
   }
 
   /**
    * Provides access to the User endpoint of the JSONPlaceholder API.
    *
-   * @return An instance of UserEndpoint.
+   * @return The shared instance of UserEndpoint.
    */
   @Step("Provides access to the User endpoint of the JSONPlaceholder API")
   public UserEndpoint user() {
-    return new UserEndpoint(requestSpecification);
+    return userEndpoint;
   }
 
   /**
    * Provides access to the Comment endpoint of the JSONPlaceholder API.
    *
-   * @return An instance of CommentEndpoint.
+   * @return The shared instance of CommentEndpoint.
    */
   @Step("Provides access to the Comment endpoint of the JSONPlaceholder API")
   public CommentEndpoint comment() {
-    return new CommentEndpoint(requestSpecification);
+    return commentEndpoint;
   }
 
   /**
-   * Removes the thread-local instance of the web API.
-   * This method is typically called when the web API instance is no longer needed, to clean up resources
-   * and prevent memory leaks.
+   * Does nothing: the instance is shared by all threads, so a thread finishing its work must not
+   * discard it while other threads still use it. The shared instance lives as long as the process.
+   *
+   * @deprecated The shared instance needs no cleanup; it is recreated once the environment settings
+   * were reloaded or overridden.
    */
+  @Deprecated
   public void unload() {
-    webApi.remove();
+    // the shared instance is kept for the other threads
   }
 }
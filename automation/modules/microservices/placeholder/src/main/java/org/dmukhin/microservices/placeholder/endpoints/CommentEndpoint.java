@@ -1,13 +1,19 @@
 package org.dmukhin.microservices.placeholder.endpoints;
 
+import static io.restassured.RestAssured.given;
 import io.qameta.allure.Step;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dmukhin.microservices.general.AbstractWebEndpoint;
+import org.dmukhin.microservices.general.async.AsyncRequestExecutor;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
 import org.dmukhin.microservices.general.enums.HttpStatus;
+import org.dmukhin.microservices.general.resilience.ResiliencePolicy;
 import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
 
 /**
@@ -23,10 +29,11 @@ public class CommentEndpoint extends AbstractWebEndpoint {
   /**
    * Constructor for CommentEndpoint.
    *
-   * @param specification The RequestSpecification for API requests.
+   * @param specification    The RequestSpecification for API requests.
+   * @param resiliencePolicy The policy retrying the requests of the service.
    */
-  public CommentEndpoint(RequestSpecification specification) {
-    super(specification);
+  public CommentEndpoint(RequestSpecification specification, ResiliencePolicy resiliencePolicy) {
+    super(specification, resiliencePolicy);
   }
 
   /**
@@ -54,6 +61,34 @@ public class CommentEndpoint extends AbstractWebEndpoint {
     return post(this.specification, COMMENTS_END, commentDto).statusCode(status.getCode());
   }
 
+  /**
+   * Creates a new comment asynchronously and returns the created comment data once the request
+   * completes.
+   *
+   * @param commentDto The CommentDto object representing the comment to create.
+   * @return A CompletableFuture completed with the created CommentDto.
+   */
+  @Step("Create comment asynchronously")
+  public CompletableFuture<CommentDto> createAsync(CommentDto commentDto) {
+    LOGGER.info("Create new Comment asynchronously");
+    return postAsync(this.specification, COMMENTS_END, commentDto)
+        .thenApply(response -> response.statusCode(HttpStatus.CREATED.getCode())
+            .extract().as(CommentDto.class));
+  }
+
+  /**
+   * Creates all given comments concurrently, bounded by the asynchronous in-flight limit, and
+   * returns the created comment data in the order of the given list.
+   *
+   * @param commentDtos The list of CommentDto objects representing the comments to create.
+   * @return A CompletableFuture completed with the list of created CommentDto.
+   */
+  @Step("Create comments asynchronously")
+  public CompletableFuture<List<CommentDto>> createAllAsync(List<CommentDto> commentDtos) {
+    LOGGER.info("Create [{}] new Comments asynchronously", commentDtos.size());
+    return AsyncRequestExecutor.allOf(commentDtos.stream().map(this::createAsync).toList());
+  }
+
   /**
    * Updates an existing comment by ID and returns the updated comment data.
    *
@@ -107,13 +142,58 @@ public class CommentEndpoint extends AbstractWebEndpoint {
   }
 
   /**
-   * Retrieves all comments and returns them as a list.
+   * Retrieves several comments by ID with the '?id=' batch form of the collection instead of one
+   * request per ID. The results keep the order of the IDs; IDs which could not be retrieved are
+   * reported in the failures of the result.
+   *
+   * @param ids The IDs of the comments to retrieve.
+   * @return The retrieved CommentDtos in the order of the IDs together with the failures by ID.
+   */
+  @Step("Retrieve comments by ids {ids}")
+  public BatchLookupResult<Integer, CommentDto> getByIds(List<Integer> ids) {
+    LOGGER.info("Get [{}] Comments by ids", ids.size());
+    return getByIdsInBatches(this.specification, COMMENTS_END, "id", ids, CommentDto[].class,
+        comment -> comment.getId().intValue(), this::getById);
+  }
+
+  /**
+   * Retrieves all comments and returns them as a list. Concurrent calls share one request and its
+   * DTOs, see {@link #getCoalesced}.
    *
    * @return A list of CommentDto.
    */
   @Step("Retrieve all comments")
   public List<CommentDto> getAll() {
-    return List.of(getAll(HttpStatus.OK).extract().as(CommentDto[].class));
+    return getCoalesced(COMMENTS_END,
+        () -> List.of(getAll(HttpStatus.OK).extract().as(CommentDto[].class)));
+  }
+
+  /**
+   * Retrieves all comments as a list of frozen DTOs, whose setters fail, e.g. to share them safely.
+   * Concurrent calls share one request and its DTOs, see {@link #getCoalesced}.
+   *
+   * @return A list of frozen CommentDto.
+   */
+  @Step("Retrieve all comments frozen")
+  public List<CommentDto> getAllFrozen() {
+    return getCoalesced(COMMENTS_END, true,
+        () -> List.of(getAll(HttpStatus.OK).extract().as(CommentDto[].class)));
+  }
+
+  /**
+   * Retrieves all comments from the service itself: the request is sent with 'Cache-Control:
+   * no-cache', so it is not answered by the response cache, and it is not coalesced with
+   * concurrent calls.
+   *
+   * @return A list of CommentDto.
+   */
+  @Step("Retrieve all comments bypassing the response cache")
+  public List<CommentDto> getAllUncached() {
+    LOGGER.info("Get all Comments bypassing the response cache");
+    return List.of(get(given().spec(this.specification).header("Cache-Control", "no-cache"),
+        COMMENTS_END)
+        .statusCode(HttpStatus.OK.getCode())
+        .extract().as(CommentDto[].class));
   }
 
   /**
@@ -129,4 +209,16 @@ public class CommentEndpoint extends AbstractWebEndpoint {
     response.statusCode(status.getCode());
     return response;
   }
+
+  /**
+   * Retrieves all comments as a lazily consumed stream. Each CommentDto is parsed from the response
+   * body only when the stream reaches it; the returned stream must be closed after use.
+   *
+   * @return A stream of CommentDto.
+   */
+  @Step("Stream all comments")
+  public Stream<CommentDto> streamAll() {
+    LOGGER.info("Stream all Comments");
+    return getStream(this.specification, COMMENTS_END, CommentDto.class, HttpStatus.OK);
+  }
 }
@@ -1,13 +1,19 @@
 package org.dmukhin.microservices.placeholder.endpoints;
 
+import static io.restassured.RestAssured.given;
 import io.qameta.allure.Step;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dmukhin.microservices.general.AbstractWebEndpoint;
+import org.dmukhin.microservices.general.async.AsyncRequestExecutor;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
 import org.dmukhin.microservices.general.enums.HttpStatus;
+import org.dmukhin.microservices.general.resilience.ResiliencePolicy;
 import org.dmukhin.microservices.placeholder.models.user.UserDto;
 
 /**
@@ -23,10 +29,11 @@ public class UserEndpoint extends AbstractWebEndpoint {
   /**
    * Constructor for UserEndpoint.
    *
-   * @param specification The RequestSpecification for API requests.
+   * @param specification    The RequestSpecification for API requests.
+   * @param resiliencePolicy The policy retrying the requests of the service.
    */
-  public UserEndpoint(RequestSpecification specification) {
-    super(specification);
+  public UserEndpoint(RequestSpecification specification, ResiliencePolicy resiliencePolicy) {
+    super(specification, resiliencePolicy);
   }
 
   /**
@@ -54,6 +61,34 @@ public class UserEndpoint extends AbstractWebEndpoint {
     return post(this.specification, USERS_END, userDto).statusCode(status.getCode());
   }
 
+  /**
+   * Creates a new user asynchronously and returns the created user data once the request
+   * completes.
+   *
+   * @param userDto The UserDto object representing the user to create.
+   * @return A CompletableFuture completed with the created UserDto.
+   */
+  @Step("Create User asynchronously")
+  public CompletableFuture<UserDto> createAsync(UserDto userDto) {
+    LOGGER.info("Create new User asynchronously");
+    return postAsync(this.specification, USERS_END, userDto)
+        .thenApply(response -> response.statusCode(HttpStatus.CREATED.getCode())
+            .extract().as(UserDto.class));
+  }
+
+  /**
+   * Creates all given users concurrently, bounded by the asynchronous in-flight limit, and
+   * returns the created user data in the order of the given list.
+   *
+   * @param userDtos The list of UserDto objects representing the users to create.
+   * @return A CompletableFuture completed with the list of created UserDto.
+   */
+  @Step("Create Users asynchronously")
+  public CompletableFuture<List<UserDto>> createAllAsync(List<UserDto> userDtos) {
+    LOGGER.info("Create [{}] new Users asynchronously", userDtos.size());
+    return AsyncRequestExecutor.allOf(userDtos.stream().map(this::createAsync).toList());
+  }
+
   /**
    * Updates an existing user by ID and returns the updated user data.
    *
@@ -107,13 +142,57 @@ public class UserEndpoint extends AbstractWebEndpoint {
   }
 
   /**
-   * Retrieves all users and returns them as a list.
+   * Retrieves a user by ID from the service itself: the request is sent with 'Cache-Control:
+   * no-cache', so it is neither answered nor revalidated by the response cache.
+   *
+   * @param id     The ID of the user to retrieve.
+   * @param status The expected HTTP status of the response.
+   * @return The response of the get request.
+   */
+  @Step("Retrieve User by id {id} bypassing the response cache with expected status: {status}")
+  public ValidatableResponse getByIdUncached(String id, HttpStatus status) {
+    LOGGER.info("Get User by id [{}] bypassing the response cache", id);
+    return get(given().spec(this.specification).header("Cache-Control", "no-cache"),
+        USERS_RESOURCE_END, id).statusCode(status.getCode());
+  }
+
+  /**
+   * Retrieves several users by ID with the '?id=' batch form of the collection instead of one
+   * request per ID. The results keep the order of the IDs; IDs which could not be retrieved are
+   * reported in the failures of the result.
+   *
+   * @param ids The IDs of the users to retrieve.
+   * @return The retrieved UserDtos in the order of the IDs together with the failures by ID.
+   */
+  @Step("Retrieve Users by ids {ids}")
+  public BatchLookupResult<String, UserDto> getByIds(List<String> ids) {
+    LOGGER.info("Get [{}] Users by ids", ids.size());
+    return getByIdsInBatches(this.specification, USERS_END, "id", ids, UserDto[].class,
+        UserDto::getId, this::getById);
+  }
+
+  /**
+   * Retrieves all users and returns them as a list. Concurrent calls share one request and its
+   * DTOs, see {@link #getCoalesced}.
    *
    * @return A list of UserDto.
    */
   @Step("Retrieve all Users")
   public List<UserDto> getAll() {
-    return List.of(getAll(HttpStatus.OK).extract().as(UserDto[].class));
+    return getCoalesced(USERS_END,
+        () -> List.of(getAll(HttpStatus.OK).extract().as(UserDto[].class)));
+  }
+
+  /**
+   * Retrieves all users as a list of frozen DTOs, whose setters fail, e.g. to share them safely.
+   * Concurrent calls share one request and its DTOs, see {@link #getCoalesced}.
+   *
+   * @return A list of frozen UserDto.
+   */
+  @Step("Retrieve all Users frozen")
+  public List<UserDto> getAllFrozen() {
+    return getCoalesced(USERS_END, true,
+        () -> List.of(getAll(HttpStatus.OK).extract().as(UserDto[].class)));
   }
 
   /**
@@ -129,4 +208,16 @@ public class UserEndpoint extends AbstractWebEndpoint {
     response.statusCode(status.getCode());
     return response;
   }
+
+  /**
+   * Retrieves all users as a lazily consumed stream. Each UserDto is parsed from the response body
+   * only when the stream reaches it; the returned stream must be closed after use.
+   *
+   * @return A stream of UserDto.
+   */
+  @Step("Stream all Users")
+  public Stream<UserDto> streamAll() {
+    LOGGER.info("Stream all Users");
+    return getStream(this.specification, USERS_END, UserDto.class, HttpStatus.OK);
+  }
 }
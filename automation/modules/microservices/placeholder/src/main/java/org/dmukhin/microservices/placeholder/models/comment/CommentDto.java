@@ -40,6 +40,7 @@ public class CommentDto extends BaseDto {
    * @return The current instance of CommentDto for method chaining.
    */
   public CommentDto setPostId(Long postId) {
+    checkMutable();
     this.postId = postId;
     return this;
   }
@@ -60,6 +61,7 @@ public class CommentDto extends BaseDto {
    * @return The current instance of CommentDto for method chaining.
    */
   public CommentDto setId(Long id) {
+    checkMutable();
     this.id = id;
     return this;
   }
@@ -80,6 +82,7 @@ public class CommentDto extends BaseDto {
    * @return The current instance of CommentDto for method chaining.
    */
   public CommentDto setName(String name) {
+    checkMutable();
     this.name = name;
     return this;
   }
@@ -100,6 +103,7 @@ public class CommentDto extends BaseDto {
    * @return The current instance of CommentDto for method chaining.
    */
   public CommentDto setEmail(String email) {
+    checkMutable();
     this.email = email;
     return this;
   }
@@ -120,6 +124,7 @@ public class CommentDto extends BaseDto {
    * @return The current instance of CommentDto for method chaining.
    */
   public CommentDto setBody(String body) {
+    checkMutable();
     this.body = body;
     return this;
   }
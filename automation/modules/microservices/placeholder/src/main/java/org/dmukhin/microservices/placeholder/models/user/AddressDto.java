@@ -3,6 +3,8 @@ package org.dmukhin.microservices.placeholder.models.user;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.dmukhin.microservices.general.models.BaseDto;
@@ -46,6 +48,7 @@ public class AddressDto extends BaseDto {
    * @return The current instance of AddressDto.
    */
   public AddressDto setStreet(String street) {
+    checkMutable();
     this.street = street;
     return this;
   }
@@ -66,6 +69,7 @@ public class AddressDto extends BaseDto {
    * @return The current instance of AddressDto.
    */
   public AddressDto setSuite(String suite) {
+    checkMutable();
     this.suite = suite;
     return this;
   }
@@ -86,6 +90,7 @@ public class AddressDto extends BaseDto {
    * @return The current instance of AddressDto.
    */
   public AddressDto setCity(String city) {
+    checkMutable();
     this.city = city;
     return this;
   }
@@ -106,6 +111,7 @@ public class AddressDto extends BaseDto {
    * @return The current instance of AddressDto.
    */
   public AddressDto setZipcode(String zipcode) {
+    checkMutable();
     this.zipcode = zipcode;
     return this;
   }
@@ -126,6 +132,7 @@ public class AddressDto extends BaseDto {
    * @return The current instance of AddressDto.
    */
   public AddressDto setGeo(AddressGeoDto geo) {
+    checkMutable();
     this.geo = geo;
     return this;
   }
@@ -140,11 +147,22 @@ public class AddressDto extends BaseDto {
    */
   @JsonIgnore
   public AddressDto setAddressGeo(String lat, String lng) {
+    checkMutable();
     this.geo = new AddressGeoDto().setLat(lat).setLng(lng);
     return this;
   }
 
 
+  /**
+   * Provides the geographical information DTOs, which are frozen together with this DTO.
+   *
+   * @return The nested DTOs, elements may be null.
+   */
+  @Override
+  protected List<BaseDto> nestedDtos() {
+    return Arrays.asList(geo);
+  }
+
   /**
    * Compares this address DTO to another object for equality. The result is {@code true} if and
    * only if the argument is not {@code null} and is an AddressDto object that has the same values
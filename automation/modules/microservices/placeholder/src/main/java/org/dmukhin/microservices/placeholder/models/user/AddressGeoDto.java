@@ -35,6 +35,7 @@ public class AddressGeoDto extends BaseDto {
    * @return The current instance of AddressGeoDto for method chaining.
    */
   public AddressGeoDto setLat(String lat) {
+    checkMutable();
     this.lat = lat;
     return this;
   }
@@ -55,6 +56,7 @@ public class AddressGeoDto extends BaseDto {
    * @return The current instance of AddressGeoDto for method chaining.
    */
   public AddressGeoDto setLng(String lng) {
+    checkMutable();
     this.lng = lng;
     return this;
   }
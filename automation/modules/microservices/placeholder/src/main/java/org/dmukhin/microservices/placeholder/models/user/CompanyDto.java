@@ -38,6 +38,7 @@ public class CompanyDto extends BaseDto {
    * @return The current instance of CompanyDto.
    */
   public CompanyDto setName(String name) {
+    checkMutable();
     this.name = name;
     return this;
   }
@@ -58,6 +59,7 @@ public class CompanyDto extends BaseDto {
    * @return The current instance of CompanyDto.
    */
   public CompanyDto setCatchPhrase(String catchPhrase) {
+    checkMutable();
     this.catchPhrase = catchPhrase;
     return this;
   }
@@ -78,6 +80,7 @@ public class CompanyDto extends BaseDto {
    * @return The current instance of CompanyDto.
    */
   public CompanyDto setBs(String bs) {
+    checkMutable();
     this.bs = bs;
     return this;
   }
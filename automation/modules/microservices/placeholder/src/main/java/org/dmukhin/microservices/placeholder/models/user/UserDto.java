@@ -2,6 +2,8 @@ package org.dmukhin.microservices.placeholder.models.user;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.dmukhin.microservices.general.models.BaseDto;
@@ -62,6 +64,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setId(String id) {
+    checkMutable();
     this.id = id;
     return this;
   }
@@ -82,6 +85,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setName(String name) {
+    checkMutable();
     this.name = name;
     return this;
   }
@@ -102,6 +106,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setUsername(String username) {
+    checkMutable();
     this.username = username;
     return this;
   }
@@ -122,6 +127,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setEmail(String email) {
+    checkMutable();
     this.email = email;
     return this;
   }
@@ -142,6 +148,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setAddress(AddressDto address) {
+    checkMutable();
     this.address = address;
     return this;
   }
@@ -162,6 +169,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setPhone(String phone) {
+    checkMutable();
     this.phone = phone;
     return this;
   }
@@ -182,6 +190,7 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setWebsite(String website) {
+    checkMutable();
     this.website = website;
     return this;
   }
@@ -202,10 +211,21 @@ public class UserDto extends BaseDto {
    * @return The current instance of UserDto.
    */
   public UserDto setCompany(CompanyDto company) {
+    checkMutable();
     this.company = company;
     return this;
   }
 
+  /**
+   * Provides the address and company DTOs, which are frozen together with this DTO.
+   *
+   * @return The nested DTOs, elements may be null.
+   */
+  @Override
+  protected List<BaseDto> nestedDtos() {
+    return Arrays.asList(address, company);
+  }
+
   /**
    * Compares this UserDto to another object for equality. The result is {@code true} if and only if
    * the argument is not {@code null} and is a UserDto object that has the same values for id, name,
@@ -0,0 +1,72 @@
+package org.dmukhin.webapi.testng.listeners;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.microservices.general.allure.AsyncAttachmentWriter;
+import org.dmukhin.microservices.general.capture.ExchangeCaptureBuffer;
+import org.dmukhin.microservices.general.capture.ExchangeCaptureReporter;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener which reports the HTTP exchanges captured during a test. Every test method starts
+ * with an empty capture buffer; its exchanges are logged and attached to the Allure report only if
+ * the test fails, or if the test passes and is picked by the 'api.capture.sampling.rate'. At the
+ * end of the execution it waits for the attachments still being written. The listener is
+ * registered through the service loader.
+ */
+public class ExchangeCaptureListener implements IInvokedMethodListener, IExecutionListener {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final double SAMPLING_RATE = MavenProperties.getCaptureSamplingRate();
+  private static final Duration FLUSH_TIMEOUT = Duration.ofMinutes(1);
+
+  /**
+   * Starts an empty capture buffer for the test method.
+   *
+   * @param method     The invoked method.
+   * @param testResult The result of the invocation.
+   */
+  @Override
+  public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (method.isTestMethod()) {
+      ExchangeCaptureBuffer.reset();
+    }
+  }
+
+  /**
+   * Reports the captured exchanges of a failed or sampled test method and releases the buffer.
+   *
+   * @param method     The invoked method.
+   * @param testResult The result of the invocation.
+   */
+  @Override
+  public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (!method.isTestMethod()) {
+      return;
+    }
+    ExchangeCaptureBuffer buffer = ExchangeCaptureBuffer.current();
+    if (!testResult.isSuccess()) {
+      ExchangeCaptureReporter.report(buffer, "failed");
+    } else if (SAMPLING_RATE > 0 && ThreadLocalRandom.current().nextDouble() < SAMPLING_RATE) {
+      ExchangeCaptureReporter.report(buffer, "sampled");
+    }
+    ExchangeCaptureBuffer.unload();
+  }
+
+  /**
+   * Waits for the pending Allure attachments and logs the metrics of the attachment writer.
+   */
+  @Override
+  public void onExecutionFinish() {
+    if (!AsyncAttachmentWriter.flush(FLUSH_TIMEOUT)) {
+      LOGGER.warn("Allure attachments are still being written after [{}]", FLUSH_TIMEOUT);
+    }
+    LOGGER.info("Allure attachment writer: {}", AsyncAttachmentWriter.getMetrics());
+  }
+}
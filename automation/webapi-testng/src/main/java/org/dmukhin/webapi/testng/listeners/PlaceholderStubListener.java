@@ -0,0 +1,53 @@
+package org.dmukhin.webapi.testng.listeners;
+
+import static org.dmukhin.general.config.environment.EnvironmentProvider.provideEnvironment;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.microservices.placeholder.stub.PlaceholderStubServer;
+import org.testng.IExecutionListener;
+
+/**
+ * TestNG listener which runs the placeholder stub for the whole execution when the tests run on the
+ * 'local' environment. The stub listens on the port of the 'placeholderService' settings, so the
+ * suite runs offline without further changes. The listener is registered through the service
+ * loader and does nothing on other environments.
+ */
+public class PlaceholderStubListener implements IExecutionListener {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+  private static final String LOCAL_ENVIRONMENT = "local";
+  private static final String API_KEY = "placeholderService";
+
+  private PlaceholderStubServer stubServer;
+
+  /**
+   * Starts the placeholder stub when the execution environment is 'local'.
+   */
+  @Override
+  public void onExecutionStart() {
+    if (!LOCAL_ENVIRONMENT.equals(MavenProperties.getCurrentEnvironment())) {
+      return;
+    }
+    EnvironmentConfigDto settings = provideEnvironment().getSettings(API_KEY);
+    LOGGER.info("Start placeholder stub for the local environment");
+    stubServer = new PlaceholderStubServer()
+        .setPort(settings.getApiPort())
+        .setLatencyMillis(MavenProperties.getStubLatencyMillis())
+        .setCommentsCount(MavenProperties.getStubCommentsCount())
+        .setCommentBodyLength(MavenProperties.getStubCommentBodyLength())
+        .start();
+  }
+
+  /**
+   * Stops the placeholder stub if it was started.
+   */
+  @Override
+  public void onExecutionFinish() {
+    if (stubServer != null) {
+      stubServer.stop();
+      stubServer = null;
+    }
+  }
+}
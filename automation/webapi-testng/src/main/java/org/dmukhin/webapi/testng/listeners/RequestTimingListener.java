@@ -0,0 +1,40 @@
+package org.dmukhin.webapi.testng.listeners;
+
+import org.dmukhin.microservices.general.timing.RequestTimingWindow;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener which gives every test method an empty request timing window, so the latency
+ * budget assertions of a test only see the requests of this test. The listener is registered
+ * through the service loader.
+ */
+public class RequestTimingListener implements IInvokedMethodListener {
+
+  /**
+   * Starts an empty request timing window for the test method.
+   *
+   * @param method     The invoked method.
+   * @param testResult The result of the invocation.
+   */
+  @Override
+  public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (method.isTestMethod()) {
+      RequestTimingWindow.reset();
+    }
+  }
+
+  /**
+   * Releases the request timing window of the test method.
+   *
+   * @param method     The invoked method.
+   * @param testResult The result of the invocation.
+   */
+  @Override
+  public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+    if (method.isTestMethod()) {
+      RequestTimingWindow.unload();
+    }
+  }
+}
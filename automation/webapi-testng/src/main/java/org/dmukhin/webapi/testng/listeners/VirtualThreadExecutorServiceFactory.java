@@ -0,0 +1,45 @@
+package org.dmukhin.webapi.testng.listeners;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IExecutorServiceFactory;
+
+/**
+ * TestNG executor service factory which runs parallel suites and test methods on virtual threads.
+ * TestNG keeps its dependency-aware scheduling and pool sizes, but every worker is a virtual
+ * thread, so the thread-count of a suite can be raised to hundreds of concurrent I/O-bound API
+ * tests without allocating platform threads.
+ * <p>
+ * The factory is passed to TestNG with the '-threadpoolfactoryclass' option, which the
+ * 'virtual-threads' Maven profile sets when it runs the suite.
+ * </p>
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  /**
+   * Creates an executor whose workers are virtual threads. The thread factory of TestNG is not
+   * used, since it creates platform threads.
+   *
+   * @param corePoolSize    The number of workers kept when idle.
+   * @param maximumPoolSize The maximum number of concurrent workers, the thread-count of TestNG.
+   * @param keepAliveTime   The time idle workers above the core size are kept.
+   * @param unit            The unit of the keep-alive time.
+   * @param workQueue       The queue of the tasks waiting for a worker.
+   * @param threadFactory   The thread factory of TestNG, not used.
+   * @return The executor running the tasks on virtual threads.
+   */
+  @Override
+  public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime,
+      TimeUnit unit, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+    LOGGER.info("Run TestNG workers on up to [{}] virtual threads", maximumPoolSize);
+    return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+        Thread.ofVirtual().name("testng-virtual-", 0).factory());
+  }
+}
@@ -1,6 +1,10 @@
 package org.dmukhin.webapi.testng.testcases.general;
 
 import com.github.javafaker.Faker;
+import java.nio.file.Path;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.microservices.general.timing.RequestTimingReporter;
+import org.testng.annotations.AfterSuite;
 
 /**
  * Base class for TestNG test classes.
@@ -20,4 +24,13 @@ public class BaseTestNGTest {
    */
   protected static final Faker faker = Faker.instance();
 
+  /**
+   * Reports the latencies of the requests sent so far at the end of the suite. The report is
+   * written to the 'api.timing.report.file' and attached to the suite tear-down in Allure.
+   */
+  @AfterSuite(alwaysRun = true)
+  public void reportRequestTimings() {
+    RequestTimingReporter.report(Path.of(MavenProperties.getTimingReportFile()));
+  }
+
 }
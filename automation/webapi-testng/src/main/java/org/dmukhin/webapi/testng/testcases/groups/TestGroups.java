@@ -18,6 +18,21 @@ public class TestGroups {
    * Test group name for component tests.
    */
   public static final String COMP = "component";
+  /**
+   * Test group name for load tests, excluded unless the 'load' Maven profile is active.
+   */
+  public static final String LOAD = "load";
+  /**
+   * Test group name for tests asserting service-wide counters, e.g. of the response cache, or
+   * latencies, which concurrent tests would change; the suites run them in a separate
+   * single-threaded test.
+   */
+  public static final String SERIAL = "serial";
+  /**
+   * Test group name for tests of nested asynchronous requests, run by a separate Surefire execution
+   * allowing a single asynchronous request in flight.
+   */
+  public static final String SINGLE_IN_FLIGHT = "single-in-flight";
 
   /**
    * Private constructor to prevent instantiation of this utility class.
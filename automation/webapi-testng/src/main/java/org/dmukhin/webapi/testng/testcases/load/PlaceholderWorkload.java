@@ -0,0 +1,82 @@
+package org.dmukhin.webapi.testng.testcases.load;
+
+import static org.dmukhin.microservices.placeholder.PlaceholderApi.placeholderApi;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.dmukhin.general.config.maven.MavenProperties;
+import org.dmukhin.microservices.general.load.LoadModel;
+import org.dmukhin.microservices.general.load.LoadProfile;
+import org.dmukhin.microservices.general.load.WeightedOperation;
+import org.dmukhin.webapi.testng.testcases.testdata.placeholder.PlaceholderTestData;
+
+/**
+ * Utility class providing the User endpoint operations of the JSONPlaceholder API as a load
+ * workload, and the load profile configured by the 'api.load.*' properties. The operations verify
+ * their responses like the functional tests, so failed responses are counted as errors.
+ */
+public final class PlaceholderWorkload {
+
+  private static final int USERS_COUNT = 10;
+  private static final Map<String, Runnable> OPERATIONS = Map.of(
+      "create", () -> placeholderApi().user()
+          .create(PlaceholderTestData.userTestData().randomUser()),
+      "update", () -> placeholderApi().user()
+          .update(randomUserId(), PlaceholderTestData.userTestData().randomUser()),
+      "getById", () -> placeholderApi().user().getById(String.valueOf(randomUserId())),
+      "getAll", () -> placeholderApi().user().getAll());
+
+  /**
+   * Private constructor to prevent instantiation of utility class.
+   */
+  private PlaceholderWorkload() {
+    // default constructor
+  }
+
+  /**
+   * Provides the operations weighted by the 'api.load.weights' property, e.g.
+   * 'create:1,update:1,getById:6,getAll:2'. Operations missing from the property are not run.
+   *
+   * @return The weighted operations in the order of the property.
+   * @throws IllegalStateException If the property names an unknown operation or is malformed.
+   */
+  public static List<WeightedOperation> weightedOperations() {
+    List<WeightedOperation> operations = new ArrayList<>();
+    for (String entry : MavenProperties.getLoadWeights().split(",")) {
+      String[] nameAndWeight = entry.trim().split(":");
+      Runnable operation = OPERATIONS.get(nameAndWeight[0].trim());
+      if (operation == null || nameAndWeight.length != 2) {
+        throw new IllegalStateException("Unknown load operation weight: " + entry);
+      }
+      operations.add(new WeightedOperation(nameAndWeight[0].trim(),
+          Integer.parseInt(nameAndWeight[1].trim()), operation));
+    }
+    return operations;
+  }
+
+  /**
+   * Provides the load profile configured by the 'api.load.model', 'api.load.arrival.rate',
+   * 'api.load.concurrency', 'api.load.duration.seconds' and 'api.load.warmup.seconds' properties.
+   *
+   * @return The configured load profile.
+   */
+  public static LoadProfile profile() {
+    return new LoadProfile()
+        .setModel(LoadModel.of(MavenProperties.getLoadModel()))
+        .setArrivalRate(MavenProperties.getLoadArrivalRate())
+        .setConcurrency(MavenProperties.getLoadConcurrency())
+        .setDuration(Duration.ofSeconds(MavenProperties.getLoadDurationSeconds()))
+        .setWarmup(Duration.ofSeconds(MavenProperties.getLoadWarmupSeconds()));
+  }
+
+  /**
+   * Picks the ID of one of the existing users.
+   *
+   * @return A random user ID.
+   */
+  private static int randomUserId() {
+    return ThreadLocalRandom.current().nextInt(USERS_COUNT) + 1;
+  }
+}
@@ -296,6 +296,8 @@ public abstract class BaseAsserts {
                 .withIgnoredFields(defaultIgnoreFields())
                 .withIgnoreAllActualNullFields(true)
                 .withIgnoredOverriddenEqualsForTypes(BaseDto.class)
+                .withIgnoredFieldsOfTypes(BaseDto.Rendering.class, BaseDto.Mutability.class)
+                .withIgnoredFieldsMatchingRegexes("(.*\\.)?modificationStamp")
                 .build();
 
         if (ignoreFields) {
@@ -0,0 +1,130 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import org.dmukhin.microservices.general.models.BaseDto;
+
+/**
+ * Base class for single-pass verifications of streamed DTO responses. Expectations are registered
+ * first and evaluated element by element while the stream is consumed in {@link #verify()}, so
+ * large list responses never have to be materialized in memory.
+ *
+ * @param <T> The type of the streamed DTO.
+ * @param <S> The concrete assertion type, returned for method chaining.
+ */
+public abstract class BaseStreamAsserts<T extends BaseDto, S extends BaseStreamAsserts<T, S>>
+    extends BaseAsserts {
+
+  private final Stream<T> dtoStream;
+  private final List<Consumer<T>> elementChecks = new ArrayList<>();
+  private final List<LongConsumer> countChecks = new ArrayList<>();
+
+  /**
+   * Constructs stream assertions for the provided stream of DTOs.
+   *
+   * @param dtoStream The stream of DTOs to be verified.
+   */
+  protected BaseStreamAsserts(Stream<T> dtoStream) {
+    this.dtoStream = dtoStream;
+  }
+
+  /**
+   * Registers a check which is applied to every element of the stream.
+   *
+   * @param check The check to apply.
+   * @return The current instance for method chaining.
+   */
+  protected S expectEachElement(Consumer<T> check) {
+    elementChecks.add(check);
+    return self();
+  }
+
+  /**
+   * Registers an expectation that the values extracted from the stream elements contain all of the
+   * expected values.
+   *
+   * @param extractor     The function extracting the verified value from an element.
+   * @param expected      The values expected to be present in the stream.
+   * @param verifiedField The name of the field being verified, used for logging.
+   * @return The current instance for method chaining.
+   */
+  protected S expectValuesPresent(Function<T, String> extractor, List<String> expected,
+      String verifiedField) {
+    Set<String> missing = new HashSet<>(expected);
+    elementChecks.add(dto -> missing.remove(extractor.apply(dto)));
+    countChecks.add(count -> {
+      LOGGER.debug("Verify streamed <{}> contains expected: {}, missing: {}", verifiedField,
+          expected, missing);
+      assertThat(missing)
+          .as(verifiedField + " missing from response")
+          .isEmpty();
+    });
+    return self();
+  }
+
+  /**
+   * Registers an expectation on the exact number of elements in the stream.
+   *
+   * @param size          The expected number of elements.
+   * @param verifiedField The name of the field being verified, used for logging.
+   * @return The current instance for method chaining.
+   */
+  protected S expectSize(long size, String verifiedField) {
+    countChecks.add(count -> assertThat(count).as(verifiedField).isEqualTo(size));
+    return self();
+  }
+
+  /**
+   * Registers an expectation that the stream has more elements than the specified size.
+   *
+   * @param size          The expected minimum size, exclusive.
+   * @param verifiedField The name of the field being verified, used for logging.
+   * @return The current instance for method chaining.
+   */
+  protected S expectSizeGreaterThan(long size, String verifiedField) {
+    countChecks.add(count -> assertThat(count).as(verifiedField).isGreaterThan(size));
+    return self();
+  }
+
+  /**
+   * Consumes the stream once, applying all registered element checks on the fly, and evaluates
+   * the aggregated expectations afterward. The stream is closed when verification finishes.
+   */
+  @Step("Verify the streamed response in a single pass")
+  public void verify() {
+    long count = 0;
+    try (Stream<T> stream = dtoStream) {
+      Iterator<T> iterator = stream.iterator();
+      while (iterator.hasNext()) {
+        T dto = iterator.next();
+        for (Consumer<T> check : elementChecks) {
+          check.accept(dto);
+        }
+        count++;
+      }
+    }
+    LOGGER.debug("Verified {} streamed elements", count);
+    for (LongConsumer check : countChecks) {
+      check.accept(count);
+    }
+  }
+
+  /**
+   * Returns the current instance typed as the concrete assertion class.
+   *
+   * @return The current instance.
+   */
+  @SuppressWarnings("unchecked")
+  private S self() {
+    return (S) this;
+  }
+}
@@ -0,0 +1,77 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import java.util.List;
+import java.util.function.Function;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
+import org.dmukhin.microservices.general.models.BaseDto;
+
+/**
+ * Contains assertion methods for verifying the result of looking up several DTOs by ID.
+ *
+ * @param <I> The type of the IDs.
+ * @param <T> The type of the DTOs.
+ */
+public class BatchLookupAsserts<I, T extends BaseDto> extends BaseAsserts {
+
+  private final BatchLookupResult<I, T> lookupResult;
+  private final Function<T, I> idOf;
+
+  /**
+   * Constructs BatchLookupAsserts for the provided lookup result.
+   *
+   * @param lookupResult The result of the lookup to be verified.
+   * @param idOf         The function providing the ID of a DTO.
+   */
+  public BatchLookupAsserts(BatchLookupResult<I, T> lookupResult, Function<T, I> idOf) {
+    this.lookupResult = lookupResult;
+    this.idOf = idOf;
+    LOGGER.info("Validating lookup of [{}] IDs", lookupResult.ids().size());
+  }
+
+  /**
+   * Verifies that every retrieved DTO is valid.
+   *
+   * @return The current instance of BatchLookupAsserts for method chaining.
+   */
+  @Step("Verify that the retrieved DTOs are valid")
+  public BatchLookupAsserts<I, T> isResponseValid() {
+    for (T dto : lookupResult.found()) {
+      hasNoNullFieldsAndUnknownProperties(dto);
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that every retrieved DTO is at the position of its ID in the requested IDs.
+   *
+   * @return The current instance of BatchLookupAsserts for method chaining.
+   */
+  @Step("Verify that the retrieved DTOs keep the order of the requested IDs")
+  public BatchLookupAsserts<I, T> isInRequestedOrder() {
+    List<T> results = lookupResult.results();
+    for (int i = 0; i < results.size(); i++) {
+      if (results.get(i) != null) {
+        verifyObject(lookupResult.ids().get(i), idOf.apply(results.get(i)), "ID at position " + i);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that exactly the given IDs could not be retrieved.
+   *
+   * @param expectedIds The IDs expected to fail, in the order of the requested IDs.
+   * @return The current instance of BatchLookupAsserts for method chaining.
+   */
+  @Step("Verify that exactly the IDs {expectedIds} could not be retrieved")
+  public BatchLookupAsserts<I, T> hasFailuresFor(List<I> expectedIds) {
+    LOGGER.debug("Verify failed IDs expected: {}, actual: {}", expectedIds,
+        lookupResult.failures());
+    assertThat(lookupResult.failures().keySet())
+        .as("Failed IDs")
+        .containsExactlyElementsOf(expectedIds);
+    return this;
+  }
+}
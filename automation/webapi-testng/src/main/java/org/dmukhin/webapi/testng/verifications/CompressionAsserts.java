@@ -0,0 +1,64 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import org.dmukhin.microservices.general.compression.CompressionMetrics;
+
+/**
+ * Contains assertion methods for verifying the response compression negotiated with a service.
+ */
+public class CompressionAsserts extends BaseAsserts {
+
+  private final CompressionMetrics metrics;
+
+  /**
+   * Constructs CompressionAsserts for the provided compression metrics.
+   *
+   * @param metrics The compression metrics of the service to be verified.
+   */
+  public CompressionAsserts(CompressionMetrics metrics) {
+    this.metrics = metrics;
+    LOGGER.info("Validating compression: {}", metrics);
+  }
+
+  /**
+   * Verifies that compressed responses were received and inflated.
+   *
+   * @return The current instance of CompressionAsserts for method chaining.
+   */
+  @Step("Verify that compressed responses were inflated")
+  public CompressionAsserts hasCompressedResponses() {
+    assertThat(metrics.compressedResponses())
+        .as("Compressed responses")
+        .isPositive();
+    return this;
+  }
+
+  /**
+   * Verifies that fewer bytes were read from the connection than handed to the parser.
+   *
+   * @return The current instance of CompressionAsserts for method chaining.
+   */
+  @Step("Verify that compression reduced the bytes on the wire")
+  public CompressionAsserts isSmallerOnTheWire() {
+    assertThat(metrics.wireBytes())
+        .as("Bytes on the wire compared to inflated bytes")
+        .isLessThan(metrics.inflatedBytes());
+    return this;
+  }
+
+  /**
+   * Verifies that fewer bytes were handed to the parser than in a later snapshot, i.e. that the
+   * response body was still being read after these metrics were taken.
+   *
+   * @param later The metrics taken after the whole body was read.
+   * @return The current instance of CompressionAsserts for method chaining.
+   */
+  @Step("Verify that the response body was read incrementally")
+  public CompressionAsserts isReadBefore(CompressionMetrics later) {
+    assertThat(metrics.inflatedBytes())
+        .as("Bytes handed to the parser compared to the whole body")
+        .isLessThan(later.inflatedBytes());
+    return this;
+  }
+}
@@ -0,0 +1,155 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.dmukhin.general.config.environment.EnvironmentProvider;
+import org.dmukhin.general.config.environment.models.LatencyBudgetDto;
+import org.dmukhin.microservices.general.resilience.LatencyWindow;
+import org.dmukhin.microservices.general.timing.RequestTiming;
+import org.dmukhin.microservices.general.timing.RequestTimingBaseline;
+import org.dmukhin.microservices.general.timing.RequestTimingKey;
+import org.dmukhin.microservices.general.timing.RequestTimingStats;
+import org.dmukhin.microservices.general.timing.RequestTimingWindow;
+
+/**
+ * Contains assertion methods for verifying the latency of a response against the budgets declared
+ * in the 'latencyBudgets' of the service settings. The verified timing belongs to the request which
+ * received the response; responses answered or revalidated by the response cache have no timing
+ * and fail the verifications. The 95th percentile is computed over the requests of the test to the
+ * endpoint with the same status and requires the minimum number of samples of the budget.
+ */
+public class LatencyBudgetAsserts extends BaseAsserts {
+
+  private final RequestTiming timing;
+
+  /**
+   * Constructs LatencyBudgetAsserts for the timing of a response.
+   *
+   * @param timing The timing of the request which received the response, null if the response was
+   *               not received from the service.
+   */
+  public LatencyBudgetAsserts(RequestTiming timing) {
+    this.timing = timing;
+    LOGGER.info("Validating request latency: {}", timing);
+  }
+
+  /**
+   * Verifies that the request answered within the single-request budget of its endpoint.
+   *
+   * @return The current instance of LatencyBudgetAsserts for method chaining.
+   */
+  @Step("Verify that the request answered within the latency budget of its endpoint")
+  public LatencyBudgetAsserts isRespondedWithinBudget() {
+    verifyRequestMeasured();
+    LatencyBudgetDto budget = latencyBudgetOf(timing.key());
+    LOGGER.debug("Verify latency of <{} {}> expected: <= {} ms, actual: [{}] ms",
+        timing.key().method(), timing.key().path(), budget.getMaxMillis(),
+        timing.latencyMillis());
+    assertThat(timing.latencyMillis())
+        .as("Latency of %s %s in ms", timing.key().method(), timing.key().path())
+        .isLessThanOrEqualTo(budget.getMaxMillis());
+    return this;
+  }
+
+  /**
+   * Verifies that the 95th percentile of the requests of the test to the endpoint of the request,
+   * with the same status, is within the p95 budget of the endpoint.
+   *
+   * @return The current instance of LatencyBudgetAsserts for method chaining.
+   */
+  @Step("Verify that the p95 latency of the endpoint in this test is within its budget")
+  public LatencyBudgetAsserts isP95WithinBudget() {
+    verifyRequestMeasured();
+    LatencyBudgetDto budget = latencyBudgetOf(timing.key());
+    double p95Millis = p95MillisOf(budget);
+    LOGGER.debug("Verify p95 latency of <{} {}> expected: <= {} ms, actual: [{}] ms",
+        timing.key().method(), timing.key().path(), budget.getP95Millis(), p95Millis);
+    assertThat(p95Millis)
+        .as("p95 latency of %s %s in ms", timing.key().method(), timing.key().path())
+        .isLessThanOrEqualTo(budget.getP95Millis());
+    return this;
+  }
+
+  /**
+   * Verifies that the 95th percentile of the requests of the test to the endpoint of the request,
+   * with the same status, exceeds the p95 of the stored baseline by at most the baseline tolerance
+   * of the endpoint. Without a baseline for the endpoint and status, there is nothing to compare
+   * and the verification passes.
+   *
+   * @return The current instance of LatencyBudgetAsserts for method chaining.
+   */
+  @Step("Verify that the p95 latency of the endpoint is not slower than the baseline")
+  public LatencyBudgetAsserts isNotSlowerThanBaseline() {
+    verifyRequestMeasured();
+    Optional<RequestTimingStats> baseline = RequestTimingBaseline.find(timing.key());
+    if (baseline.isEmpty()) {
+      LOGGER.info("No latency baseline for <{} {}> with status [{}], comparison skipped",
+          timing.key().method(), timing.key().path(), timing.key().status());
+      return this;
+    }
+    LatencyBudgetDto budget = latencyBudgetOf(timing.key());
+    double limitMillis = baseline.get().p95Millis() * (1.0 + budget.getBaselineTolerance());
+    double p95Millis = p95MillisOf(budget);
+    LOGGER.debug("Verify p95 latency of <{} {}> expected: <= {} ms (baseline {} ms + {}), "
+            + "actual: [{}] ms", timing.key().method(), timing.key().path(), limitMillis,
+        baseline.get().p95Millis(), budget.getBaselineTolerance(), p95Millis);
+    assertThat(p95Millis)
+        .as("p95 latency of %s %s in ms compared to baseline", timing.key().method(),
+            timing.key().path())
+        .isLessThanOrEqualTo(limitMillis);
+    return this;
+  }
+
+  /**
+   * Verifies that the response was received from the service, i.e. its request was measured.
+   */
+  private void verifyRequestMeasured() {
+    assertThat(timing)
+        .as("Timing of a response received from the service")
+        .isNotNull();
+  }
+
+  /**
+   * Computes the 95th percentile of the requests of the test to the endpoint of the request, with
+   * the same status, after verifying that at least the minimum number of samples was recorded.
+   *
+   * @param budget The latency budget of the endpoint.
+   * @return The 95th percentile in milliseconds.
+   */
+  private double p95MillisOf(LatencyBudgetDto budget) {
+    LatencyWindow latencies = RequestTimingWindow.current().getLatencies(timing.key());
+    int samples = latencies == null ? 0 : latencies.size();
+    assertThat(samples)
+        .as("Requests to %s %s in this test for a p95 latency", timing.key().method(),
+            timing.key().path())
+        .isGreaterThanOrEqualTo(budget.getMinSamples());
+    return toMillis(latencies.percentile(95.0));
+  }
+
+  /**
+   * Provides the latency budget declared for the endpoint of a request.
+   *
+   * @param key The key of the request.
+   * @return The latency budget of the endpoint.
+   * @throws IllegalStateException If no budget is declared for the endpoint.
+   */
+  private static LatencyBudgetDto latencyBudgetOf(RequestTimingKey key) {
+    return EnvironmentProvider.provideEnvironment().getSettings(key.service())
+        .getLatencyBudget(key.method(), key.path())
+        .orElseThrow(() -> new IllegalStateException(String.format(
+            "No latency budget declared for %s %s of %s", key.method(), key.path(),
+            key.service())));
+  }
+
+  /**
+   * Converts nanoseconds to milliseconds.
+   *
+   * @param nanos The duration in nanoseconds.
+   * @return The duration in milliseconds.
+   */
+  private static double toMillis(long nanos) {
+    return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
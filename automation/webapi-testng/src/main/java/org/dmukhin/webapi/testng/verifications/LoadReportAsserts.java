@@ -0,0 +1,55 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import org.dmukhin.microservices.general.load.LoadReport;
+import org.dmukhin.microservices.general.load.OperationStats;
+
+/**
+ * Contains assertion methods for verifying the result of a load run.
+ */
+public class LoadReportAsserts extends BaseAsserts {
+
+  private final LoadReport loadReport;
+
+  /**
+   * Constructs LoadReportAsserts for the provided load report.
+   *
+   * @param loadReport The report of the load run to be verified.
+   */
+  public LoadReportAsserts(LoadReport loadReport) {
+    this.loadReport = loadReport;
+    LOGGER.info("Validating load run of [{}] operations", loadReport.total().count());
+  }
+
+  /**
+   * Verifies that operations were completed and none of them failed.
+   *
+   * @return The current instance of LoadReportAsserts for method chaining.
+   */
+  @Step("Verify that the load run completed operations without errors")
+  public LoadReportAsserts hasNoErrors() {
+    assertThat(loadReport.total().count())
+        .as("Completed operations")
+        .isPositive();
+    for (OperationStats operation : loadReport.operations()) {
+      assertThat(operation.errors())
+          .as("Errors of operation [%s]", operation.name())
+          .isZero();
+    }
+    return this;
+  }
+
+  /**
+   * Verifies that no arrival was dropped, i.e. the service kept up with the arrival rate.
+   *
+   * @return The current instance of LoadReportAsserts for method chaining.
+   */
+  @Step("Verify that the load run dropped no arrivals")
+  public LoadReportAsserts hasNoDroppedArrivals() {
+    assertThat(loadReport.dropped())
+        .as("Dropped arrivals")
+        .isZero();
+    return this;
+  }
+}
@@ -0,0 +1,54 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import org.dmukhin.microservices.general.resilience.ResilienceMetrics;
+
+/**
+ * Contains assertion methods for verifying the hedging and retry policy of a service.
+ */
+public class ResilienceAsserts extends BaseAsserts {
+
+  private final ResilienceMetrics metrics;
+
+  /**
+   * Constructs ResilienceAsserts for the provided resilience metrics.
+   *
+   * @param metrics The resilience metrics of the service to be verified.
+   */
+  public ResilienceAsserts(ResilienceMetrics metrics) {
+    this.metrics = metrics;
+    LOGGER.info("Validating resilience policy: {}", metrics);
+  }
+
+  /**
+   * Verifies that at least the given number of requests were executed through the policy.
+   *
+   * @param requests The minimum number of requests.
+   * @return The current instance of ResilienceAsserts for method chaining.
+   */
+  @Step("Verify that at least {requests} requests were executed through the policy")
+  public ResilienceAsserts hasExecutedAtLeast(long requests) {
+    assertThat(metrics.requests())
+        .as("Requests executed through the policy")
+        .isGreaterThanOrEqualTo(requests);
+    return this;
+  }
+
+  /**
+   * Verifies that GET requests were hedged, i.e. sent a second time after the hedging delay, and
+   * that no more hedges won than GET requests were hedged.
+   *
+   * @return The current instance of ResilienceAsserts for method chaining.
+   */
+  @Step("Verify that GET requests are hedged")
+  public ResilienceAsserts isHedging() {
+    assertThat(metrics.hedged())
+        .as("Hedged GET requests")
+        .isPositive();
+    assertThat(metrics.hedgeWins())
+        .as("Hedge wins compared to hedged requests")
+        .isLessThanOrEqualTo(metrics.hedged());
+    return this;
+  }
+}
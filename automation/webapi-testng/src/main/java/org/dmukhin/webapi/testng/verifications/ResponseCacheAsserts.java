@@ -0,0 +1,37 @@
+package org.dmukhin.webapi.testng.verifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import io.qameta.allure.Step;
+import org.dmukhin.microservices.general.cache.ResponseCacheMetrics;
+
+/**
+ * Contains assertion methods for verifying the GET response cache of a service.
+ */
+public class ResponseCacheAsserts extends BaseAsserts {
+
+  private final ResponseCacheMetrics metrics;
+
+  /**
+   * Constructs ResponseCacheAsserts for the provided cache metrics.
+   *
+   * @param metrics The response cache metrics of the service to be verified.
+   */
+  public ResponseCacheAsserts(ResponseCacheMetrics metrics) {
+    this.metrics = metrics;
+    LOGGER.info("Validating response cache: {}", metrics);
+  }
+
+  /**
+   * Verifies that GET requests were answered from the cache, either fresh or after the service
+   * confirmed the cached entry with 304 Not Modified.
+   *
+   * @return The current instance of ResponseCacheAsserts for method chaining.
+   */
+  @Step("Verify that responses were answered from the cache")
+  public ResponseCacheAsserts isAnsweredFromCache() {
+    assertThat(metrics.hits() + metrics.revalidations())
+        .as("Cache hits and revalidations")
+        .isPositive();
+    return this;
+  }
+}
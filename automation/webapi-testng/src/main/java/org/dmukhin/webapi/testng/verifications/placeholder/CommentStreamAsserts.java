@@ -0,0 +1,52 @@
+package org.dmukhin.webapi.testng.verifications.placeholder;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
+import org.dmukhin.webapi.testng.verifications.BaseStreamAsserts;
+
+/**
+ * Contains assertion methods for verifying a streamed list of CommentDto objects in a single pass.
+ * Expectations are evaluated when {@link #verify()} is called.
+ */
+public class CommentStreamAsserts extends BaseStreamAsserts<CommentDto, CommentStreamAsserts> {
+
+  /**
+   * Constructs a CommentStreamAsserts object with the provided stream of CommentDto objects.
+   *
+   * @param commentDtoStream The stream of CommentDto objects to be verified.
+   */
+  CommentStreamAsserts(Stream<CommentDto> commentDtoStream) {
+    super(commentDtoStream);
+    LOGGER.info("Validating streamed comments endpoint");
+  }
+
+  /**
+   * Expects every streamed CommentDto object to be a valid response.
+   *
+   * @return The current instance of CommentStreamAsserts for method chaining.
+   */
+  public CommentStreamAsserts isResponseValid() {
+    return expectEachElement(this::hasNoNullFieldsAndUnknownProperties);
+  }
+
+  /**
+   * Expects the streamed CommentDto objects to contain the expected comment names.
+   *
+   * @param expectedCommentNames The list of expected comment names.
+   * @return The current instance of CommentStreamAsserts for method chaining.
+   */
+  public CommentStreamAsserts verifyCommentNamesInList(List<String> expectedCommentNames) {
+    return expectValuesPresent(CommentDto::getName, expectedCommentNames, "Comment names");
+  }
+
+  /**
+   * Expects the stream to contain more CommentDto objects than the specified size.
+   *
+   * @param size The expected minimum size of the comment list.
+   * @return The current instance of CommentStreamAsserts for method chaining.
+   */
+  public CommentStreamAsserts isCommentListSizeGreaterThan(int size) {
+    return expectSizeGreaterThan(size, "Comment List");
+  }
+}
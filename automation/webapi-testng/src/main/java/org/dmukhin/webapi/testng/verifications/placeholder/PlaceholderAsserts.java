@@ -1,8 +1,22 @@
 package org.dmukhin.webapi.testng.verifications.placeholder;
 
+import io.restassured.response.Response;
 import java.util.List;
+import java.util.stream.Stream;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
+import org.dmukhin.microservices.general.cache.ResponseCacheMetrics;
+import org.dmukhin.microservices.general.compression.CompressionMetrics;
+import org.dmukhin.microservices.general.load.LoadReport;
+import org.dmukhin.microservices.general.resilience.ResilienceMetrics;
+import org.dmukhin.microservices.general.timing.RequestTimings;
 import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
 import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.dmukhin.webapi.testng.verifications.BatchLookupAsserts;
+import org.dmukhin.webapi.testng.verifications.CompressionAsserts;
+import org.dmukhin.webapi.testng.verifications.LatencyBudgetAsserts;
+import org.dmukhin.webapi.testng.verifications.LoadReportAsserts;
+import org.dmukhin.webapi.testng.verifications.ResilienceAsserts;
+import org.dmukhin.webapi.testng.verifications.ResponseCacheAsserts;
 
 /**
  * Factory class for creating instances of assertion classes related to placeholder entities.
@@ -44,6 +58,28 @@ public class PlaceholderAsserts {
     return new CommentsListAsserts(commentDtoList);
   }
 
+  /**
+   * Creates a new instance of CommentStreamAsserts for verifying a stream of CommentDto objects in
+   * a single pass.
+   *
+   * @param commentDtoStream The stream of CommentDto objects to be verified.
+   * @return A new instance of CommentStreamAsserts.
+   */
+  public CommentStreamAsserts commentStreamAsserts(Stream<CommentDto> commentDtoStream) {
+    return new CommentStreamAsserts(commentDtoStream);
+  }
+
+  /**
+   * Creates a new instance of BatchLookupAsserts for verifying comments looked up by ID.
+   *
+   * @param lookupResult The result of the comment lookup to be verified.
+   * @return A new instance of BatchLookupAsserts.
+   */
+  public BatchLookupAsserts<Integer, CommentDto> commentBatchAsserts(
+      BatchLookupResult<Integer, CommentDto> lookupResult) {
+    return new BatchLookupAsserts<>(lookupResult, comment -> comment.getId().intValue());
+  }
+
   /**
    * Creates a new instance of UserAsserts for verifying properties of a single UserDto object.
    *
@@ -64,4 +100,81 @@ public class PlaceholderAsserts {
   public UserListAsserts userListAsserts(List<UserDto> userDtoList) {
     return new UserListAsserts(userDtoList);
   }
+
+  /**
+   * Creates a new instance of UserStreamAsserts for verifying a stream of UserDto objects in a
+   * single pass.
+   *
+   * @param userDtoStream The stream of UserDto objects to be verified.
+   * @return A new instance of UserStreamAsserts.
+   */
+  public UserStreamAsserts userStreamAsserts(Stream<UserDto> userDtoStream) {
+    return new UserStreamAsserts(userDtoStream);
+  }
+
+  /**
+   * Creates a new instance of BatchLookupAsserts for verifying users looked up by ID.
+   *
+   * @param lookupResult The result of the user lookup to be verified.
+   * @return A new instance of BatchLookupAsserts.
+   */
+  public BatchLookupAsserts<String, UserDto> userBatchAsserts(
+      BatchLookupResult<String, UserDto> lookupResult) {
+    return new BatchLookupAsserts<>(lookupResult, UserDto::getId);
+  }
+
+  /**
+   * Creates a new instance of LoadReportAsserts for verifying the result of a load run against the
+   * placeholder service.
+   *
+   * @param loadReport The report of the load run to be verified.
+   * @return A new instance of LoadReportAsserts.
+   */
+  public LoadReportAsserts loadReportAsserts(LoadReport loadReport) {
+    return new LoadReportAsserts(loadReport);
+  }
+
+  /**
+   * Creates a new instance of CompressionAsserts for verifying the response compression negotiated
+   * with the placeholder service.
+   *
+   * @param metrics The compression metrics of the placeholder service.
+   * @return A new instance of CompressionAsserts.
+   */
+  public CompressionAsserts compressionAsserts(CompressionMetrics metrics) {
+    return new CompressionAsserts(metrics);
+  }
+
+  /**
+   * Creates a new instance of ResponseCacheAsserts for verifying the GET response cache of the
+   * placeholder service.
+   *
+   * @param metrics The response cache metrics of the placeholder service.
+   * @return A new instance of ResponseCacheAsserts.
+   */
+  public ResponseCacheAsserts responseCacheAsserts(ResponseCacheMetrics metrics) {
+    return new ResponseCacheAsserts(metrics);
+  }
+
+  /**
+   * Creates a new instance of ResilienceAsserts for verifying the hedging and retry policy of the
+   * placeholder service.
+   *
+   * @param metrics The resilience metrics of the placeholder service.
+   * @return A new instance of ResilienceAsserts.
+   */
+  public ResilienceAsserts resilienceAsserts(ResilienceMetrics metrics) {
+    return new ResilienceAsserts(metrics);
+  }
+
+  /**
+   * Creates a new instance of LatencyBudgetAsserts for verifying the latency of a response from the
+   * placeholder service against the latency budget of its endpoint.
+   *
+   * @param response The response whose request is verified.
+   * @return A new instance of LatencyBudgetAsserts.
+   */
+  public LatencyBudgetAsserts latencyBudgetAsserts(Response response) {
+    return new LatencyBudgetAsserts(RequestTimings.timingOf(response).orElse(null));
+  }
 }
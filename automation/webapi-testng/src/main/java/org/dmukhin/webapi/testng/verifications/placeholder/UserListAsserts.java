@@ -1,5 +1,6 @@
 package org.dmukhin.webapi.testng.verifications.placeholder;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import io.qameta.allure.Step;
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +50,24 @@ public class UserListAsserts extends BaseAsserts {
     return this;
   }
 
+  /**
+   * Verifies that every UserDto of the list is frozen together with its nested address and
+   * company, so its setters fail.
+   *
+   * @return The current instance of UserListAsserts for method chaining.
+   */
+  @Step("Verify that the users of the list are frozen")
+  public UserListAsserts isFrozen() {
+    for (UserDto userDto : userDtoList) {
+      assertThat(userDto.isFrozen()).as("User [%s] is frozen", userDto.getId()).isTrue();
+      assertThat(userDto.getAddress().isFrozen())
+          .as("Address of user [%s] is frozen", userDto.getId()).isTrue();
+      assertThat(userDto.getCompany().isFrozen())
+          .as("Company of user [%s] is frozen", userDto.getId()).isTrue();
+    }
+    return this;
+  }
+
   /**
    * Verifies that the list of UserDto objects has the specified size.
    *
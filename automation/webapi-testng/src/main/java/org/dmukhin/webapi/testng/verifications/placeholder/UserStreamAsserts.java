@@ -0,0 +1,52 @@
+package org.dmukhin.webapi.testng.verifications.placeholder;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.dmukhin.webapi.testng.verifications.BaseStreamAsserts;
+
+/**
+ * Contains assertion methods for verifying a streamed list of UserDto objects in a single pass.
+ * Expectations are evaluated when {@link #verify()} is called.
+ */
+public class UserStreamAsserts extends BaseStreamAsserts<UserDto, UserStreamAsserts> {
+
+  /**
+   * Constructs a UserStreamAsserts object with the provided stream of UserDto objects.
+   *
+   * @param userDtoStream The stream of UserDto objects to be verified.
+   */
+  UserStreamAsserts(Stream<UserDto> userDtoStream) {
+    super(userDtoStream);
+    LOGGER.info("Validating streamed user endpoint");
+  }
+
+  /**
+   * Expects every streamed UserDto object to be a valid response.
+   *
+   * @return The current instance of UserStreamAsserts for method chaining.
+   */
+  public UserStreamAsserts isResponseValid() {
+    return expectEachElement(this::hasNoNullFieldsAndUnknownProperties);
+  }
+
+  /**
+   * Expects the streamed UserDto objects to contain the expected user names.
+   *
+   * @param expectedUserNames The list of expected user names.
+   * @return The current instance of UserStreamAsserts for method chaining.
+   */
+  public UserStreamAsserts verifyUserNamesInList(List<String> expectedUserNames) {
+    return expectValuesPresent(UserDto::getName, expectedUserNames, "User names");
+  }
+
+  /**
+   * Expects the stream to contain the specified number of UserDto objects.
+   *
+   * @param size The expected size of the user list.
+   * @return The current instance of UserStreamAsserts for method chaining.
+   */
+  public UserStreamAsserts isUserListHasSize(int size) {
+    return expectSize(size, "Users List");
+  }
+}
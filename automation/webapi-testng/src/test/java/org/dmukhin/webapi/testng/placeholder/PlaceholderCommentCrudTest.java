@@ -7,10 +7,18 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 import io.qameta.allure.TmsLink;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
+import org.dmukhin.microservices.general.cache.ResponseCache;
+import org.dmukhin.microservices.general.cache.ResponseCacheMetrics;
+import org.dmukhin.microservices.general.compression.CompressionMetrics;
+import org.dmukhin.microservices.general.compression.ContentDecoder;
+import org.dmukhin.microservices.general.http.HttpTransport;
 import org.dmukhin.microservices.placeholder.models.comment.CommentDto;
 import org.dmukhin.webapi.testng.testcases.general.placeholder.BasePlaceholderTest;
 import org.dmukhin.webapi.testng.testcases.groups.TestGroups;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 /**
@@ -82,6 +90,48 @@ public class PlaceholderCommentCrudTest extends BasePlaceholderTest {
         .isResponseFieldsEqualTo(expectedComment, "name", "email");
   }
 
+  /**
+   * Test for verifying that a comment retrieved repeatedly stays the same when the repeated request
+   * is answered by the response cache or revalidated with its ETag. The response cache is off
+   * unless enabled in the environment, so the test is skipped without it.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP, TestGroups.SERIAL})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify repeated retrieval of Comment by Id")
+  public void testRepeatedRetrieveCommentById() {
+    ResponseCache responseCache = placeholderApi().getResponseCache();
+    if (!responseCache.isEnabled()) {
+      throw new SkipException("The response cache is disabled in the environment");
+    }
+    int commentId = 3;
+    CommentDto firstComment = placeholderApi().comment().getById(commentId);
+    ResponseCacheMetrics before = responseCache.getMetrics();
+    CommentDto repeatedComment = placeholderApi().comment().getById(commentId);
+    ResponseCacheMetrics repetition = responseCache.getMetrics().since(before);
+
+    placeholderAsserts().commentAsserts(repeatedComment)
+        .isResponseValid()
+        .isResponseEqualTo(firstComment);
+    placeholderAsserts().responseCacheAsserts(repetition)
+        .isAnsweredFromCache();
+  }
+
+  /**
+   * Test for verifying the ability to retrieve several comments by their IDs in one lookup. The
+   * retrieved comments keep the requested order and the unknown ID is reported as failure.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify ability to retrieve Comments by Ids")
+  public void testRetrieveCommentsByIds() {
+    List<Integer> commentIds = List.of(7, 2, 99999, 5);
+
+    placeholderAsserts().commentBatchAsserts(placeholderApi().comment().getByIds(commentIds))
+        .isResponseValid()
+        .isInRequestedOrder()
+        .hasFailuresFor(List.of(99999));
+  }
+
   /**
    * Test for verifying the ability to retrieve a list of all comments. This test fetches all
    * comments and performs assertions on the size of the list and specific content.
@@ -100,4 +150,71 @@ public class PlaceholderCommentCrudTest extends BasePlaceholderTest {
         .isCommentListSizeGreaterThan(300)
         .verifyCommentNamesInList(commentNames);
   }
+
+  /**
+   * Test for verifying that the list of all comments is transferred compressed: the comments are
+   * inflated correctly, and fewer bytes were read from the connection than parsed while they were
+   * retrieved. The comments are requested from the service, not from the response cache.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP, TestGroups.SERIAL})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify compressed transfer of Comments list")
+  public void testRetrieveAllCommentsCompressed() {
+    ContentDecoder contentDecoder = placeholderApi().getContentDecoder();
+    CompressionMetrics before = contentDecoder.getMetrics();
+    List<CommentDto> comments = placeholderApi().comment().getAllUncached();
+    CompressionMetrics retrieval = contentDecoder.getMetrics().since(before);
+
+    placeholderAsserts().commentListAsserts(comments)
+        .isResponseValid()
+        .isCommentListSizeGreaterThan(300);
+    placeholderAsserts().compressionAsserts(retrieval)
+        .hasCompressedResponses()
+        .isSmallerOnTheWire();
+  }
+
+  /**
+   * Test for verifying the ability to stream the list of all comments. The response is verified in
+   * a single pass while it is being deserialized.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify ability to stream Comments list")
+  public void testStreamAllComments() {
+    List<String> commentNames = Arrays.asList("id labore ex et quam laborum",
+        "quo vero reiciendis velit similique earum",
+        "odio adipisci rerum aut animi");
+
+    placeholderAsserts().commentStreamAsserts(placeholderApi().comment().streamAll())
+        .isResponseValid()
+        .isCommentListSizeGreaterThan(300)
+        .verifyCommentNamesInList(commentNames)
+        .verify();
+  }
+
+  /**
+   * Test for verifying that a streamed list of comments is parsed while it arrives: when the first
+   * comment is parsed, only a part of the response body has been read from the connection. The
+   * java.net.http transport reads whole bodies, so the test is skipped for it.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP, TestGroups.SERIAL})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify Comments list is streamed without buffering the body")
+  public void testStreamAllCommentsIsNotBuffered() {
+    if (placeholderApi().getHttpTransport() == HttpTransport.JAVA_HTTP) {
+      throw new SkipException("The java.net.http transport buffers the whole response body");
+    }
+    ContentDecoder contentDecoder = placeholderApi().getContentDecoder();
+    CompressionMetrics before = contentDecoder.getMetrics();
+    CompressionMetrics firstComment;
+    try (Stream<CommentDto> comments = placeholderApi().comment().streamAll()) {
+      Iterator<CommentDto> iterator = comments.iterator();
+      iterator.next();
+      firstComment = contentDecoder.getMetrics().since(before);
+      iterator.forEachRemaining(comment -> { });
+    }
+
+    placeholderAsserts().compressionAsserts(firstComment)
+        .isReadBefore(contentDecoder.getMetrics().since(before));
+  }
 }
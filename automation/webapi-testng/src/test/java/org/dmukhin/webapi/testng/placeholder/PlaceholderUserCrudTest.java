@@ -1,16 +1,35 @@
 package org.dmukhin.webapi.testng.placeholder;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.dmukhin.general.config.environment.EnvironmentProvider.provideEnvironment;
 import static org.dmukhin.microservices.placeholder.PlaceholderApi.placeholderApi;
 import static org.dmukhin.webapi.testng.verifications.placeholder.PlaceholderAsserts.placeholderAsserts;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
 import io.qameta.allure.TmsLink;
+import io.restassured.response.Response;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.dmukhin.general.config.environment.models.EnvironmentConfigDto;
+import org.dmukhin.general.config.environment.models.HedgingSettingsDto;
+import org.dmukhin.general.config.environment.models.ResponseCacheSettingsDto;
+import org.dmukhin.microservices.general.allure.AsyncAttachmentWriter;
+import org.dmukhin.microservices.general.async.AsyncRequestExecutor;
+import org.dmukhin.microservices.general.async.BatchLookupResult;
+import org.dmukhin.microservices.general.enums.HttpStatus;
+import org.dmukhin.microservices.general.load.LoadGenerator;
+import org.dmukhin.microservices.general.load.LoadReport;
+import org.dmukhin.microservices.general.resilience.ResilienceMetrics;
+import org.dmukhin.microservices.general.resilience.ResiliencePolicy;
+import org.dmukhin.microservices.placeholder.PlaceholderApi;
 import org.dmukhin.microservices.placeholder.models.user.UserDto;
+import org.dmukhin.microservices.placeholder.stub.PlaceholderStubServer;
 import org.dmukhin.webapi.testng.testcases.general.placeholder.BasePlaceholderTest;
 import org.dmukhin.webapi.testng.testcases.groups.TestGroups;
+import org.dmukhin.webapi.testng.testcases.load.PlaceholderWorkload;
 import org.dmukhin.webapi.testng.testcases.testdata.placeholder.PlaceholderTestData;
 import org.testng.annotations.Test;
 
@@ -22,6 +41,11 @@ import org.testng.annotations.Test;
 @Feature("User Endpoint")
 public class PlaceholderUserCrudTest extends BasePlaceholderTest {
 
+  private static final String PLACEHOLDER_SETTINGS = "placeholderService";
+  private static final long SLOW_STUB_LATENCY_MILLIS = 300;
+  private static final int LATENCY_BUDGET_REQUESTS = 20;
+  private static final long NESTED_REQUEST_TIMEOUT_SECONDS = 30;
+
   /**
    * Test for verifying the ability to create a new user. This test creates a user using the
    * JSONPlaceholder API and verifies that the created user matches the data sent in the request.
@@ -38,6 +62,27 @@ public class PlaceholderUserCrudTest extends BasePlaceholderTest {
         .isResponseEqualTo(userDto, "id");
   }
 
+  /**
+   * Test for verifying the ability to create several users concurrently. This test creates users
+   * through the asynchronous API and verifies that every created user matches the data sent in the
+   * corresponding request.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("POST: Verify ability to create users asynchronously")
+  public void testCreatingNewUsersAsync() {
+    List<UserDto> userDtos = Stream.generate(() -> PlaceholderTestData.userTestData().randomUser())
+        .limit(5)
+        .toList();
+    List<UserDto> createdUsers = placeholderApi().user().createAllAsync(userDtos).join();
+
+    for (int i = 0; i < userDtos.size(); i++) {
+      placeholderAsserts().userAsserts(createdUsers.get(i))
+          .isResponseValid()
+          .isResponseEqualTo(userDtos.get(i), "id");
+    }
+  }
+
   /**
    * Test for verifying the ability to update an existing user. This test updates a user and
    * verifies that the updated user matches the new data.
@@ -73,6 +118,92 @@ public class PlaceholderUserCrudTest extends BasePlaceholderTest {
         .isResponseFieldsEqualTo(expectedUser, "name", "username");
   }
 
+  /**
+   * Test for verifying that slow retrievals of a user are hedged and stay correct. The test runs
+   * against a stub of its own with the response cache disabled and hedging at the median latency:
+   * fast requests fill the latency window, then the stub slows down beyond the hedging delay, so
+   * every further GET is sent a second time. Whichever request answers first, it is the requested
+   * user.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify hedged retrieval of user by Id")
+  public void testRetrieveUserByIdRepeatedly() {
+    int samples = 20;
+    int repetitions = 5;
+    UserDto expectedUser = new UserDto()
+        .setName("Leanne Graham")
+        .setUsername("Bret");
+
+    try (PlaceholderStubServer stub = new PlaceholderStubServer().start();
+        PlaceholderApi api = placeholderApi(hedgingSettings(stub, samples))) {
+      for (int i = 0; i < samples; i++) {
+        api.user().getById(String.valueOf(i % 10 + 1));
+      }
+      stub.setLatencyMillis(SLOW_STUB_LATENCY_MILLIS);
+      ResiliencePolicy resiliencePolicy = api.getResiliencePolicy();
+      ResilienceMetrics before = resiliencePolicy.getMetrics();
+
+      for (int i = 0; i < repetitions; i++) {
+        placeholderAsserts().userAsserts(api.user().getById("1"))
+            .isResponseValid()
+            .isResponseFieldsEqualTo(expectedUser, "name", "username");
+      }
+      placeholderAsserts().resilienceAsserts(resiliencePolicy.getMetrics().since(before))
+          .hasExecutedAtLeast(repetitions)
+          .isHedging();
+    }
+  }
+
+  /**
+   * Creates settings of the placeholder service pointing at a stub, without response cache and
+   * with GET requests hedged once they take longer than the median of the recorded latencies, but
+   * at least 50 ms.
+   *
+   * @param stub       The stub to send the requests to.
+   * @param minSamples The number of latencies recorded before requests are hedged.
+   * @return The settings of the service.
+   */
+  private static EnvironmentConfigDto hedgingSettings(PlaceholderStubServer stub, int minSamples) {
+    return provideEnvironment().copySettings(PLACEHOLDER_SETTINGS)
+        .setApiUrl(stub.getBaseUrl())
+        .setApiPort(stub.getPort())
+        .setResponseCache(new ResponseCacheSettingsDto().setEnabled(false))
+        .setHedging(new HedgingSettingsDto()
+            .setEnabled(true)
+            .setPercentile(50.0)
+            .setMinDelayMillis(50L)
+            .setMinSamples(minSamples)
+            .setWindowSize(100));
+  }
+
+  /**
+   * Test for verifying that users are retrieved within the latency budget of the endpoint. The
+   * requests bypass the response cache, so every response is measured: each one within the
+   * single-request budget, the p95 of the requests of the test within the p95 budget and not slower
+   * than the stored baseline.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP, TestGroups.SERIAL})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify retrieval of user by Id within latency budget")
+  public void testRetrieveUserByIdWithinLatencyBudget() {
+    Response response = null;
+    for (int i = 0; i < LATENCY_BUDGET_REQUESTS; i++) {
+      response = placeholderApi().user()
+          .getByIdUncached(String.valueOf(i % 10 + 1), HttpStatus.OK)
+          .extract().response();
+
+      placeholderAsserts().userAsserts(response.as(UserDto.class))
+          .isResponseValid();
+      placeholderAsserts().latencyBudgetAsserts(response)
+          .isRespondedWithinBudget();
+    }
+
+    placeholderAsserts().latencyBudgetAsserts(response)
+        .isP95WithinBudget()
+        .isNotSlowerThanBaseline();
+  }
+
   /**
    * Test for verifying the ability to retrieve a list of all users. This test fetches all users and
    * performs assertions on the size of the list and certain user names.
@@ -90,4 +221,97 @@ public class PlaceholderUserCrudTest extends BasePlaceholderTest {
         .isUserListHasSize(10)
         .verifyUserNamesInList(usernames);
   }
+
+  /**
+   * Test for verifying the ability to retrieve several users by their IDs in one lookup. The
+   * retrieved users keep the requested order.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify ability to retrieve users by Ids")
+  public void testRetrieveUsersByIds() {
+    List<String> userIds = List.of("9", "3", "10", "1");
+
+    placeholderAsserts().userBatchAsserts(placeholderApi().user().getByIds(userIds))
+        .isResponseValid()
+        .isInRequestedOrder()
+        .hasFailuresFor(List.of());
+  }
+
+  /**
+   * Test for verifying that asynchronous requests submitted by a running asynchronous request
+   * complete: users are looked up by IDs, which submits the batch requests, from within an
+   * asynchronous request. The group is run with a single request in flight, which the outer request
+   * holds while the batch requests are sent.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP, TestGroups.SINGLE_IN_FLIGHT})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify retrieval of users by Ids from an asynchronous request")
+  public void testRetrieveUsersByIdsFromAsyncRequest() {
+    List<String> userIds = List.of("9", "3", "10", "1");
+    BatchLookupResult<String, UserDto> lookupResult = AsyncRequestExecutor
+        .submit(() -> placeholderApi().user().getByIds(userIds))
+        .orTimeout(NESTED_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+        .join();
+
+    placeholderAsserts().userBatchAsserts(lookupResult)
+        .isResponseValid()
+        .isInRequestedOrder()
+        .hasFailuresFor(List.of());
+  }
+
+  /**
+   * Test for verifying that the users list retrieved frozen cannot be modified, so it can be shared
+   * between concurrent callers. The nested address of a retrieved user is frozen together with the
+   * user.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify retrieved users list is read-only")
+  public void testRetrievedUsersAreFrozen() {
+    List<UserDto> users = placeholderApi().user().getAllFrozen();
+
+    placeholderAsserts().userListAsserts(users)
+        .isResponseValid()
+        .isFrozen();
+    assertThatThrownBy(() -> users.get(0).getAddress().setCity("city_" + faker.address().city()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("is frozen");
+  }
+
+  /**
+   * Test for verifying the ability to stream the list of all users. The response is verified in a
+   * single pass while it is being deserialized.
+   */
+  @Test(groups = {TestGroups.REG, TestGroups.API, TestGroups.COMP})
+  @TmsLink("TMS-123")
+  @Story("GET: Verify ability to stream users list")
+  public void testStreamAllUsers() {
+    List<String> usernames = Arrays.asList("Clementina DuBuque", "Glenna Reichert",
+        "Nicholas Runolfsdottir V");
+
+    placeholderAsserts().userStreamAsserts(placeholderApi().user().streamAll())
+        .isResponseValid()
+        .isUserListHasSize(10)
+        .verifyUserNamesInList(usernames)
+        .verify();
+  }
+
+  /**
+   * Load test running the weighted user operations under the profile of the 'api.load.*'
+   * properties. The report with throughput and latency percentiles is attached to the test; the
+   * test fails if an operation failed or the service could not keep up with the arrivals.
+   */
+  @Test(groups = {TestGroups.LOAD})
+  @TmsLink("TMS-123")
+  @Story("LOAD: Verify user operations under load")
+  public void testUserOperationsUnderLoad() {
+    LoadReport report = LoadGenerator.run(PlaceholderWorkload.profile(),
+        PlaceholderWorkload.weightedOperations());
+    AsyncAttachmentWriter.addAttachment("Load report", "text/plain", ".txt", report.toTable());
+
+    placeholderAsserts().loadReportAsserts(report)
+        .hasNoErrors()
+        .hasNoDroppedArrivals();
+  }
 }